@@ -0,0 +1,107 @@
+package com.unt.academic_system.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the committed baseline.
+ *
+ * Usage: BaselineComparison baseline.json current.json [thresholdPercent]
+ *
+ * Prints one line per benchmark (and parameter set) with the change relative to
+ * the baseline, oriented so that a positive change is always an improvement
+ * (higher throughput, lower time per operation). Exits with status 1 when any
+ * benchmark regressed by more than the threshold (default 10%).
+ */
+public final class BaselineComparison {
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", now.format(), "new");
+                continue;
+            }
+            double change = now.improvementOver(before);
+            boolean regressed = change < -threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), before.format(), now.format(),
+                    change, regressed ? "  REGRESSION" : "");
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s %14s %14s %9s%n", name, baseline.get(name).format(), "-", "not run");
+            }
+        }
+
+        System.out.printf("%n%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(run.path("benchmark").asText()
+                    .replace("com.unt.academic_system.benchmarks.", ""));
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            JsonNode metric = run.path("primaryMetric");
+            String mode = run.path("mode").asText();
+            results.put(name.toString(), new Result(mode,
+                    metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+            // Sampled latencies are compared on their tail as well as their mean
+            JsonNode p99 = metric.path("scorePercentiles").path("99.0");
+            if ("sample".equals(mode) && p99.isNumber()) {
+                results.put(name + " p99", new Result(mode, p99.asDouble(), metric.path("scoreUnit").asText()));
+            }
+        }
+        return results;
+    }
+
+    private record Result(String mode, double score, String unit) {
+
+        /**
+         * Percent improvement: throughput modes are better when higher, time modes when lower
+         */
+        double improvementOver(Result baseline) {
+            double ratio = "thrpt".equals(mode) ? score / baseline.score : baseline.score / score;
+            return (ratio - 1) * 100;
+        }
+
+        String format() {
+            return String.format("%.2f %s", score, unit);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.UntAcademicSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the full application against an in-memory H2 database, so service
+ * benchmarks run through the same Spring proxies, transactions and caches as
+ * production. Each call gets its own database and upload directory.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Logging switched down to WARN and SQL echo off, for benchmarks that measure
+     * the code rather than the cost of its log output
+     */
+    public static final Map<String, Object> QUIET_LOGGING = Map.ofEntries(
+            Map.entry("logging.level.root", "WARN"),
+            Map.entry("logging.level.com.unt.academic_system", "WARN"),
+            Map.entry("logging.level.org.hibernate.SQL", "WARN"),
+            Map.entry("logging.level.org.hibernate.orm.jdbc.bind", "WARN"),
+            Map.entry("logging.level.org.springframework.web", "WARN"),
+            Map.entry("logging.level.org.springframework.mail", "WARN"),
+            Map.entry("logging.level.org.springframework.transaction", "WARN"),
+            Map.entry("logging.level.org.springframework.orm.jpa", "WARN"),
+            Map.entry("logging.level.org.hibernate.engine.transaction.internal", "WARN"),
+            Map.entry("spring.jpa.show-sql", "false"));
+
+    public static ConfigurableApplicationContext start() {
+        return start(Map.of());
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>(QUIET_LOGGING);
+        properties.putAll(overrides);
+        return boot(properties);
+    }
+
+    /**
+     * Application with the logging configuration of the given profiles left untouched
+     */
+    public static ConfigurableApplicationContext startWithProfiles(String... profiles) {
+        return boot(Map.of(), profiles);
+    }
+
+    private static ConfigurableApplicationContext boot(Map<String, Object> overrides, String... profiles) {
+        Path workDir;
+        try {
+            workDir = Files.createTempDirectory("academic-bench-");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create benchmark work directory", e);
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE,MONTH,DAY"
+                // the pool passes the MySQL driver settings from application.properties
+                + ";IGNORE_UNKNOWN_SETTINGS=TRUE");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        // create-drop first drops constraints of tables that do not exist yet; not worth a stack trace each
+        properties.put("logging.level.org.hibernate.tool.schema", "ERROR");
+        properties.put("server.port", "0");
+        properties.put("spring.devtools.restart.enabled", "false");
+        properties.put("app.upload.dir", workDir.resolve("uploads").toString());
+        properties.put("app.storage.local.root", workDir.resolve("store").toString());
+        properties.put("app.password-migration.enabled", "false");
+        // Mail is queued as in production but never leaves the machine
+        properties.put("spring.mail.host", "localhost");
+        properties.put("spring.mail.port", "1");
+        properties.put("app.otp.max-requests-per-window", String.valueOf(Integer.MAX_VALUE));
+        properties.put("app.mail.per-recipient-limit", String.valueOf(Integer.MAX_VALUE));
+        properties.putAll(overrides);
+
+        // Passed as command line arguments so they take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(UntAcademicSystemApplication.class)
+                .profiles(profiles)
+                .run(args);
+    }
+}
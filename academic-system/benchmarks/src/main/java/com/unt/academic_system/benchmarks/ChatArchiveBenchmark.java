@@ -0,0 +1,142 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.model.ChatMessage;
+import com.unt.academic_system.repository.ChatMessageRepository;
+import com.unt.academic_system.service.ChatArchiveService;
+import com.unt.academic_system.service.ChatService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chat history and unread queries against two years of private messages,
+ * with everything in chat_messages (archived = false) and after the archive
+ * job moved the messages older than 180 days out (archived = true).
+ *
+ * The default size runs on H2. The 50M row run needs MySQL, where the
+ * archive tables are also compressed:
+ *
+ *   -Dbench.datasource.url=jdbc:mysql://localhost:3308/bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true
+ *   -Dbench.datasource.username=root -Dbench.datasource.password=...
+ *   -Djmh.args="ChatArchiveBenchmark -p rows=50000000"
+ *
+ * The database is dropped and re-created by each fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatArchiveBenchmark {
+
+    private static final String USER = "bench.user@unt.test";
+    private static final String PEER = "bench.peer@unt.test";
+    private static final int CONVERSATION_MESSAGES = 2000;
+    private static final int OTHER_USERS = 5000;
+    private static final int HISTORY_DAYS = 730;
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"1000000"})
+    private long rows;
+
+    @Param({"false", "true"})
+    private boolean archived;
+
+    private ConfigurableApplicationContext context;
+    private ChatService chatService;
+    private ChatMessageRepository chatMessageRepository;
+    private int archivedPage;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> overrides = new HashMap<>();
+        // Run by hand below; the scheduled run must not start in the middle of a measurement
+        overrides.put("app.chat.archive.enabled", "false");
+        overrides.put("app.chat.archive.batch-size", "5000");
+        overrides.put("app.chat.archive.batch-pause-ms", "0");
+        String url = System.getProperty("bench.datasource.url");
+        if (url != null) {
+            overrides.put("spring.datasource.url", url);
+            overrides.put("spring.datasource.username", System.getProperty("bench.datasource.username", "root"));
+            overrides.put("spring.datasource.password", System.getProperty("bench.datasource.password", ""));
+            overrides.put("spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver");
+        }
+        context = BenchmarkApplication.start(overrides);
+        chatService = context.getBean(ChatService.class);
+        chatMessageRepository = context.getBean(ChatMessageRepository.class);
+
+        seed(context.getBean(JdbcTemplate.class));
+        if (archived) {
+            context.getBean(ChatArchiveService.class).archiveOldMessages();
+        }
+        // A page of the conversation from one year ago, in the archive once it has run
+        archivedPage = CONVERSATION_MESSAGES / 2 / PAGE_SIZE;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Spreads the rows evenly over the last two years; one conversation of
+     * CONVERSATION_MESSAGES is measured, the rest is traffic between other users.
+     * Messages of the last week are unread.
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        String sql = "INSERT INTO chat_messages (version, content, sender_id, recipient_id, type, timestamp, is_read, status) "
+                + "VALUES (0, ?, ?, ?, 'CHAT', ?, ?, ?)";
+        long conversationEvery = Math.max(1, rows / CONVERSATION_MESSAGES);
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long i = 0; i < rows; i++) {
+            // oldest first, as they would have been written
+            long minutesAgo = (rows - i) * HISTORY_DAYS * 24 * 60 / rows;
+            boolean unread = minutesAgo < 7 * 24 * 60;
+            String sender;
+            String recipient;
+            if (i % conversationEvery == 0) {
+                sender = i % 2 == 0 ? PEER : USER;
+                recipient = i % 2 == 0 ? USER : PEER;
+            } else {
+                sender = "user" + (i % OTHER_USERS) + "@unt.test";
+                recipient = "user" + ((i * 7 + 1) % OTHER_USERS) + "@unt.test";
+            }
+            batch.add(new Object[]{"Message " + i, sender, recipient,
+                    Timestamp.valueOf(now.minusMinutes(minutesAgo)), !unread, unread ? "SENT" : "READ"});
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    @Benchmark
+    public List<ChatMessage> recentPage() {
+        return chatService.getChatHistoryPaginated(USER, PEER, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ChatMessage> yearOldPage() {
+        return chatService.getChatHistoryPaginated(USER, PEER, archivedPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long unreadCount() {
+        return chatMessageRepository.countByRecipientIdAndReadFalse(USER);
+    }
+}
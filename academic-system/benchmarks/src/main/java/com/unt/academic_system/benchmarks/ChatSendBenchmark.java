@@ -0,0 +1,55 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.controller.ChatController;
+import com.unt.academic_system.dto.ChatMessageDTO;
+import com.unt.academic_system.model.ChatMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Private chat send path (STOMP handler, save, fan-out to both users) under
+ * each logging profile, so the cost of the log configuration is visible.
+ * "default" is the development setup, "prod" the async structured profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatSendBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private ChatController chatController;
+    private ChatMessageDTO message;
+    private final Principal sender = () -> "student@bench.unt";
+
+    @Setup
+    public void setUp() {
+        context = "default".equals(profile)
+                ? BenchmarkApplication.startWithProfiles()
+                : BenchmarkApplication.startWithProfiles(profile);
+        chatController = context.getBean(ChatController.class);
+
+        message = new ChatMessageDTO();
+        message.setRecipientId("lecturer@bench.unt");
+        message.setContent("Bonjour, is the assignment due on Friday?");
+        message.setType(ChatMessage.MessageType.CHAT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void sendPrivateMessage() {
+        chatController.sendPrivateMessage(message, sender);
+    }
+}
@@ -0,0 +1,90 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.dto.CourseContentDTO;
+import com.unt.academic_system.dto.TimetableDTO;
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.util.DTOMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion of timetable and course content lists (no database)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private List<Timetable> timetables;
+    private List<CourseContent> contents;
+
+    @Setup
+    public void setUp() {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(7L);
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+
+        AcademicYear year = new AcademicYear();
+        year.setId(3L);
+        year.setYearCode("2024-2025");
+
+        timetables = new ArrayList<>(size);
+        contents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Course course = new Course();
+            course.setId((long) i);
+            course.setCourseCode("C" + i);
+            course.setCourseName("Course " + i);
+            course.setLecturer(lecturer);
+
+            Timetable timetable = new Timetable();
+            timetable.setId((long) i);
+            timetable.setCourse(course);
+            timetable.setAcademicYear(year);
+            timetable.setDayOfWeek(DayOfWeek.values()[i % DayOfWeek.values().length]);
+            timetable.setStartTime(LocalTime.of(8 + i % 8, 0));
+            timetable.setEndTime(LocalTime.of(9 + i % 8, 30));
+            timetable.setClassroom("R" + (i % 40));
+            timetable.setBuilding("Main");
+            timetable.setClassType(ClassType.LECTURE);
+            timetables.add(timetable);
+
+            CourseContent content = new CourseContent();
+            content.setId((long) i);
+            content.setTitle("Lecture notes " + i);
+            content.setDescription("Week " + i);
+            content.setContentType(ContentType.values()[i % ContentType.values().length]);
+            content.setFileName("notes" + i + ".pdf");
+            content.setFileSize(250_000L);
+            content.setFilePath("/api/files/" + i);
+            content.setApprovalStatus(ApprovalStatus.APPROVED);
+            content.setUploadedAt(LocalDateTime.of(2024, 10, 1, 9, 0));
+            content.setApprovedAt(LocalDateTime.of(2024, 10, 2, 9, 0));
+            content.setCourse(course);
+            content.setLecturer(lecturer);
+            contents.add(content);
+        }
+    }
+
+    @Benchmark
+    public List<TimetableDTO> timetableList() {
+        return DTOMapper.toTimetableDTOList(timetables);
+    }
+
+    @Benchmark
+    public List<CourseContentDTO> courseContentList() {
+        return DTOMapper.toCourseContentDTOList(contents);
+    }
+}
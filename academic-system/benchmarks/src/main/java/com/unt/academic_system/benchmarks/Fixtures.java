@@ -0,0 +1,141 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.repository.*;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entity builders for seeding the benchmark database with realistic volumes
+ */
+public final class Fixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final StudentRepository studentRepository;
+    private final LecturerRepository lecturerRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final TimetableRepository timetableRepository;
+    private final PaymentRepository paymentRepository;
+
+    public Fixtures(ApplicationContext context) {
+        this.studentRepository = context.getBean(StudentRepository.class);
+        this.lecturerRepository = context.getBean(LecturerRepository.class);
+        this.courseRepository = context.getBean(CourseRepository.class);
+        this.enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        this.academicYearRepository = context.getBean(AcademicYearRepository.class);
+        this.timetableRepository = context.getBean(TimetableRepository.class);
+        this.paymentRepository = context.getBean(PaymentRepository.class);
+    }
+
+    public static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    public Student student(String faculty) {
+        long n = next();
+        Student student = new Student();
+        student.setEmail("student" + n + "@bench.unt");
+        student.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmar");
+        student.setFirstName("Student");
+        student.setLastName("N" + n);
+        student.setRole(UserRole.STUDENT);
+        student.setStudentId("S" + n);
+        student.setDateOfBirth(LocalDate.of(2003, 1, 1));
+        student.setFaculty(faculty);
+        student.setProgram("Computer Science");
+        student.setCurrentYear(2);
+        student.setCurrentSemester(1);
+        student.setAcademicYear("2024-2025");
+        student.setEnrollmentDate(LocalDate.of(2023, 9, 1));
+        return studentRepository.save(student);
+    }
+
+    public Lecturer lecturer() {
+        long n = next();
+        Lecturer lecturer = new Lecturer();
+        lecturer.setEmail("lecturer" + n + "@bench.unt");
+        lecturer.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmar");
+        lecturer.setFirstName("Lecturer");
+        lecturer.setLastName("N" + n);
+        lecturer.setRole(UserRole.LECTURER);
+        lecturer.setEmployeeId("E" + n);
+        lecturer.setDepartment("Computer Science");
+        return lecturerRepository.save(lecturer);
+    }
+
+    public Course course(String faculty, Lecturer lecturer) {
+        long n = next();
+        Course course = new Course();
+        course.setCourseCode("C" + n);
+        course.setCourseName("Course " + n);
+        course.setCredits(3);
+        course.setFaculty(faculty);
+        course.setDepartment("Computer Science");
+        course.setYear("2");
+        course.setSemester(1);
+        course.setPrice(150000.0);
+        course.setLecturer(lecturer);
+        return courseRepository.save(course);
+    }
+
+    public Course save(Course course) {
+        return courseRepository.save(course);
+    }
+
+    public Enrollment enroll(Student student, Course course, EnrollmentStatus status) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setStudent(student);
+        enrollment.setCourse(course);
+        enrollment.setAcademicYear("2024-2025");
+        enrollment.setSemester(1);
+        enrollment.setStatus(status);
+        return enrollmentRepository.save(enrollment);
+    }
+
+    public AcademicYear academicYear() {
+        AcademicYear year = new AcademicYear();
+        year.setYearCode("2024-2025-" + next());
+        year.setSemester(1);
+        year.setStartDate(LocalDate.of(2024, 9, 1));
+        year.setEndDate(LocalDate.of(2025, 1, 31));
+        year.setRegistrationStartDate(LocalDate.of(2024, 8, 1));
+        year.setRegistrationEndDate(LocalDate.of(2024, 9, 15));
+        year.setExamStartDate(LocalDate.of(2025, 1, 10));
+        year.setExamEndDate(LocalDate.of(2025, 1, 25));
+        year.setIsActive(true);
+        year.setIsCurrent(true);
+        return academicYearRepository.save(year);
+    }
+
+    public Timetable timetable(Course course, AcademicYear year, DayOfWeek day, LocalTime start, String classroom) {
+        Timetable timetable = new Timetable();
+        timetable.setCourse(course);
+        timetable.setAcademicYear(year);
+        timetable.setDayOfWeek(day);
+        timetable.setStartTime(start);
+        timetable.setEndTime(start.plusMinutes(90));
+        timetable.setClassroom(classroom);
+        timetable.setBuilding("Main");
+        timetable.setClassType(ClassType.LECTURE);
+        return timetableRepository.save(timetable);
+    }
+
+    public Payment payment(Student student, double amount, PaymentStatus status) {
+        Payment payment = new Payment();
+        payment.setStudent(student);
+        payment.setPaymentType(PaymentType.TUITION);
+        payment.setAmount(amount);
+        payment.setAcademicYear("2024-2025");
+        payment.setSemester(1);
+        payment.setPaymentStatus(status);
+        payment.setPaymentMethod(PaymentMethod.MOBILE_MONEY);
+        payment.setTransactionReference("TX" + next());
+        return paymentRepository.save(payment);
+    }
+}
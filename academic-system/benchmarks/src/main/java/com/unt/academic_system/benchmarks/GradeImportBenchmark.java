@@ -0,0 +1,103 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.dto.GradeImportReport;
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.service.EnrollmentService;
+import com.unt.academic_system.service.GradeImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grading a faculty's term: `students` students with 6 courses each, entered
+ * one enrollment at a time through EnrollmentService.updateGrade (what each
+ * PUT /api/enrollments/{id}/grade runs) against one CSV sheet through
+ * GradeImportService. Both end with every grade written and every standing
+ * recomputed; each operation enters a fresh set of grades.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GradeImportBenchmark {
+
+    private static final int COURSES_PER_STUDENT = 6;
+    private static final int FACULTY_COURSES = 30;
+
+    @Param({"per-row", "import"})
+    private String mode;
+
+    @Param({"500"})
+    private int students;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private GradeImportService gradeImportService;
+    private final List<Long> enrollmentIds = new ArrayList<>();
+    private final Random random = new Random(42);
+
+    private double[][] grades;
+    private byte[] sheet;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        enrollmentService = context.getBean(EnrollmentService.class);
+        gradeImportService = context.getBean(GradeImportService.class);
+
+        Fixtures fixtures = new Fixtures(context);
+        Lecturer lecturer = fixtures.lecturer();
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < FACULTY_COURSES; i++) {
+            courses.add(fixtures.course("Science", lecturer));
+        }
+        for (int s = 0; s < students; s++) {
+            Student student = fixtures.student("Science");
+            for (int c = 0; c < COURSES_PER_STUDENT; c++) {
+                Course course = courses.get((s + c * 5) % FACULTY_COURSES);
+                enrollmentIds.add(fixtures.enroll(student, course, EnrollmentStatus.REGISTERED).getId());
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void newGrades() {
+        grades = new double[enrollmentIds.size()][];
+        StringBuilder csv = new StringBuilder("enrollment_id,midterm,final\n");
+        for (int i = 0; i < enrollmentIds.size(); i++) {
+            grades[i] = new double[]{random.nextInt(101), random.nextInt(101)};
+            csv.append(enrollmentIds.get(i)).append(',')
+                    .append(grades[i][0]).append(',')
+                    .append(grades[i][1]).append('\n');
+        }
+        sheet = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int gradeFaculty() {
+        if ("import".equals(mode)) {
+            GradeImportReport report = gradeImportService.importGrades(new ByteArrayInputStream(sheet), "grades.csv", null, false);
+            if (report.getRejected() > 0) {
+                throw new IllegalStateException(report.getRejected() + " rows rejected");
+            }
+            return report.getAccepted();
+        }
+        for (int i = 0; i < enrollmentIds.size(); i++) {
+            enrollmentService.updateGrade(enrollmentIds.get(i), grades[i][0], grades[i][1]);
+        }
+        return enrollmentIds.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.unt.academic_system.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.unt.academic_system.model.User;
+import com.unt.academic_system.model.UserRole;
+import com.unt.academic_system.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the checks run on every authenticated request (filter and WebSocket interceptor)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // No Spring Boot logging setup here: apply the same WARN level as the application benchmarks
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "jwt.secret", "U2VjcmV0Q2xlVHJlc1NlY3VyZVBvdXJSYWlsR3VhcmRBcHAtQXZlYzI1Nkhhc2g=",
+                "jwt.expiration", "86400000",
+                "jwt.refresh.expiration", "604800000")));
+        context.register(JwtService.class);
+        context.refresh();
+        jwtService = context.getBean(JwtService.class);
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("student42@bench.unt");
+        user.setFirstName("Bench");
+        user.setLastName("Student");
+        user.setRole(UserRole.STUDENT);
+        user.setIsActive(true);
+        token = jwtService.generateToken(user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtService.extractEmail(token);
+    }
+
+    @Benchmark
+    public Boolean isTokenValid() {
+        return jwtService.isTokenValid(token);
+    }
+
+    @Benchmark
+    public Boolean validateTokenAgainstUser() {
+        return jwtService.validateToken(token, user);
+    }
+}
@@ -0,0 +1,73 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.service.OTPService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Login OTP issue and verification under concurrent load (exam-result day).
+ * Issuing goes through the real mail outbox; verification uses wrong codes so
+ * every call pays the full hash comparison without consuming the code.
+ * requestOtpLatency samples the same request call for its latency
+ * percentiles (p50 to p99.99 in the JMH output), since users wait on one
+ * request rather than on the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class OtpBenchmark {
+
+    private static final int USERS = 20_000;
+
+    private ConfigurableApplicationContext context;
+    private OTPService otpService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        // Production settings except the throttles, which would stop a single-host load test
+        // The per-attempt warnings and failed deliveries (no SMTP server) are silenced so the console is not measured
+        context = BenchmarkApplication.start(Map.of(
+                "otp.dev.mode", "false",
+                "app.otp.max-verify-attempts", String.valueOf(Integer.MAX_VALUE),
+                "logging.level.com.unt.academic_system.service", "ERROR"));
+        otpService = context.getBean(OTPService.class);
+        for (int i = 0; i < USERS; i++) {
+            otpService.generateAndSendOTP(email(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean requestOtp() {
+        return otpService.generateAndSendOTP(email(Math.floorMod(sequence.getAndIncrement(), USERS)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean requestOtpLatency() {
+        return requestOtp();
+    }
+
+    @Benchmark
+    public boolean verifyOtp() {
+        return otpService.verifyOTP(email(Math.floorMod(sequence.getAndIncrement(), USERS)), "000000");
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@bench.unt";
+    }
+}
@@ -0,0 +1,183 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.service.JwtService;
+import com.unt.academic_system.service.NotificationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response size and serving time of the largest GET endpoints in each
+ * encoding: plain JSON, gzip-compressed JSON (server.compression), Smile and
+ * CBOR (CompactEncodingConfig). The score is the full request over loopback,
+ * so the differences between encodings of one endpoint are the cost of
+ * serialization and compression; the `bytes` counter is the size of one
+ * response as sent.
+ *
+ * Seeded with 20 lecturers, 200 courses, 300 students with 6 enrollments and
+ * 2 payments each, a timetable slot per course, 30 notifications and 100 chat
+ * messages for the requesting student.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+
+    private static final int LECTURERS = 20;
+    private static final int COURSES = 200;
+    private static final int STUDENTS = 300;
+    private static final int ENROLLMENTS_PER_STUDENT = 6;
+    private static final int PAYMENTS_PER_STUDENT = 2;
+
+    // {student}, {lecturer}, {course}: ids of the requesting student, its first lecturer and course
+    @Param({
+            "/api/courses",
+            "/api/courses/active",
+            "/api/courses/available",
+            "/api/courses/faculty/Science",
+            "/api/courses/{course}",
+            "/api/enrollments",
+            "/api/enrollments/student/{student}",
+            "/api/enrollments/course/{course}",
+            "/api/payments",
+            "/api/payments/student/{student}",
+            "/api/timetable",
+            "/api/timetable/student/{student}",
+            "/api/timetable/lecturer/{lecturer}",
+            "/api/students",
+            "/api/lecturers",
+            "/api/lecturers/{lecturer}/courses",
+            "/api/users",
+            "/api/notifications/user/{student}",
+            "/api/chat/history/{lecturerEmail}",
+            "/api/academic-years"})
+    private String endpoint;
+
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    private String encoding;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    /**
+     * Size of the last response body as sent, compressed or not
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        context = BenchmarkApplication.start();
+        Fixtures fixtures = new Fixtures(context);
+
+        List<Lecturer> lecturers = new ArrayList<>();
+        for (int i = 0; i < LECTURERS; i++) {
+            lecturers.add(fixtures.lecturer());
+        }
+        AcademicYear year = fixtures.academicYear();
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            Course course = fixtures.course(i % 2 == 0 ? "Science" : "Engineering", lecturers.get(i % LECTURERS));
+            course.setDescription("Lectures, tutorials and a final project for course " + i);
+            course.setMaxStudents(60);
+            // prerequisite chains of up to 10 courses
+            if (i % 10 != 0) {
+                course.getPrerequisites().add(courses.get(i - 1));
+            }
+            courses.add(fixtures.save(course));
+            fixtures.timetable(course, year, DayOfWeek.values()[i % 5], LocalTime.of(8 + i % 8, 0), "R" + (i % 40));
+        }
+        Student student = null;
+        for (int i = 0; i < STUDENTS; i++) {
+            Student current = fixtures.student(i % 2 == 0 ? "Science" : "Engineering");
+            for (int e = 0; e < ENROLLMENTS_PER_STUDENT; e++) {
+                fixtures.enroll(current, courses.get((i + e * 31) % COURSES), EnrollmentStatus.REGISTERED);
+            }
+            for (int p = 0; p < PAYMENTS_PER_STUDENT; p++) {
+                fixtures.payment(current, 150000, p == 0 ? PaymentStatus.COMPLETED : PaymentStatus.PENDING);
+            }
+            if (student == null) {
+                student = current;
+            }
+        }
+        Lecturer lecturer = lecturers.get(0);
+
+        NotificationService notificationService = context.getBean(NotificationService.class);
+        for (int i = 0; i < 30; i++) {
+            notificationService.sendNotificationToUser(student.getId(), "Reminder " + i,
+                    "Tuition for semester 1 is due in " + (30 - i) + " days", NotificationType.PAYMENT_REMINDER);
+        }
+        seedChat(context.getBean(JdbcTemplate.class), student.getEmail(), lecturer.getEmail());
+
+        String token = context.getBean(JwtService.class).generateToken(student);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String path = endpoint
+                .replace("{student}", String.valueOf(student.getId()))
+                .replace("{lecturerEmail}", lecturer.getEmail())
+                .replace("{lecturer}", String.valueOf(lecturer.getId()))
+                .replace("{course}", String.valueOf(courses.get(0).getId()));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+        switch (encoding) {
+            case "json" -> builder.header("Accept", "application/json");
+            case "json-gzip" -> builder.header("Accept", "application/json").header("Accept-Encoding", "gzip");
+            case "smile" -> builder.header("Accept", "application/x-jackson-smile");
+            case "cbor" -> builder.header("Accept", "application/cbor");
+            default -> throw new IllegalArgumentException("Unknown encoding " + encoding);
+        }
+        request = builder.build();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<byte[]> first = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (first.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + first.statusCode() + ": " + new String(first.body()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int get(Payload payload) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        payload.bytes = response.body().length;
+        return response.statusCode();
+    }
+
+    private static void seedChat(JdbcTemplate jdbcTemplate, String student, String lecturer) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            boolean fromStudent = i % 2 == 0;
+            rows.add(new Object[]{"Question about assignment " + i + ": is the deadline still Friday?",
+                    fromStudent ? student : lecturer, fromStudent ? lecturer : student,
+                    Timestamp.valueOf(now.minusMinutes(100 - i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_messages (version, content, sender_id, recipient_id, type, timestamp, "
+                + "is_read, status) VALUES (0, ?, ?, ?, 'CHAT', ?, TRUE, 'READ')", rows);
+    }
+}
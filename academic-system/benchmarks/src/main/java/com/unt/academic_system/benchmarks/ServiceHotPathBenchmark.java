@@ -0,0 +1,145 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.config.CacheConfig;
+import com.unt.academic_system.dto.CourseDTO;
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.service.ChatService;
+import com.unt.academic_system.service.CourseService;
+import com.unt.academic_system.service.PaymentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.Resource;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls behind the busiest pages, measured through the Spring proxies
+ * against an embedded database seeded with one faculty's worth of data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceHotPathBenchmark {
+
+    private static final int CATALOG_COURSES = 120;
+    private static final int PREREQUISITES = 5;
+    private static final int SEMESTER_COURSES = 6;
+
+    private ConfigurableApplicationContext context;
+    private CourseService courseService;
+    private PaymentService paymentService;
+    private ChatService chatService;
+    private CacheManager cacheManager;
+
+    private Long studentId;
+    private Long advancedCourseId;
+    private String thumbnailSource;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start();
+        courseService = context.getBean(CourseService.class);
+        paymentService = context.getBean(PaymentService.class);
+        chatService = context.getBean(ChatService.class);
+        cacheManager = context.getBean(CacheManager.class);
+
+        Fixtures fixtures = new Fixtures(context);
+        Lecturer lecturer = fixtures.lecturer();
+        Student student = fixtures.student("Science");
+        studentId = student.getId();
+
+        Course[] catalog = new Course[CATALOG_COURSES];
+        for (int i = 0; i < CATALOG_COURSES; i++) {
+            catalog[i] = fixtures.course(i % 2 == 0 ? "Science" : "Arts", lecturer);
+            for (int j = 0; j < 10; j++) {
+                fixtures.enroll(fixtures.student("Science"), catalog[i], EnrollmentStatus.REGISTERED);
+            }
+        }
+
+        // A course whose prerequisites the student has all completed: the check has to visit every one
+        Course advanced = fixtures.course("Science", lecturer);
+        for (int i = 0; i < PREREQUISITES; i++) {
+            advanced.getPrerequisites().add(catalog[i]);
+            fixtures.enroll(student, catalog[i], EnrollmentStatus.COMPLETED);
+        }
+        advancedCourseId = fixtures.save(advanced).getId();
+
+        for (int i = PREREQUISITES; i < PREREQUISITES + SEMESTER_COURSES; i++) {
+            fixtures.enroll(student, catalog[i], EnrollmentStatus.REGISTERED);
+        }
+        fixtures.payment(student, 300000, PaymentStatus.APPROVED);
+        fixtures.payment(student, 200000, PaymentStatus.APPROVED);
+        fixtures.payment(student, 100000, PaymentStatus.PENDING);
+
+        thumbnailSource = "/uploads/chat/benchmark.jpg";
+        Path image = Path.of(context.getEnvironment().getRequiredProperty("app.upload.dir"), "chat", "benchmark.jpg");
+        Files.createDirectories(image.getParent());
+        ImageIO.write(photo(1600, 1200), "jpg", image.toFile());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CourseDTO> catalogCached() {
+        return courseService.getAllCourses();
+    }
+
+    @Benchmark
+    public List<CourseDTO> catalogUncached() {
+        cacheManager.getCache(CacheConfig.COURSE_CATALOG).clear();
+        return courseService.getAllCourses();
+    }
+
+    @Benchmark
+    public boolean checkPrerequisites() {
+        return courseService.checkPrerequisites(studentId, advancedCourseId);
+    }
+
+    @Benchmark
+    public PaymentService.PaymentSummary paymentSummary() {
+        return paymentService.getPaymentSummary(studentId, "2024-2025", 1);
+    }
+
+    @Benchmark
+    public ChatMessage chatSaveMessage() {
+        ChatMessage message = new ChatMessage();
+        message.setSenderId("student@bench.unt");
+        message.setRecipientId("lecturer@bench.unt");
+        message.setContent("Bonjour, is the assignment due on Friday?");
+        message.setTimestamp(LocalDateTime.now());
+        return chatService.saveMessage(message);
+    }
+
+    @Benchmark
+    public Resource thumbnail() throws IOException {
+        return chatService.generateThumbnail(thumbnailSource);
+    }
+
+    private static BufferedImage photo(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < 200; i++) {
+            g.drawOval((i * 37) % width, (i * 53) % height, 40 + i % 60, 40 + i % 60);
+        }
+        g.dispose();
+        return image;
+    }
+}
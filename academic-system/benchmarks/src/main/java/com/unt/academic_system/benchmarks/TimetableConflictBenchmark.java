@@ -0,0 +1,77 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.service.TimetableService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conflict check run on every timetable create/update, at timetable sizes from
+ * one department to a whole campus. The candidate slot conflicts with nothing,
+ * which is the common case and the one that has to look at every same-day entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimetableConflictBenchmark {
+
+    private static final int ENTRIES_PER_COURSE = 3;
+    private static final int COURSES_PER_LECTURER = 4;
+
+    @Param({"150", "1500", "6000"})
+    private int entries;
+
+    private ConfigurableApplicationContext context;
+    private TimetableService timetableService;
+    private Timetable candidate;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        timetableService = context.getBean(TimetableService.class);
+
+        Fixtures fixtures = new Fixtures(context);
+        AcademicYear year = fixtures.academicYear();
+        DayOfWeek[] days = DayOfWeek.values();
+
+        Lecturer lecturer = null;
+        Course course = null;
+        for (int i = 0; i < entries; i++) {
+            if (i % (ENTRIES_PER_COURSE * COURSES_PER_LECTURER) == 0) {
+                lecturer = fixtures.lecturer();
+            }
+            if (i % ENTRIES_PER_COURSE == 0) {
+                course = fixtures.course("Science", lecturer);
+            }
+            // Spread over six days, 08:00-18:00, one room per entry slot
+            fixtures.timetable(course, year, days[i % days.length],
+                    LocalTime.of(8 + (i / days.length) % 6 * 2, 0), "R" + i);
+        }
+
+        Course candidateCourse = fixtures.course("Science", fixtures.lecturer());
+        candidate = new Timetable();
+        candidate.setCourse(candidateCourse);
+        candidate.setAcademicYear(year);
+        candidate.setDayOfWeek(DayOfWeek.MONDAY);
+        candidate.setStartTime(LocalTime.of(10, 0));
+        candidate.setEndTime(LocalTime.of(11, 30));
+        candidate.setClassroom("Amphi-Free");
+        candidate.setClassType(ClassType.LECTURE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean checkTimeConflict() {
+        return timetableService.checkTimeConflict(candidate);
+    }
+}
@@ -0,0 +1,93 @@
+package com.unt.academic_system.benchmarks;
+
+import com.unt.academic_system.model.Student;
+import com.unt.academic_system.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking request handling on Tomcat's platform thread pool against the
+ * virtual thread mode (spring.threads.virtual.enabled). Each operation opens
+ * `connections` concurrent requests to GET /api/push/unread, which runs three
+ * JDBC count queries, and waits for all of them; the score is the time until
+ * the last response.
+ *
+ * The virtual mode needs a Java 21+ runtime for the forked JVM. The client
+ * keeps one connection per concurrent request, so the open file limit must be
+ * above 2 x connections (ulimit -n).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"5000"})
+    private int connections;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21+, running on " + Runtime.version());
+        }
+        context = BenchmarkApplication.start(Map.of("spring.threads.virtual.enabled", String.valueOf(virtual)));
+
+        Student student = new Fixtures(context).student("Science");
+        String token = context.getBean(JwtService.class).generateToken(student);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/push/unread"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != connections) {
+            throw new IllegalStateException((connections - ok) + " of " + connections + " requests failed");
+        }
+        return ok;
+    }
+}
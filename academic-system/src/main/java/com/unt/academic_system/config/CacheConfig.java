@@ -0,0 +1,65 @@
+package com.unt.academic_system.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Application-level caches (Spring cache abstraction).
+ *
+ * Cache names are declared here so that the services that fill a cache and
+ * the services that invalidate it refer to the same constant.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Course catalog read model: List<CourseDTO> per filter (all, faculty,
+     * department, year/semester, active, available).
+     * Evicted on any course, lecturer assignment or enrollment change.
+     */
+    public static final String COURSE_CATALOG = "courseCatalog";
+
+    /**
+     * Parent dashboard: ParentResponseDTO per parent id.
+     * Evicted by ParentDashboardChangeListener on any enrollment (grades),
+     * payment, student or parent change. Writes on another node are only
+     * seen once the entry expires, hence the short TTL.
+     */
+    public static final String PARENT_DASHBOARD = "parentDashboard";
+
+    @Value("${app.parent-dashboard.cache-max-entries:5000}")
+    private long parentDashboardMaxEntries;
+
+    @Value("${app.parent-dashboard.cache-ttl-minutes:5}")
+    private long parentDashboardTtlMinutes;
+
+    /**
+     * Evictions issued inside a transaction are deferred until commit, so a
+     * concurrent reader cannot re-populate the cache with pre-commit data.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager caches = new SimpleCacheManager();
+        caches.setCaches(List.of(
+                new ConcurrentMapCache(COURSE_CATALOG),
+                new CaffeineCache(PARENT_DASHBOARD, Caffeine.newBuilder()
+                        .maximumSize(parentDashboardMaxEntries)
+                        .expireAfterWrite(Duration.ofMinutes(parentDashboardTtlMinutes))
+                        .recordStats()
+                        .build())));
+        caches.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(caches);
+    }
+}
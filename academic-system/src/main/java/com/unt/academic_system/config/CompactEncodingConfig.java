@@ -0,0 +1,37 @@
+package com.unt.academic_system.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the API responses, for clients that ask for them:
+ * - Accept: application/x-jackson-smile (Smile, for JVM clients)
+ * - Accept: application/cbor (CBOR, decodable in the browser)
+ * Both skip the quoting and escaping of JSON and write numbers and dates in
+ * binary; Smile also back-references repeated field names and short values,
+ * which is most of the size of lists like the course catalog.
+ *
+ * Spring MVC registers both converters by itself once the formats are on the
+ * classpath, but with a plain ObjectMapper. These beans replace them with
+ * mappers from Spring Boot's builder, so the spring.jackson.* settings and
+ * modules apply and the content matches the JSON responses. JSON stays
+ * first, so Accept: *&#47;* and browsers keep getting JSON.
+ */
+@Configuration
+public class CompactEncodingConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
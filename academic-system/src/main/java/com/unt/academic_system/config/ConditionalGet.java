@@ -0,0 +1,35 @@
+package com.unt.academic_system.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose response only changes when one of the listed
+ * entities changes. ConditionalGetInterceptor answers it with an ETag derived
+ * from the row count and latest updatedAt of those entities, and with
+ * 304 Not Modified, before the controller runs, when the client already has
+ * that version.
+ *
+ * List every entity the response is built from, including the ones that only
+ * contribute a name or a count; a change to an unlisted entity is not seen.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * Entities the response is built from. Each must have an updatedAt
+     * attribute maintained on every update (@UpdateTimestamp).
+     */
+    Class<?>[] value();
+
+    /**
+     * How long the client may reuse the response without revalidating.
+     * 0 (default) revalidates on every use (Cache-Control: no-cache).
+     */
+    long maxAgeSeconds() default 0;
+}
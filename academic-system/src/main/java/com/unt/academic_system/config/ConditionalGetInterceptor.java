@@ -0,0 +1,73 @@
+package com.unt.academic_system.config;
+
+import com.unt.academic_system.service.ResourceVersionService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP revalidation for @ConditionalGet endpoints.
+ *
+ * The ETag is a hash of the request URI, the query string, the Accept header
+ * (JSON, Smile and CBOR responses share a URL) and the version of the listed
+ * entities (ResourceVersionService), so it can be checked against
+ * If-None-Match before the controller runs: a match is answered with 304 and
+ * no further query. The response is always marked private, since some of
+ * these lists are only meant for signed-in users.
+ *
+ * The salt changes the ETags whenever the response format may have changed:
+ * by default it is new on every start, which costs one full response per
+ * client after a restart. With several nodes behind a load balancer, set
+ * app.http-cache.etag-salt to the release version so that they agree.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersionService resourceVersionService;
+    private final String salt;
+
+    public ConditionalGetInterceptor(ResourceVersionService resourceVersionService,
+                                     @Value("${app.http-cache.etag-salt:}") String salt) {
+        this.resourceVersionService = resourceVersionService;
+        this.salt = salt.isBlank() ? UUID.randomUUID().toString() : salt;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || request.getDispatcherType() != DispatcherType.REQUEST
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        String version = resourceVersionService.version(conditionalGet.value());
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex((salt + '\n' + request.getRequestURI() + '?'
+                + request.getQueryString() + '\n' + request.getHeader(HttpHeaders.ACCEPT) + '\n' + version)
+                .getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        CacheControl cacheControl = conditionalGet.maxAgeSeconds() > 0
+                ? CacheControl.maxAge(conditionalGet.maxAgeSeconds(), TimeUnit.SECONDS)
+                : CacheControl.noCache();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.cachePrivate().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        // Sets the ETag header, and the 304 status on a match
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
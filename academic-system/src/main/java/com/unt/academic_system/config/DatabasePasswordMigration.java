@@ -1,82 +1,162 @@
 package com.unt.academic_system.config;
 
-import com.unt.academic_system.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * ONE-TIME MIGRATION: Re-encodes all plain text passwords in the database to BCrypt
+ * Background migration: re-encodes plain text passwords in the users table to BCrypt.
  *
- * IMPORTANT: After running this ONCE, comment out or delete the @Bean annotation
- * to prevent it from running on every application startup.
+ * Started once the application is ready, so it never delays startup. Users are
+ * scanned in keyset chunks by id; the plain text ones in a chunk are hashed in
+ * parallel on a bounded pool and written back with one batched UPDATE. After
+ * each chunk the last scanned id is checkpointed in password_migration_checkpoint,
+ * so a restart resumes where the previous run stopped and later startups only
+ * look at users created since.
  */
 @Slf4j
-@Configuration
+@Component
 @RequiredArgsConstructor
 public class DatabasePasswordMigration {
 
+    private static final String JOB_NAME = "bcrypt-passwords";
+
     private final JdbcTemplate jdbcTemplate;
     private final PasswordEncoder passwordEncoder;
 
-    @Bean // COMMENT THIS OUT AFTER RUNNING ONCE!
-    public CommandLineRunner migratePasswords() {
-        return args -> {
-            log.warn("=================================================");
-            log.warn("STARTING PASSWORD MIGRATION - ONE TIME OPERATION");
-            log.warn("=================================================");
+    @Value("${app.password-migration.enabled:true}")
+    private boolean enabled;
 
-            try {
-                // Use direct JDBC to avoid Hibernate issues
-                String selectQuery = "SELECT id, email, password FROM users";
-                List<Map<String, Object>> users = jdbcTemplate.queryForList(selectQuery);
+    @Value("${app.password-migration.chunk-size:500}")
+    private int chunkSize;
 
-                int migrated = 0;
+    // 0 = one thread less than the number of cores, so request threads keep a core
+    @Value("${app.password-migration.threads:0}")
+    private int threads;
 
-                for (Map<String, Object> user : users) {
-                    Long id = ((Number) user.get("id")).longValue();
-                    String email = (String) user.get("email");
-                    String currentPassword = (String) user.get("password");
+    private ThreadPoolTaskExecutor coordinator;
+    private ThreadPoolTaskExecutor hashPool;
 
-                    // Check if password is already BCrypt encoded
-                    // BCrypt hashes start with "$2a$", "$2b$", or "$2y$" and are 60 characters long
-                    if (currentPassword != null &&
-                            !currentPassword.startsWith("$2") &&
-                            currentPassword.length() < 60) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMigration() {
+        if (!enabled) {
+            return;
+        }
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
 
-                        log.info("Migrating password for user: {}", email);
+        hashPool = new ThreadPoolTaskExecutor();
+        hashPool.setCorePoolSize(poolSize);
+        hashPool.setMaxPoolSize(poolSize);
+        hashPool.setThreadNamePrefix("password-hash-");
+        hashPool.initialize();
 
-                        // The current password is plain text, so encode it
-                        String encodedPassword = passwordEncoder.encode(currentPassword);
+        coordinator = new ThreadPoolTaskExecutor();
+        coordinator.setCorePoolSize(1);
+        coordinator.setMaxPoolSize(1);
+        coordinator.setThreadNamePrefix("password-migration-");
+        coordinator.initialize();
 
-                        // Update directly via JDBC
-                        String updateQuery = "UPDATE users SET password = ? WHERE id = ?";
-                        jdbcTemplate.update(updateQuery, encodedPassword, id);
+        coordinator.execute(this::migratePasswords);
+    }
 
-                        migrated++;
-                        log.info("✅ Password encoded for: {}", email);
-                    } else {
-                        log.info("⏭️  Password already encoded for: {}", email);
+    @PreDestroy
+    void stop() {
+        // Stop between chunks; the checkpoint only ever covers written batches
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+        if (hashPool != null) {
+            hashPool.shutdown();
+        }
+    }
+
+    void migratePasswords() {
+        try {
+            ensureCheckpointTable();
+            long lastId = readCheckpoint();
+            long migrated = 0;
+            long startedAt = System.currentTimeMillis();
+            log.info("🔐 Password migration started after user id {}", lastId);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                // Use direct JDBC to avoid Hibernate issues
+                List<Map<String, Object>> users = jdbcTemplate.queryForList(
+                        "SELECT id, password FROM users WHERE id > ? ORDER BY id LIMIT ?", lastId, chunkSize);
+                if (users.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<Object[]>> pending = new ArrayList<>();
+                for (Map<String, Object> user : users) {
+                    Long id = ((Number) user.get("id")).longValue();
+                    String currentPassword = (String) user.get("password");
+                    if (isPlainText(currentPassword)) {
+                        pending.add(CompletableFuture.supplyAsync(
+                                () -> new Object[]{passwordEncoder.encode(currentPassword), id, currentPassword},
+                                hashPool));
                     }
                 }
 
-                log.warn("=================================================");
-                log.warn("PASSWORD MIGRATION COMPLETE");
-                log.warn("Migrated {} passwords", migrated);
-                log.warn("NOW COMMENT OUT THE @Bean ANNOTATION IN DatabasePasswordMigration.java");
-                log.warn("=================================================");
+                if (!pending.isEmpty()) {
+                    List<Object[]> updates = pending.stream().map(CompletableFuture::join).toList();
+                    // The password guard skips rows changed since they were read
+                    jdbcTemplate.batchUpdate("UPDATE users SET password = ? WHERE id = ? AND password = ?", updates);
+                    migrated += updates.size();
+                }
 
-            } catch (Exception e) {
-                log.error("❌ ERROR DURING PASSWORD MIGRATION", e);
-                throw e;
+                lastId = ((Number) users.get(users.size() - 1).get("id")).longValue();
+                writeCheckpoint(lastId, pending.size());
             }
-        };
+
+            log.info("✅ Password migration finished: {} passwords encoded up to user id {} in {} ms",
+                    migrated, lastId, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("❌ ERROR DURING PASSWORD MIGRATION (will resume from the last checkpoint on next start)", e);
+        } finally {
+            hashPool.shutdown();
+        }
+    }
+
+    /**
+     * BCrypt hashes start with "$2a$", "$2b$", or "$2y$" and are 60 characters long
+     */
+    private static boolean isPlainText(String password) {
+        return password != null && !password.startsWith("$2") && password.length() < 60;
+    }
+
+    private void ensureCheckpointTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS password_migration_checkpoint (" +
+                "job_name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+                "last_id BIGINT NOT NULL, " +
+                "migrated BIGINT NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL)");
+    }
+
+    private long readCheckpoint() {
+        List<Long> lastIds = jdbcTemplate.queryForList(
+                "SELECT last_id FROM password_migration_checkpoint WHERE job_name = ?", Long.class, JOB_NAME);
+        return lastIds.isEmpty() ? 0L : lastIds.get(0);
+    }
+
+    private void writeCheckpoint(long lastId, int migratedInChunk) {
+        int updated = jdbcTemplate.update("UPDATE password_migration_checkpoint " +
+                        "SET last_id = ?, migrated = migrated + ?, updated_at = CURRENT_TIMESTAMP WHERE job_name = ?",
+                lastId, migratedInChunk, JOB_NAME);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO password_migration_checkpoint (job_name, last_id, migrated, updated_at) " +
+                    "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", JOB_NAME, lastId, migratedInChunk);
+        }
     }
-}
\ No newline at end of file
+}
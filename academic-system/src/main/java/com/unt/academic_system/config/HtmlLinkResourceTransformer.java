@@ -0,0 +1,55 @@
+package com.unt.academic_system.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the script, stylesheet and image links of the static HTML pages
+ * to their fingerprinted URLs (e.g. ../js/courses.js becomes
+ * ../js/courses-&lt;md5&gt;.js), the HTML counterpart of Spring's
+ * CssLinkResourceTransformer. Relative links stay relative; links to other
+ * hosts, data: URLs and links that do not resolve to a static file are
+ * left as they are.
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK = Pattern.compile(
+            "(<(?:script|link|img)\\b[^>]*?\\s(?:src|href)=\")([^\"#?:]+)(\")",
+            Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain chain)
+            throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String html = resource.getContentAsString(StandardCharsets.UTF_8);
+        Matcher matcher = LINK.matcher(html);
+        StringBuilder rewritten = new StringBuilder(html.length());
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String versioned = link.isEmpty() || link.startsWith("//") ? null
+                    : resolveUrlPath(toAbsolutePath(link, request), request, resource, chain);
+            if (versioned != null && !link.startsWith("/")) {
+                // Only the file name changes, so keep the link relative to the page
+                versioned = link.substring(0, link.lastIndexOf('/') + 1)
+                        + versioned.substring(versioned.lastIndexOf('/') + 1);
+            }
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(
+                    matcher.group(1) + (versioned != null ? versioned : link) + matcher.group(3)));
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.unt.academic_system.config;
+
+import com.unt.academic_system.metrics.QueryCountInterceptor;
+import com.unt.academic_system.metrics.QueryCounter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Metrics exported on /actuator/prometheus.
+ *
+ * Spring Boot already times every controller handler (http.server.requests)
+ * and repository method (spring.data.repository.invocations); histograms for
+ * those are enabled in application.properties. This adds the SQL statement
+ * count per request. STOMP metrics live in StompMetrics.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final QueryCountInterceptor queryCountInterceptor;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,22 @@
+package com.unt.academic_system.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of @Transactional(readOnly = true) transactions to the
+ * replica pool and everything else to the primary.
+ *
+ * The transaction's read-only flag is only known once the transaction has
+ * started, so this must sit behind a LazyConnectionDataSourceProxy, which
+ * fetches the real connection on the first statement (see DataSourceRoutingConfig).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,12 @@
+package com.unt.academic_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (mail outbox polling, ...).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
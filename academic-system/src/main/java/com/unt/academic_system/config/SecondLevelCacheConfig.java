@@ -0,0 +1,97 @@
+package com.unt.academic_system.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache for reference data (faculties, departments,
+ * academic years, courses) and the query cache for their lookup queries.
+ *
+ * Regions live in a Caffeine JCache manager owned by this context, so every
+ * region is bounded and has a TTL as a safety net. Writes made on this node
+ * are applied to the cache by Hibernate on commit; writes made on other nodes
+ * reach it through CacheInvalidationService. Hit ratios are exported per
+ * region as cache.gets{result=hit|miss}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String FACULTY_REGION = "reference.faculty";
+    public static final String DEPARTMENT_REGION = "reference.department";
+    public static final String ACADEMIC_YEAR_REGION = "reference.academicYear";
+    public static final String COURSE_REGION = "reference.course";
+    public static final String COURSE_PREREQUISITES_REGION = "reference.course.prerequisites";
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            FACULTY_REGION, DEPARTMENT_REGION, ACADEMIC_YEAR_REGION, COURSE_REGION, COURSE_PREREQUISITES_REGION);
+
+    @Value("${app.l2-cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${app.l2-cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    @Value("${app.l2-cache.query-ttl-minutes:60}")
+    private long queryTtlMinutes;
+
+    /**
+     * One manager per application context (the URI is unique), so that tests
+     * and benchmarks starting several contexts do not share regions.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("academic-system-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, region(maxEntries, ttlMinutes));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(maxEntries, queryTtlMinutes));
+        // Must never lose an entry before the query results it guards; holds one entry per table
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStatisticsEnabled(true));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // Every region is created above; a new @Cache region must be added there too
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String region : secondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region), "cacheManager", "hibernate");
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, long ttlMinutes) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maximumSize))
+                .setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)))
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,62 @@
+package com.unt.academic_system.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * Virtual thread mode: spring.threads.virtual.enabled=true on a Java 21+ runtime.
+ *
+ * Spring Boot moves Tomcat request handling to virtual threads by itself, but
+ * its task executor and scheduler back off here because the message broker
+ * already defines executor and scheduler beans. Without this configuration
+ * the STOMP channels would keep their platform pools and @Scheduled jobs
+ * would keep sharing the broker's heartbeat scheduler.
+ *
+ * The broker channel stays synchronous, and the broker keeps its own
+ * scheduler for heartbeats.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebSocketMessageBrokerConfigurer {
+
+    /**
+     * Used by @Async methods
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+        return virtualThreads("task-");
+    }
+
+    /**
+     * Picked up by name for @Scheduled jobs, instead of messageBrokerTaskScheduler
+     */
+    @Bean
+    public SimpleAsyncTaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setVirtualThreads(true);
+        return scheduler;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreads("stomp-inbound-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreads("stomp-outbound-"));
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreads(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -1,21 +1,58 @@
 package com.unt.academic_system.config;
 
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 import java.io.File;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static files, and HTTP revalidation of the @ConditionalGet API endpoints
+ * (ConditionalGetInterceptor).
+ *
+ * The dashboards (classpath:/static) are served with fingerprinted links:
+ * HtmlLinkResourceTransformer rewrites the script, stylesheet and image
+ * links of each page to name-&lt;md5 of the content&gt;.ext. A fingerprinted
+ * URL never changes content, so it is cached for a year as immutable; the
+ * pages themselves and unversioned URLs are revalidated on every use. The
+ * .br and .gz variants written by the build (src/tools/java/AssetPipeline.java)
+ * are served to the browsers that accept them.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(WebMvcConfig.class);
 
+    private static final String STATIC_LOCATION = "classpath:/static/";
+
+    // name-<32 hex digits>.ext, the file names VersionResourceResolver's content strategy produces
+    private static final String FINGERPRINTED = "/{dir:js|css|images}/{file:.+-[0-9a-f]{32}\\.[a-z0-9]+}";
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor).addPathPatterns("/api/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         try {
+            configureStaticAssets(registry);
+
             // Configuration pour /videos/** - depuis src/main/resources/static/videos/
             configureVideosDirectory(registry);
 
@@ -27,6 +64,26 @@ public class WebMvcConfig implements WebMvcConfigurer {
         }
     }
 
+    private void configureStaticAssets(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(FINGERPRINTED)
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // Replaces Spring Boot's default /** handler for classpath:/static/
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new HtmlLinkResourceTransformer());
+
+        logger.info("Static assets served with fingerprinted links from {}", STATIC_LOCATION);
+    }
+
     private void configureVideosDirectory(ResourceHandlerRegistry registry) {
         try {
             // Spring Boot sert automatiquement les fichiers depuis classpath:/static/
@@ -51,8 +108,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private void configureUploadDirectory(ResourceHandlerRegistry registry) {
         try {
-            String projectRoot = System.getProperty("user.dir");
-            File uploadDir = new File(projectRoot, "uploads");
+            // Where ChatService and the profile picture upload write; relative to the working directory
+            File uploadDir = new File(this.uploadDir).getAbsoluteFile();
 
             if (!uploadDir.exists()) {
                 boolean created = uploadDir.mkdirs();
@@ -1,5 +1,6 @@
 package com.unt.academic_system.config;
 
+import com.unt.academic_system.metrics.StompMetrics;
 import com.unt.academic_system.service.JwtService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +30,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
     private final JwtService jwtService;
+    private final StompMetrics stompMetrics;
 
-    public WebSocketConfig(JwtService jwtService) {
+    public WebSocketConfig(JwtService jwtService, StompMetrics stompMetrics) {
         this.jwtService = jwtService;
+        this.stompMetrics = stompMetrics;
     }
 
     @Override
@@ -39,6 +42,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
+        config.configureBrokerChannel().interceptors(stompMetrics.brokerInterceptor());
         logger.info("✅ Message broker configured");
     }
 
@@ -53,6 +57,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompMetrics.inboundInterceptor());
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
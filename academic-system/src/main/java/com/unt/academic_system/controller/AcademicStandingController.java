@@ -0,0 +1,96 @@
+package com.unt.academic_system.controller;
+
+import com.unt.academic_system.model.AcademicStanding;
+import com.unt.academic_system.service.AcademicStandingService;
+import com.unt.academic_system.service.EnrollmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/standings")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AcademicStandingController {
+
+    private static final int MAX_RANKING_SIZE = 500;
+
+    private final AcademicStandingService academicStandingService;
+    private final EnrollmentService enrollmentService;
+
+    /**
+     * Standing of one student (GPA, credits, letter distribution)
+     * GET /api/standings/student/{studentId}
+     */
+    @GetMapping("/student/{studentId}")
+    public ResponseEntity<?> getStanding(@PathVariable Long studentId) {
+        return academicStandingService.getStanding(studentId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "No graded work for student " + studentId)));
+    }
+
+    /**
+     * Transcript: standing, per-semester GPA and completed courses
+     * GET /api/standings/student/{studentId}/transcript
+     */
+    @GetMapping("/student/{studentId}/transcript")
+    public ResponseEntity<?> getTranscript(@PathVariable Long studentId) {
+        try {
+            return ResponseEntity.ok(Map.of(
+                    "studentId", studentId,
+                    "standing", academicStandingService.getStanding(studentId).orElseGet(AcademicStanding::new),
+                    "terms", academicStandingService.getTermStandings(studentId),
+                    "courses", enrollmentService.getStudentTranscript(studentId)
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error fetching transcript: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/standings/top?limit=10&faculty=
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<AcademicStanding>> getTopStudents(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String faculty) {
+        int size = Math.max(1, Math.min(limit, MAX_RANKING_SIZE));
+        return ResponseEntity.ok(faculty == null
+                ? academicStandingService.getTopStudents(size)
+                : academicStandingService.getTopStudentsInFaculty(faculty, size));
+    }
+
+    /**
+     * GET /api/standings/at-risk?threshold=2.0
+     */
+    @GetMapping("/at-risk")
+    public ResponseEntity<List<AcademicStanding>> getAtRiskStudents(
+            @RequestParam(defaultValue = "2.0") Double threshold) {
+        return ResponseEntity.ok(academicStandingService.getAtRiskStudents(threshold));
+    }
+
+    /**
+     * Rebuild every standing from enrollments (initial backfill or repair)
+     * POST /api/standings/recompute
+     */
+    @PostMapping("/recompute")
+    public ResponseEntity<?> recomputeAll() {
+        try {
+            int count = academicStandingService.recomputeAll();
+            log.info("✅ Recomputed {} academic standings", count);
+            return ResponseEntity.ok(Map.of("recomputed", count));
+        } catch (RuntimeException e) {
+            log.error("❌ Standing recompute failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
 import com.unt.academic_system.model.AcademicYear;
 import com.unt.academic_system.service.AcademicYearService;
+import com.unt.academic_system.service.TermContextService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -18,6 +22,7 @@ import java.util.Optional;
 public class AcademicYearController {
 
     private final AcademicYearService academicYearService;
+    private final TermContextService termContextService;
 
     @PostMapping
     public ResponseEntity<?> createAcademicYear(@RequestBody AcademicYear academicYear) {
@@ -44,6 +49,7 @@ public class AcademicYearController {
     }
 
     @GetMapping("/current")
+    @ConditionalGet(value = AcademicYear.class, maxAgeSeconds = 300)
     public ResponseEntity<?> getCurrentAcademicYear() {
         Optional<AcademicYear> academicYear = academicYearService.getCurrentAcademicYear();
         if (academicYear.isPresent()) {
@@ -56,6 +62,24 @@ public class AcademicYearController {
     }
 
 
+    /**
+     * Registration window of the current term, answered from memory
+     * GET /api/academic-years/current/registration
+     */
+    @GetMapping("/current/registration")
+    public ResponseEntity<Map<String, Object>> getCurrentRegistration() {
+        Map<String, Object> registration = new HashMap<>();
+        registration.put("open", termContextService.isRegistrationOpen());
+        termContextService.currentTerm().ifPresent(term -> {
+            registration.put("yearCode", term.yearCode());
+            registration.put("semester", term.semester());
+            registration.put("registrationStartDate", term.registrationStartDate());
+            registration.put("registrationEndDate", term.registrationEndDate());
+        });
+        return ResponseEntity.ok(registration);
+    }
+
+
     private AcademicYear createDefaultAcademicYear() {
         AcademicYear defaultYear = new AcademicYear();
         int currentYear = java.time.Year.now().getValue();
@@ -73,11 +97,13 @@ public class AcademicYearController {
     }
 
     @GetMapping
+    @ConditionalGet(value = AcademicYear.class, maxAgeSeconds = 300)
     public ResponseEntity<List<AcademicYear>> getAllAcademicYears() {
         return ResponseEntity.ok(academicYearService.getAllAcademicYears());
     }
 
     @GetMapping("/active")
+    @ConditionalGet(value = AcademicYear.class, maxAgeSeconds = 300)
     public ResponseEntity<List<AcademicYear>> getActiveAcademicYears() {
         return ResponseEntity.ok(academicYearService.getActiveAcademicYears());
     }
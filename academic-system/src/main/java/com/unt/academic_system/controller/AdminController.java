@@ -3,12 +3,16 @@ package com.unt.academic_system.controller;
 import com.unt.academic_system.model.UserRole;
 import com.unt.academic_system.model.Admin;
 import com.unt.academic_system.service.AdminService;
+import com.unt.academic_system.service.CacheInvalidationService;
+import com.unt.academic_system.service.ChatArchiveService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.security.Principal;
 
@@ -19,6 +23,8 @@ import java.security.Principal;
 public class AdminController {
 
     private final AdminService adminService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ChatArchiveService chatArchiveService;
 
     @PostMapping("/register")
     public ResponseEntity<?> registerAdmin(@RequestBody Admin admin) {
@@ -95,4 +101,36 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
+
+    /**
+     * Clear the second-level cache (reference data, query results) and the
+     * application caches on every node, e.g. after fixing data by hand in the database
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<?> clearCaches() {
+        cacheInvalidationService.clearAll();
+        return ResponseEntity.ok(Map.of("message", "All caches cleared"));
+    }
+
+    /**
+     * Start the chat archive now instead of waiting for app.chat.archive.cron,
+     * e.g. to migrate the existing backlog after lowering app.chat.archive.after-days.
+     * The run can take hours, so it goes on in the background: follow it with
+     * GET /api/admins/chat-archive
+     */
+    @PostMapping("/chat-archive")
+    public ResponseEntity<?> archiveChatMessages() {
+        if (!chatArchiveService.startArchive()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "The chat archive is already running"));
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admins/chat-archive"))
+                .body(chatArchiveService.archiveStatus());
+    }
+
+    @GetMapping("/chat-archive")
+    public ResponseEntity<ChatArchiveService.ArchiveStatus> getChatArchiveStatus() {
+        return ResponseEntity.ok(chatArchiveService.archiveStatus());
+    }
 }
\ No newline at end of file
@@ -33,7 +33,7 @@ public class AuthController {
     @PostMapping("/verify-credentials")
     public ResponseEntity<?> verifyCredentials(@RequestBody CredentialsRequest request) {
         try {
-            log.info("🔐 Verifying credentials for email: {}", request.getEmail());
+            log.debug("🔐 Verifying credentials for email: {}", request.getEmail());
 
             // Validate input
             if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
@@ -75,7 +75,7 @@ public class AuthController {
             // Verify password
             boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPassword());
 
-            log.info("🔑 Password match result for {}: {}", request.getEmail(), passwordMatches);
+            log.debug("🔑 Password match result for {}: {}", request.getEmail(), passwordMatches);
 
             if (!passwordMatches) {
                 log.warn("❌ Invalid password for: {}", request.getEmail());
@@ -108,7 +108,7 @@ public class AuthController {
     @PostMapping("/request-otp")
     public ResponseEntity<?> requestOTP(@RequestBody OTPRequest request) {
         try {
-            log.info("📧 OTP requested for: {}", request.getEmail());
+            log.debug("📧 OTP requested for: {}", request.getEmail());
 
             // Verify user exists
             Optional<User> userOptional = userService.findByEmail(request.getEmail().toLowerCase().trim());
@@ -119,7 +119,11 @@ public class AuthController {
             }
 
             // Generate and send OTP
-            otpService.generateAndSendOTP(request.getEmail().toLowerCase().trim());
+            if (!otpService.generateAndSendOTP(request.getEmail().toLowerCase().trim())) {
+                log.warn("⏳ OTP requests throttled for: {}", request.getEmail());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body(Map.of("error", "Too many OTP requests, please try again later"));
+            }
 
             log.info("✅ OTP sent successfully to: {}", request.getEmail());
             return ResponseEntity.ok(Map.of("message", "OTP sent successfully", "email", request.getEmail()));
@@ -134,7 +138,7 @@ public class AuthController {
     @PostMapping("/verify-otp")
     public ResponseEntity<?> verifyOTP(@RequestBody OTPVerifyRequest request, HttpSession session) {
         try {
-            log.info("🔐 Verifying OTP for: {}", request.getEmail());
+            log.debug("🔐 Verifying OTP for: {}", request.getEmail());
 
             boolean isValid = otpService.verifyOTP(request.getEmail().toLowerCase().trim(), request.getOtp());
 
@@ -198,7 +202,7 @@ public class AuthController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Email is required"));
             }
 
-            log.info("📝 Token request for user: {}", email);
+            log.debug("📝 Token request for user: {}", email);
 
             // Find user by email
             Optional<User> userOptional = userService.findByEmail(email.toLowerCase().trim());
@@ -251,7 +255,7 @@ public class AuthController {
                         .body(Map.of("error", "Token is required"));
             }
 
-            log.info("🔍 Validating token...");
+            log.debug("🔍 Validating token...");
 
             // Use safe validation method
             boolean isValid = jwtService.isTokenValidSafe(token);
@@ -260,7 +264,7 @@ public class AuthController {
                 String email = jwtService.getEmailFromToken(token);
                 Map<String, Object> tokenInfo = jwtService.getUserInfoFromToken(token);
 
-                log.info("✅ Token valid for user: {}", email);
+                log.debug("✅ Token valid for user: {}", email);
 
                 return ResponseEntity.ok(Map.of(
                         "valid", true,
@@ -297,7 +301,7 @@ public class AuthController {
                         .body(Map.of("error", "Refresh token is required"));
             }
 
-            log.info("🔄 Refreshing token...");
+            log.debug("🔄 Refreshing token...");
 
             // Validate refresh token format
             if (!jwtService.isValidTokenFormat(refreshToken)) {
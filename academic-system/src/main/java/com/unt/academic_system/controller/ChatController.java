@@ -8,12 +8,14 @@ import com.unt.academic_system.model.ChatNotification;
 import com.unt.academic_system.service.ChatService;
 import com.unt.academic_system.service.JwtService;
 import com.unt.academic_system.service.NotificationService;
+import com.unt.academic_system.util.LogSampler;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -48,6 +50,9 @@ public class ChatController {
     private final ChatService chatService;
     private final NotificationService notificationService;
 
+    // Full per-message trace for one in N private messages (0 = never)
+    private LogSampler messageTraceSampler = new LogSampler(0);
+
     public ChatController(JwtService jwtService, ChatService chatService,
                           SimpMessagingTemplate messagingTemplate, NotificationService notificationService) {
         this.jwtService = jwtService;
@@ -56,6 +61,11 @@ public class ChatController {
         this.notificationService = notificationService;
     }
 
+    @Value("${app.logging.chat-trace-sample-every:100}")
+    void setMessageTraceSampleEvery(int every) {
+        this.messageTraceSampler = new LogSampler(every);
+    }
+
     @MessageMapping("/chat.sendMessage")
     @SendTo("/topic/public")
     public ChatMessage sendMessage(@Payload ChatMessage chatMessage) {
@@ -332,9 +342,7 @@ public class ChatController {
             @RequestParam(defaultValue = "50") int size,
             @RequestHeader(value = "Authorization") String authHeader) {
 
-        logger.info("📥 GET CHAT HISTORY REQUEST");
-        logger.info("   Recipient ID: {}", recipientId);
-        logger.info("   Page: {}, Size: {}", page, size);
+        logger.debug("Chat history request: recipient={}, page={}, size={}", recipientId, page, size);
 
         try {
             // ✅ FIXED: Better token validation
@@ -365,8 +373,6 @@ public class ChatController {
                         .body(Map.of("error", "Invalid token - no email found"));
             }
 
-            logger.info("✅ Sender authenticated: {}", senderEmail);
-
             // Validate recipient
             if (recipientId == null || recipientId.trim().isEmpty()) {
                 logger.error("❌ Recipient ID is required");
@@ -378,8 +384,6 @@ public class ChatController {
             if (page < 0) page = 0;
             if (size <= 0 || size > 100) size = 50;
 
-            logger.info("🔍 Fetching conversation between: {} <-> {}", senderEmail, recipientId);
-
             // Get bidirectional conversation
             List<ChatMessage> chatHistory = chatService.getChatHistoryPaginated(
                     senderEmail,
@@ -388,16 +392,17 @@ public class ChatController {
                     size
             );
 
-            logger.info("✅ Retrieved {} messages", chatHistory.size());
+            logger.debug("Retrieved {} messages between {} and {}", chatHistory.size(), senderEmail, recipientId);
 
-            // Mark unread messages as read
-            if (!chatHistory.isEmpty()) {
-                List<ChatMessage> unreadMessages = chatHistory.stream()
-                        .filter(msg -> msg.getRecipientId().equals(senderEmail) && !msg.isRead())
-                        .collect(Collectors.toList());
+            // Mark unread messages as read (one update, one receipt to the other side)
+            List<ChatMessage> unreadMessages = chatHistory.stream()
+                    .filter(msg -> msg.getRecipientId().equals(senderEmail) && !msg.isRead())
+                    .collect(Collectors.toList());
 
+            if (!unreadMessages.isEmpty()) {
+                chatService.markMessagesAsRead(senderEmail,
+                        unreadMessages.stream().map(ChatMessage::getId).collect(Collectors.toList()));
                 for (ChatMessage msg : unreadMessages) {
-                    chatService.markMessageAsRead(msg.getId(), senderEmail);
                     msg.setRead(true);
                     msg.setStatus("READ");
                 }
@@ -459,10 +464,6 @@ public class ChatController {
     // MODIFIER la méthode sendPrivateMessage
     @MessageMapping("/chat.private")
     public void sendPrivateMessage(@Payload ChatMessageDTO chatMessageDTO, Principal principal) {
-        logger.info("╔════════════════════════════════════════╗");
-        logger.info("║   RECEIVING PRIVATE MESSAGE VIA WS     ║");
-        logger.info("╚════════════════════════════════════════╝");
-
         try {
             String senderId;
 
@@ -494,12 +495,6 @@ public class ChatController {
             String recipientId = chatMessageDTO.getRecipientId();
             String content = chatMessageDTO.getContent();
 
-            logger.info("📨 Message Details:");
-            logger.info("   From: {}", senderId);
-            logger.info("   To: {}", recipientId);
-            logger.info("   Content: {}", content);
-            logger.info("   Type: {}", chatMessageDTO.getType());
-
             // Validation améliorée
             if (senderId == null || senderId.isEmpty()) {
                 logger.error("❌ Sender ID is required");
@@ -528,7 +523,7 @@ public class ChatController {
             chatMessage.setStatus("SENT");
 
             // Sauvegarder dans la base de données
-            logger.info("💾 Saving message to database...");
+            long startedAt = System.nanoTime();
             ChatMessage savedMessage = chatService.saveMessage(chatMessage);
 
             if (savedMessage == null || savedMessage.getId() == null) {
@@ -536,8 +531,6 @@ public class ChatController {
                 return;
             }
 
-            logger.info("✅ Message saved with ID: {}", savedMessage.getId());
-
             // Préparer la réponse
             Map<String, Object> responseMessage = new HashMap<>();
             responseMessage.put("id", savedMessage.getId());
@@ -550,7 +543,6 @@ public class ChatController {
             responseMessage.put("status", savedMessage.getStatus());
 
             // Envoyer au destinataire
-            logger.info("📤 Sending to recipient: {}", recipientId);
             messagingTemplate.convertAndSendToUser(
                     recipientId,
                     "/queue/private",
@@ -558,14 +550,22 @@ public class ChatController {
             );
 
             // Envoyer la confirmation à l'expéditeur
-            logger.info("📤 Sending confirmation to sender: {}", senderId);
             messagingTemplate.convertAndSendToUser(
                     senderId,
                     "/queue/private",
                     responseMessage
             );
 
-            logger.info("✅ MESSAGE SENT SUCCESSFULLY");
+            if (messageTraceSampler.sample()) {
+                logger.atInfo()
+                        .addKeyValue("messageId", savedMessage.getId())
+                        .addKeyValue("sender", senderId)
+                        .addKeyValue("recipient", recipientId)
+                        .addKeyValue("type", savedMessage.getType())
+                        .addKeyValue("contentLength", savedMessage.getContent().length())
+                        .addKeyValue("elapsedMicros", (System.nanoTime() - startedAt) / 1000)
+                        .log("Private message delivered (sampled)");
+            }
 
         } catch (Exception e) {
             logger.error("❌ ERROR sending message: {}", e.getMessage(), e);
@@ -865,8 +865,8 @@ public class ChatController {
             String username = jwtService.getEmailFromToken(token);
             String senderId = request.get("senderId");
 
-            chatService.markAllMessagesAsRead(username, senderId);
-            return ResponseEntity.ok(Map.of("success", true));
+            List<Long> messageIds = chatService.markAllMessagesAsRead(username, senderId);
+            return ResponseEntity.ok(Map.of("success", true, "messageIds", messageIds));
         } catch (Exception e) {
             logger.error("Error marking messages as read", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -4,6 +4,7 @@ import com.unt.academic_system.model.ChatGroup;
 import com.unt.academic_system.model.ChatGroupMessage;
 import com.unt.academic_system.model.User;
 import com.unt.academic_system.service.ChatGroupService;
+import com.unt.academic_system.service.ChatService;
 import com.unt.academic_system.service.JwtService;
 import com.unt.academic_system.service.UserService;
 import org.slf4j.Logger;
@@ -42,6 +43,9 @@ public class ChatGroupController {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private ChatService chatService;
+
     // ==================== GROUP ENDPOINTS ====================
 
     @GetMapping
@@ -429,11 +433,33 @@ public class ChatGroupController {
                         .body(Map.of("error", "Access denied"));
             }
 
-            // TODO: Implement file upload logic similar to private chat
-            // For now, return not implemented
-            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
-                    .body(Map.of("message", "File upload for groups coming soon"));
+            // Same validation and content-addressed storage as private chat uploads
+            String fileUrl = chatService.saveMediaFile(file);
+
+            ChatGroupMessage mediaMessage = new ChatGroupMessage();
+            mediaMessage.setGroup(group);
+            mediaMessage.setSenderId(userEmail);
+            mediaMessage.setSenderName(userService.findByEmail(userEmail)
+                    .map(User::getFullName)
+                    .orElse(userEmail));
+            mediaMessage.setContent("File sent: " + file.getOriginalFilename());
+            mediaMessage.setFileName(file.getOriginalFilename());
+            mediaMessage.setFileUrl(fileUrl);
+            mediaMessage.setFileSize(file.getSize());
+            mediaMessage.setType(mediaType(file.getContentType()));
+
+            ChatGroupMessage savedMessage = groupService.sendMessage(mediaMessage);
 
+            for (String memberEmail : group.getMemberEmails()) {
+                if (!memberEmail.equals(userEmail)) {
+                    messagingTemplate.convertAndSendToUser(memberEmail, "/queue/group", savedMessage);
+                }
+            }
+
+            return ResponseEntity.ok(savedMessage);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             logger.error("Error uploading media to group", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -441,6 +467,46 @@ public class ChatGroupController {
         }
     }
 
+    private ChatGroupMessage.MessageType mediaType(String contentType) {
+        if (contentType == null) {
+            return ChatGroupMessage.MessageType.FILE;
+        }
+        if (contentType.startsWith("image/")) {
+            return ChatGroupMessage.MessageType.IMAGE;
+        } else if (contentType.startsWith("video/")) {
+            return ChatGroupMessage.MessageType.VIDEO;
+        } else if (contentType.startsWith("audio/")) {
+            return ChatGroupMessage.MessageType.AUDIO;
+        } else if (contentType.equals("application/pdf")) {
+            return ChatGroupMessage.MessageType.DOCUMENT;
+        }
+        return ChatGroupMessage.MessageType.FILE;
+    }
+
+    @PostMapping("/{groupId}/messages/read")
+    public ResponseEntity<?> markGroupAsRead(@PathVariable Long groupId,
+                                             @RequestHeader(value = "Authorization") String authHeader) {
+        try {
+            String token = authHeader.startsWith("Bearer ") ? authHeader.substring(7).trim() : "";
+            if (!jwtService.isTokenValidSafe(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Token expired or invalid"));
+            }
+            String userEmail = jwtService.getEmailFromToken(token);
+
+            List<Long> messageIds = groupService.markGroupAsRead(groupId, userEmail);
+            return ResponseEntity.ok(Map.of("success", true, "messageIds", messageIds));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied"));
+        } catch (Exception e) {
+            logger.error("Error marking group messages as read", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to mark messages as read"));
+        }
+    }
+
     @PostMapping("/{groupId}/messages/{messageId}/read")
     public ResponseEntity<?> markMessageAsRead(@PathVariable Long groupId,
                                                @PathVariable Long messageId,
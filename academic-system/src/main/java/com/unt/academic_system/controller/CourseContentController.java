@@ -1,10 +1,19 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
 import com.unt.academic_system.dto.CourseContentDTO;
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.metrics.QueryBudget;
+import com.unt.academic_system.model.Admin;
 import com.unt.academic_system.model.ApprovalStatus;
+import com.unt.academic_system.model.Course;
 import com.unt.academic_system.model.CourseContent;
+import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.service.CourseContentService;
+import com.unt.academic_system.service.FileStorageService;
+import com.unt.academic_system.util.CursorPagination;
 import com.unt.academic_system.util.DTOMapper;
+import com.unt.academic_system.util.NdjsonExporter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,8 +34,12 @@ import java.util.Optional;
 public class CourseContentController {
 
     private final CourseContentService courseContentService;
+    private final NdjsonExporter ndjsonExporter;
+    private final FileStorageService fileStorageService;
 
     @GetMapping
+    @ConditionalGet({CourseContent.class, Course.class, Lecturer.class, Admin.class})
+    @QueryBudget(6)
     public ResponseEntity<List<CourseContentDTO>> getAllContent() {
         try {
             log.info("GET /api/course-content - Fetching all content");
@@ -43,6 +52,36 @@ public class CourseContentController {
         }
     }
 
+    @GetMapping("/page")
+    @ConditionalGet({CourseContent.class, Course.class, Lecturer.class, Admin.class})
+    public ResponseEntity<CursorPage<CourseContentDTO>> getContentPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long lecturerId,
+            @RequestParam(required = false) ApprovalStatus approvalStatus) {
+        try {
+            log.info("GET /api/course-content/page - cursor={}, limit={}", cursor, limit);
+            return ResponseEntity.ok(courseContentService.findPage(courseId, lecturerId, approvalStatus,
+                    cursor, CursorPagination.clampLimit(limit), CursorPagination.direction(direction)));
+        } catch (Exception e) {
+            log.error("Error fetching content page: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContent(
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long lecturerId,
+            @RequestParam(required = false) ApprovalStatus approvalStatus) {
+        log.info("GET /api/course-content/export");
+        return ndjsonExporter.export(cursor -> courseContentService.findPage(courseId, lecturerId, approvalStatus,
+                cursor, NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
+    }
+
     @PostMapping("/upload")
     public ResponseEntity<?> uploadContent(
             @RequestParam("content") String contentJson,
@@ -60,14 +99,20 @@ public class CourseContentController {
             content.setFileName(fileName);
             content.setFileSize(fileSize);
 
-            // Save the file to disk FIRST
-            String filePath = saveFile(file);
+            // Store the file FIRST (identical files share one stored copy)
+            String filePath = fileStorageService.store(file);
             content.setFilePath(filePath);
 
             // Set default approval status
             content.setApprovalStatus(ApprovalStatus.PENDING);
 
-            CourseContent uploaded = courseContentService.uploadContent(content);
+            CourseContent uploaded;
+            try {
+                uploaded = courseContentService.uploadContent(content);
+            } catch (RuntimeException e) {
+                fileStorageService.release(filePath);
+                throw e;
+            }
             CourseContentDTO dto = DTOMapper.toCourseContentDTO(uploaded);
 
             log.info("Content uploaded successfully with id: {}", uploaded.getId());
@@ -93,6 +138,8 @@ public class CourseContentController {
     }
 
     @GetMapping("/course/{courseId}")
+    @ConditionalGet({CourseContent.class, Course.class, Lecturer.class, Admin.class})
+    @QueryBudget(6)
     public ResponseEntity<List<CourseContentDTO>> getContentByCourse(@PathVariable Long courseId) {
         try {
             log.info("GET /api/course-content/course/{} - Fetching course content", courseId);
@@ -106,6 +153,7 @@ public class CourseContentController {
     }
 
     @GetMapping("/lecturer/{lecturerId}")
+    @ConditionalGet({CourseContent.class, Course.class, Lecturer.class, Admin.class})
     public ResponseEntity<?> getContentByLecturer(@PathVariable Long lecturerId) {
         try {
             log.info("GET /api/course-content/lecturer/{} - Fetching lecturer content", lecturerId);
@@ -134,6 +182,7 @@ public class CourseContentController {
     }
 
     @GetMapping("/course/{courseId}/approved")
+    @ConditionalGet({CourseContent.class, Course.class, Lecturer.class, Admin.class})
     public ResponseEntity<List<CourseContentDTO>> getApprovedContentForCourse(@PathVariable Long courseId) {
         try {
             log.info("GET /api/course-content/course/{}/approved", courseId);
@@ -198,21 +247,4 @@ public class CourseContentController {
                     .body("Failed to delete content");
         }
     }
-
-    private String saveFile(MultipartFile file) throws IOException {
-        // Use absolute path in your project
-        String uploadDir = System.getProperty("user.dir") + "/uploads/course-content/";
-        Path uploadPath = Paths.get(uploadDir);
-
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        Path filePath = uploadPath.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        // Return the full path
-        return uploadDir + fileName;
-    }
 }
\ No newline at end of file
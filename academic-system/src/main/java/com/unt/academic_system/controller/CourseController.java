@@ -1,8 +1,13 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
 import com.unt.academic_system.dto.CourseCreateDTO;
 import com.unt.academic_system.dto.CourseDTO;
 import com.unt.academic_system.dto.CourseUpdateDTO;
+import com.unt.academic_system.metrics.QueryBudget;
+import com.unt.academic_system.model.Course;
+import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.service.CourseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -76,6 +81,8 @@ public class CourseController {
      * GET /api/courses
      */
     @GetMapping
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
+    @QueryBudget(4)
     public ResponseEntity<?> getAllCourses() {
         try {
             List<CourseDTO> courses = courseService.getAllCourses();
@@ -92,6 +99,7 @@ public class CourseController {
      * GET /api/courses/faculty/{faculty}
      */
     @GetMapping("/faculty/{faculty}")
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
     public ResponseEntity<?> getCoursesByFaculty(@PathVariable String faculty) {
         try {
             List<CourseDTO> courses = courseService.getCoursesByFaculty(faculty);
@@ -107,6 +115,7 @@ public class CourseController {
      * GET /api/courses/department/{department}
      */
     @GetMapping("/department/{department}")
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
     public ResponseEntity<?> getCoursesByDepartment(@PathVariable String department) {
         try {
             List<CourseDTO> courses = courseService.getCoursesByDepartment(department);
@@ -126,6 +135,7 @@ public class CourseController {
      * GET /api/courses/year/{year}/semester/{semester}
      */
     @GetMapping("/year/{year}/semester/{semester}")
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
     public ResponseEntity<?> getCoursesByYearAndSemester(
             @PathVariable String year,  // Changé de Integer à String
             @PathVariable Integer semester) {
@@ -143,6 +153,7 @@ public class CourseController {
      * GET /api/courses/active
      */
     @GetMapping("/active")
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
     public ResponseEntity<?> getActiveCourses() {
         try {
             List<CourseDTO> courses = courseService.getActiveCourses();
@@ -159,6 +170,7 @@ public class CourseController {
      * GET /api/courses/available
      */
     @GetMapping("/available")
+    @ConditionalGet({Course.class, Lecturer.class, Enrollment.class})
     public ResponseEntity<?> getAvailableCourses() {
         try {
             List<CourseDTO> courses = courseService.getAvailableCourses();
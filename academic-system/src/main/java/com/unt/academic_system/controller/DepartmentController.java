@@ -1,8 +1,11 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
 import com.unt.academic_system.dto.DepartmentDTO;
+import com.unt.academic_system.metrics.QueryBudget;
 import com.unt.academic_system.model.Department;
 import com.unt.academic_system.model.Faculty;
+import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.service.DepartmentService;
 import com.unt.academic_system.service.FacultyService;
 import lombok.RequiredArgsConstructor;
@@ -75,6 +78,8 @@ public class DepartmentController {
     }
 
     @GetMapping
+    @ConditionalGet(value = {Department.class, Faculty.class, Lecturer.class}, maxAgeSeconds = 300)
+    @QueryBudget(6)
     public ResponseEntity<List<DepartmentDTO>> getAllDepartments() {
         List<Department> departments = departmentService.getAllDepartments();
         List<DepartmentDTO> dtos = departments.stream()
@@ -84,6 +89,7 @@ public class DepartmentController {
     }
 
     @GetMapping("/faculty/{facultyId}")
+    @ConditionalGet(value = {Department.class, Faculty.class, Lecturer.class}, maxAgeSeconds = 300)
     public ResponseEntity<List<DepartmentDTO>> getDepartmentsByFaculty(@PathVariable Long facultyId) {
         List<Department> departments = departmentService.getDepartmentsByFaculty(facultyId);
         List<DepartmentDTO> dtos = departments.stream()
@@ -93,6 +99,7 @@ public class DepartmentController {
     }
 
     @GetMapping("/active")
+    @ConditionalGet(value = {Department.class, Faculty.class, Lecturer.class}, maxAgeSeconds = 300)
     public ResponseEntity<List<DepartmentDTO>> getActiveDepartments() {
         List<Department> departments = departmentService.getActiveDepartments();
         List<DepartmentDTO> dtos = departments.stream()
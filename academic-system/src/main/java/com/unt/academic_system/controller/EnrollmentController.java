@@ -1,17 +1,29 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.dto.EnrollmentCreateDTO;
 import com.unt.academic_system.dto.EnrollmentDTO;
 import com.unt.academic_system.dto.EnrollmentUpdateDTO;
+import com.unt.academic_system.dto.GradeImportReport;
 import com.unt.academic_system.dto.GradeUpdateDTO;
+import com.unt.academic_system.metrics.QueryBudget;
 import com.unt.academic_system.model.EnrollmentStatus;
 import com.unt.academic_system.service.EnrollmentService;
+import com.unt.academic_system.service.GradeImportService;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.GradeSheetException;
+import com.unt.academic_system.util.NdjsonExporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +35,8 @@ import java.util.Optional;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final GradeImportService gradeImportService;
+    private final NdjsonExporter ndjsonExporter;
 
     /**
      * Get all enrollments
@@ -40,6 +54,45 @@ public class EnrollmentController {
         }
     }
 
+    /**
+     * Get one keyset page of enrollments
+     * GET /api/enrollments/page?cursor=&limit=&direction=asc|desc&studentId=&courseId=&status=&academicYear=
+     */
+    @GetMapping("/page")
+    @QueryBudget(5)
+    public ResponseEntity<?> getEnrollmentPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) EnrollmentStatus status,
+            @RequestParam(required = false) String academicYear) {
+        try {
+            CursorPage<EnrollmentDTO> page = enrollmentService.findPage(studentId, courseId, status, academicYear,
+                    cursor, CursorPagination.clampLimit(limit), CursorPagination.direction(direction));
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error fetching enrollments: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream all (filtered) enrollments as NDJSON
+     * GET /api/enrollments/export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) EnrollmentStatus status,
+            @RequestParam(required = false) String academicYear) {
+        return ndjsonExporter.export(cursor -> enrollmentService.findPage(studentId, courseId, status, academicYear,
+                cursor, NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
+    }
+
     /**
      * Enroll a student in a course
      * POST /api/enrollments/enroll
@@ -77,6 +130,7 @@ public class EnrollmentController {
      * GET /api/enrollments/student/{studentId}
      */
     @GetMapping("/student/{studentId}")
+    @QueryBudget(5)
     public ResponseEntity<?> getStudentEnrollments(@PathVariable Long studentId) {
         try {
             List<EnrollmentDTO> enrollments = enrollmentService.getStudentEnrollments(studentId);
@@ -226,6 +280,32 @@ public class EnrollmentController {
         }
     }
 
+    /**
+     * Import a grade sheet: CSV or XLSX with the columns enrollment_id, midterm
+     * and final. Returns one report row per sheet row; rejected rows are skipped,
+     * the rest are applied (validated only with dryRun=true).
+     * POST /api/enrollments/grades/import?courseId=&dryRun=false
+     */
+    @PostMapping(value = "/grades/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importGrades(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(defaultValue = "false") boolean dryRun) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
+        }
+
+        // Only a sheet that cannot be read is the client's fault; anything else is a 500
+        try (InputStream sheet = file.getInputStream()) {
+            GradeImportReport report = gradeImportService.importGrades(
+                    sheet, file.getOriginalFilename(), courseId, dryRun);
+            return ResponseEntity.ok(report);
+        } catch (GradeSheetException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Update attendance for an enrollment
      * PUT /api/enrollments/{id}/attendance
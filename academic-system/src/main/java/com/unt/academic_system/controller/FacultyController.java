@@ -1,9 +1,12 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
 import com.unt.academic_system.dto.FacultyDTO;
+import com.unt.academic_system.model.Department;
 import com.unt.academic_system.model.Faculty;
-import com.unt.academic_system.service.FacultyService;
+import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.repository.DepartmentRepository;
+import com.unt.academic_system.service.FacultyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -54,6 +57,7 @@ public class FacultyController {
     }
 
     @GetMapping
+    @ConditionalGet(value = {Faculty.class, Department.class, Lecturer.class}, maxAgeSeconds = 300)
     public ResponseEntity<List<FacultyDTO>> getAllFaculties() {
         List<Faculty> faculties = facultyService.getAllFaculties();
         List<FacultyDTO> facultyDTOs = faculties.stream()
@@ -63,6 +67,7 @@ public class FacultyController {
     }
 
     @GetMapping("/active")
+    @ConditionalGet(value = {Faculty.class, Department.class, Lecturer.class}, maxAgeSeconds = 300)
     public ResponseEntity<List<FacultyDTO>> getActiveFaculties() {
         List<Faculty> faculties = facultyService.getActiveFaculties();
         List<FacultyDTO> facultyDTOs = faculties.stream()
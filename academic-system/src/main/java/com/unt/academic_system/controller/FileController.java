@@ -0,0 +1,66 @@
+package com.unt.academic_system.controller;
+
+import com.unt.academic_system.model.StoredFile;
+import com.unt.academic_system.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/files")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class FileController {
+
+    private final FileStorageService fileStorageService;
+
+    /**
+     * Serve a stored file. Content never changes for a given hash, so the response
+     * is cacheable indefinitely and the hash doubles as the ETag.
+     * GET /api/files/{hash}?name=lecture-1.pdf&download=true
+     */
+    @GetMapping("/{hash:[0-9a-f]{64}}")
+    public ResponseEntity<Resource> getFile(@PathVariable String hash,
+                                            @RequestParam(required = false) String name,
+                                            @RequestParam(defaultValue = "false") boolean download) {
+        try {
+            Optional<StoredFile> stored = fileStorageService.findByHash(hash);
+            if (stored.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            String contentType = stored.get().getContentType() != null
+                    ? stored.get().getContentType()
+                    : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(contentType))
+                    .contentLength(stored.get().getSize())
+                    .eTag(hash)
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+
+            if (name != null) {
+                ContentDisposition disposition = (download ? ContentDisposition.attachment() : ContentDisposition.inline())
+                        .filename(name, StandardCharsets.UTF_8)
+                        .build();
+                response.header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+            }
+
+            return response.body(fileStorageService.load(hash));
+        } catch (Exception e) {
+            log.error("Error serving file {}: {}", hash, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
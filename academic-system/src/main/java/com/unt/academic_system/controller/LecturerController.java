@@ -1,5 +1,6 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.dto.CourseAllocationDTO;
 import com.unt.academic_system.dto.CourseDTO;
 import com.unt.academic_system.dto.LecturerDTO;
 import com.unt.academic_system.model.Course;
@@ -53,49 +54,8 @@ public class LecturerController {
     @GetMapping
     public ResponseEntity<?> getAllLecturers() {
         try {
-            logger.info("📋 Fetching all lecturers");
-            List<Lecturer> lecturers = lecturerService.getAllLecturers();
-
-            List<LecturerDTO> dtos = lecturers.stream()
-                    .map(lecturer -> {
-                        LecturerDTO dto = new LecturerDTO(lecturer);
-
-                        // ✅ CORRECTION CRITIQUE: Charger les cours depuis la base de données
-                        List<Course> courses = courseRepository.findByLecturerId(lecturer.getId());
-
-                        logger.debug("📊 Lecturer {} ({}) has {} courses in database",
-                                lecturer.getId(),
-                                lecturer.getEmployeeId(),
-                                courses.size());
-
-                        // ✅ Définir le nombre de cours dans le DTO
-                        dto.setCourseCount(courses.size());
-
-                        // ✅ IMPORTANT: Ajouter la liste des cours au DTO si nécessaire
-                        if (!courses.isEmpty()) {
-                            // Convertir les cours en DTOs simples pour éviter les problèmes de sérialisation
-                            dto.setCourses(courses.stream()
-                                    .map(c -> {
-                                        LecturerDTO.SimpleCourseDTO courseDTO = new LecturerDTO.SimpleCourseDTO();
-                                        courseDTO.setId(c.getId());
-                                        courseDTO.setCourseCode(c.getCourseCode());
-                                        courseDTO.setCourseName(c.getCourseName());
-                                        return courseDTO;
-                                    })
-                                    .collect(Collectors.toList()));
-                        }
-
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
-
-            logger.info("✅ Found {} lecturers", dtos.size());
-
-            // Log détaillé pour debug
-            for (LecturerDTO dto : dtos) {
-                logger.debug("   - Lecturer {}: {} courses", dto.getEmployeeId(), dto.getCourseCount());
-            }
-
+            List<LecturerDTO> dtos = lecturerService.getLecturerSummaries();
+            logger.debug("Found {} lecturers", dtos.size());
             return ResponseEntity.ok(dtos);
 
         } catch (Exception e) {
@@ -106,43 +66,11 @@ public class LecturerController {
         }
     }
 
-
-
     @GetMapping("/{id}")
     public ResponseEntity<?> getLecturerById(@PathVariable Long id) {
         try {
-            logger.info("🔍 Fetching lecturer with ID: {}", id);
-            Lecturer lecturer = lecturerService.findById(id)
+            LecturerDTO dto = lecturerService.findSummaryById(id)
                     .orElseThrow(() -> new RuntimeException("Lecturer not found"));
-
-            LecturerDTO dto = new LecturerDTO(lecturer);
-
-            // ✅ CORRECTION CRITIQUE: Charger les cours depuis la base de données
-            List<Course> courses = courseRepository.findByLecturerId(id);
-
-            logger.info("📊 Lecturer {} has {} courses in database", id, courses.size());
-
-            // ✅ Définir le nombre de cours
-            dto.setCourseCount(courses.size());
-
-            // ✅ IMPORTANT: Ajouter la liste des cours au DTO
-            if (!courses.isEmpty()) {
-                dto.setCourses(courses.stream()
-                        .map(c -> {
-                            LecturerDTO.SimpleCourseDTO courseDTO = new LecturerDTO.SimpleCourseDTO();
-                            courseDTO.setId(c.getId());
-                            courseDTO.setCourseCode(c.getCourseCode());
-                            courseDTO.setCourseName(c.getCourseName());
-                            return courseDTO;
-                        })
-                        .collect(Collectors.toList()));
-
-                logger.info("✅ Added {} courses to DTO", courses.size());
-                for (Course c : courses) {
-                    logger.info("   - Course: {} - {}", c.getCourseCode(), c.getCourseName());
-                }
-            }
-
             return ResponseEntity.ok(dto);
 
         } catch (Exception e) {
@@ -156,14 +84,8 @@ public class LecturerController {
     @GetMapping("/employee/{employeeId}")
     public ResponseEntity<?> getLecturerByEmployeeId(@PathVariable String employeeId) {
         try {
-            logger.info("🔍 Fetching lecturer with employee ID: {}", employeeId);
-            Lecturer lecturer = lecturerService.findByEmployeeId(employeeId)
+            LecturerDTO dto = lecturerService.findSummaryByEmployeeId(employeeId)
                     .orElseThrow(() -> new RuntimeException("Lecturer not found"));
-
-            LecturerDTO dto = new LecturerDTO(lecturer);
-            List<Course> courses = courseRepository.findByLecturerId(lecturer.getId());
-            dto.setCourseCount(courses.size());
-
             return ResponseEntity.ok(dto);
         } catch (Exception e) {
             logger.error("❌ Error: {}", e.getMessage());
@@ -176,14 +98,8 @@ public class LecturerController {
     @GetMapping("/email/{email}")
     public ResponseEntity<?> getLecturerByEmail(@PathVariable String email) {
         try {
-            logger.info("🔍 Fetching lecturer with email: {}", email);
-            Lecturer lecturer = lecturerService.findByEmail(email)
+            LecturerDTO dto = lecturerService.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("Lecturer not found"));
-
-            LecturerDTO dto = new LecturerDTO(lecturer);
-            List<Course> courses = courseRepository.findByLecturerId(lecturer.getId());
-            dto.setCourseCount(courses.size());
-
             return ResponseEntity.ok(dto);
         } catch (Exception e) {
             logger.error("❌ Error: {}", e.getMessage());
@@ -263,43 +179,42 @@ public class LecturerController {
             @RequestBody Map<String, List<Long>> request) {
         try {
             List<Long> courseIds = request.get("courseIds");
+            logger.debug("Assigning courses {} to lecturer {}", courseIds, lecturerId);
 
-            logger.info("🔵 ========================================");
-            logger.info("🔵 CONTROLLER: Received course assignment request");
-            logger.info("🔵 Lecturer ID: {}", lecturerId);
-            logger.info("🔵 Course IDs from request: {}", courseIds);
-            logger.info("🔵 Number of courses: {}", courseIds != null ? courseIds.size() : 0);
-            logger.info("🔵 ========================================");
-
-            // USE NATIVE SQL VERSION
             lecturerService.assignMultipleCoursesNative(lecturerId, courseIds);
 
-            // VERIFICATION IMMÉDIATE
-            logger.info("🔍 CONTROLLER: Verifying assignment after service call...");
-            List<Course> verificationCourses = courseRepository.findByLecturerId(lecturerId);
-            logger.info("🔍 CONTROLLER: Found {} courses for lecturer {} in DB",
-                    verificationCourses.size(), lecturerId);
-
-            for (Course c : verificationCourses) {
-                logger.info("   ✓ Course: {} - {} (Lecturer ID: {})",
-                        c.getCourseCode(),
-                        c.getCourseName(),
-                        c.getLecturer() != null ? c.getLecturer().getId() : "NULL");
-            }
-
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Courses assigned successfully");
-            response.put("assignedCount", courseIds.size());
-
-            logger.info("✅ CONTROLLER: Returning success response");
+            response.put("assignedCount", courseIds != null ? courseIds.size() : 0);
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
-            logger.error("❌ CONTROLLER: Multiple assignment failed");
-            logger.error("❌ Error type: {}", e.getClass().getName());
-            logger.error("❌ Error message: {}", e.getMessage());
-            logger.error("❌ Stack trace:", e);
+            logger.error("❌ Multiple assignment failed: {}", e.getMessage(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 
+    /**
+     * Bulk (re)assignment for many lecturers, e.g. a whole department at term start
+     * POST /api/lecturers/allocations
+     * Body: { "department": "Computer Science", "allocations": { "12": [1, 2], "15": [3] } }
+     */
+    @PostMapping("/allocations")
+    public ResponseEntity<?> applyAllocation(@RequestBody CourseAllocationDTO allocation) {
+        try {
+            CourseAllocationDTO.AllocationResult result = lecturerService.applyAllocation(allocation);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Course allocation applied successfully");
+            response.put("assigned", result.getAssigned());
+            response.put("unassigned", result.getUnassigned());
+            response.put("unchanged", result.getUnchanged());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            logger.error("❌ Course allocation failed: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(error);
@@ -343,19 +258,7 @@ public class LecturerController {
     @GetMapping("/department/{department}")
     public ResponseEntity<?> getLecturersByDepartment(@PathVariable String department) {
         try {
-            logger.info("🔍 Fetching lecturers in department: {}", department);
-            List<Lecturer> lecturers = lecturerService.getLecturersByDepartment(department);
-
-            List<LecturerDTO> dtos = lecturers.stream()
-                    .map(lecturer -> {
-                        LecturerDTO dto = new LecturerDTO(lecturer);
-                        List<Course> courses = courseRepository.findByLecturerId(lecturer.getId());
-                        dto.setCourseCount(courses.size());
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(dtos);
+            return ResponseEntity.ok(lecturerService.getLecturerSummariesByDepartment(department));
         } catch (Exception e) {
             logger.error("❌ Error: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
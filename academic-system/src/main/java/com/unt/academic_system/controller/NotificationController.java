@@ -1,14 +1,20 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.metrics.QueryBudget;
 import com.unt.academic_system.model.Notification;
 import com.unt.academic_system.model.NotificationType;
 import com.unt.academic_system.service.NotificationService;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.NdjsonExporter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -18,6 +24,7 @@ import java.util.Optional;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NdjsonExporter ndjsonExporter;
 
     // ✅ NOUVEAU: Récupérer TOUTES les notifications
     @GetMapping
@@ -30,6 +37,30 @@ public class NotificationController {
         }
     }
 
+    // Pagination par curseur (direction=desc pour les plus récentes d'abord)
+    @GetMapping("/page")
+    @QueryBudget(3)
+    public ResponseEntity<CursorPage<Notification>> getNotificationPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) NotificationType type) {
+        return ResponseEntity.ok(notificationService.findPage(userId, isRead, type,
+                cursor, CursorPagination.clampLimit(limit), CursorPagination.direction(direction)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNotifications(
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) NotificationType type) {
+        return ndjsonExporter.export(cursor -> notificationService.findPage(userId, isRead, type,
+                cursor, NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
+    }
+
     @PostMapping
     public ResponseEntity<?> createNotification(@RequestBody Notification notification) {
         try {
@@ -75,8 +106,10 @@ public class NotificationController {
 
     @PutMapping("/user/{userId}/mark-all-read")
     public ResponseEntity<?> markAllAsRead(@PathVariable Long userId) {
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok("All notifications marked as read");
+        List<Long> notificationIds = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(Map.of(
+                "message", "All notifications marked as read",
+                "notificationIds", notificationIds));
     }
 
     @DeleteMapping("/{id}")
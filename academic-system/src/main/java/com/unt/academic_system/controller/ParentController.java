@@ -1,6 +1,8 @@
 package com.unt.academic_system.controller;
 
 import com.unt.academic_system.dto.ParentResponseDTO;
+import com.unt.academic_system.dto.ParentSummaryDTO;
+import com.unt.academic_system.metrics.QueryBudget;
 import com.unt.academic_system.model.Parent;
 import com.unt.academic_system.service.ParentService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,7 @@ public class ParentController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(4)
     public ResponseEntity<?> getParentById(@PathVariable Long id) {
         try {
             System.out.println("=== Fetching parent with ID: " + id);
@@ -67,13 +70,13 @@ public class ParentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Parent>> getAllParents() {
-        return ResponseEntity.ok(parentService.getAllParents());
+    public ResponseEntity<List<ParentSummaryDTO>> getAllParents() {
+        return ResponseEntity.ok(parentService.getAllParentSummaries());
     }
 
     @GetMapping("/relationship/{relationship}")
-    public ResponseEntity<List<Parent>> getParentsByRelationship(@PathVariable String relationship) {
-        return ResponseEntity.ok(parentService.getParentsByRelationship(relationship));
+    public ResponseEntity<List<ParentSummaryDTO>> getParentsByRelationship(@PathVariable String relationship) {
+        return ResponseEntity.ok(parentService.getParentSummariesByRelationship(relationship));
     }
 
     @PutMapping("/{id}")
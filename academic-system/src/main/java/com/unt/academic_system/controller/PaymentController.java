@@ -1,5 +1,6 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.dto.PaymentCreateDTO;
 import com.unt.academic_system.model.Course;
 import com.unt.academic_system.model.Payment;
@@ -7,11 +8,14 @@ import com.unt.academic_system.model.PaymentStatus;
 import com.unt.academic_system.model.Student;
 import com.unt.academic_system.service.PaymentService;
 import com.unt.academic_system.service.PaymentService.PaymentSummary;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.NdjsonExporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -24,6 +28,7 @@ import java.util.Optional;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final NdjsonExporter ndjsonExporter;
 
     /**
      * Record a new payment
@@ -76,6 +81,36 @@ public class PaymentController {
         return ResponseEntity.ok(paymentService.findAll());
     }
 
+    /**
+     * Get one keyset page of payments (cursor = nextCursor of the previous page)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<Payment>> getPaymentPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) String academicYear,
+            @RequestParam(required = false) Integer semester) {
+        return ResponseEntity.ok(paymentService.findPage(studentId, status, academicYear, semester,
+                cursor, CursorPagination.clampLimit(limit), CursorPagination.direction(direction)));
+    }
+
+    /**
+     * Stream all (filtered) payments as NDJSON
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) String academicYear,
+            @RequestParam(required = false) Integer semester) {
+        return ndjsonExporter.export(cursor -> paymentService.findPage(studentId, status, academicYear, semester,
+                cursor, NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
+    }
+
     /**
      * Get payment by ID
      */
@@ -0,0 +1,71 @@
+package com.unt.academic_system.controller;
+
+import com.unt.academic_system.service.JwtService;
+import com.unt.academic_system.service.NotificationPushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * Unread counts pushed to the pages (see NotificationPushService).
+ *
+ * STOMP clients subscribe to /user/queue/unread and get the current counts
+ * by subscribing to /app/unread. Pages without a STOMP client open the SSE
+ * stream; EventSource cannot send headers, so the token may also be passed
+ * as the "token" parameter.
+ */
+@RestController
+@RequestMapping("/api/push")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PushController {
+
+    private final NotificationPushService notificationPushService;
+    private final JwtService jwtService;
+
+    @GetMapping("/unread")
+    public ResponseEntity<?> resync(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                    @RequestParam(required = false) String token) {
+        String email = authenticate(authHeader, token);
+        if (email == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid or missing authentication token"));
+        }
+        return ResponseEntity.ok(notificationPushService.resync(email));
+    }
+
+    @GetMapping(value = "/stream", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> stream(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                             @RequestParam(required = false) String token) {
+        String email = authenticate(authHeader, token);
+        if (email == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok()
+                // Keeps reverse proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(notificationPushService.openStream(email));
+    }
+
+    @SubscribeMapping("/unread")
+    public Map<String, Object> resyncOnSubscribe(Principal principal) {
+        return principal != null ? notificationPushService.resync(principal.getName()) : Map.of();
+    }
+
+    private String authenticate(String authHeader, String token) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            token = authHeader.substring(7);
+        }
+        // getEmailFromToken alone also accepts expired tokens
+        if (token == null || !Boolean.TRUE.equals(jwtService.isTokenValidSafe(token))) {
+            return null;
+        }
+        return jwtService.getEmailFromToken(token);
+    }
+}
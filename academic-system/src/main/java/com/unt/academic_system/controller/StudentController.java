@@ -1,12 +1,17 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.dto.StudentSummaryDTO;
 import com.unt.academic_system.model.Student;
 import com.unt.academic_system.service.StudentService;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.NdjsonExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +24,7 @@ import java.util.Optional;
 public class StudentController {
 
     private final StudentService studentService;
+    private final NdjsonExporter ndjsonExporter;
 
     @PostMapping("/register")
     public ResponseEntity<?> registerStudent(@RequestBody Student student) {
@@ -58,23 +64,11 @@ public class StudentController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getStudentById(@PathVariable Long id) {
-        log.info("📥 GET /api/students/{} - Fetching student", id);
+        log.debug("📥 GET /api/students/{} - Fetching student", id);
 
-        Optional<Student> student = studentService.findById(id);
+        Optional<StudentSummaryDTO> student = studentService.findSummaryById(id);
 
         if (student.isPresent()) {
-            log.info("✅ Student found: {}", student.get().getStudentId());
-
-            // ✅ Debug parent data
-            if (student.get().getParent() != null) {
-                log.info("👨‍👩‍👧 Parent data: {} {} (ID: {})",
-                        student.get().getParent().getFirstName(),
-                        student.get().getParent().getLastName(),
-                        student.get().getParent().getId());
-            } else {
-                log.info("⚠️ No parent assigned to this student");
-            }
-
             return ResponseEntity.ok(student.get());
         } else {
             log.warn("⚠️ Student not found with ID: {}", id);
@@ -84,54 +78,74 @@ public class StudentController {
 
     @GetMapping("/student-id/{studentId}")
     public ResponseEntity<?> getStudentByStudentId(@PathVariable String studentId) {
-        log.info("📥 GET /api/students/student-id/{} - Fetching student", studentId);
+        log.debug("📥 GET /api/students/student-id/{} - Fetching student", studentId);
 
-        Optional<Student> student = studentService.findByStudentId(studentId);
-        return student.map(ResponseEntity::ok)
+        Optional<StudentSummaryDTO> student = studentService.findSummaryByStudentId(studentId);
+        return student.<ResponseEntity<?>>map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     @GetMapping
-    public ResponseEntity<List<Student>> getAllStudents() {
-        log.info("📥 GET /api/students - Fetching all students");
+    public ResponseEntity<List<StudentSummaryDTO>> getAllStudents() {
+        log.debug("📥 GET /api/students - Fetching all students");
 
-        List<Student> students = studentService.getAllStudents();
+        List<StudentSummaryDTO> students = studentService.getAllStudentSummaries();
 
-        // ✅ Debug parent assignments
-        long studentsWithParent = students.stream()
-                .filter(s -> s.getParent() != null)
-                .count();
+        log.debug("✅ Found {} students", students.size());
+        return ResponseEntity.ok(students);
+    }
 
-        log.info("✅ Found {} students ({} with parents assigned)",
-                students.size(), studentsWithParent);
+    /**
+     * Keyset page: GET /api/students/page?cursor=&limit=&direction=asc|desc&faculty=&program=
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<StudentSummaryDTO>> getStudentPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String faculty,
+            @RequestParam(required = false) String program) {
+        return ResponseEntity.ok(studentService.getStudentSummaryPage(faculty, program, cursor,
+                CursorPagination.clampLimit(limit), CursorPagination.direction(direction)));
+    }
 
-        return ResponseEntity.ok(students);
+    /**
+     * NDJSON export of all (filtered) students: GET /api/students/export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String faculty,
+            @RequestParam(required = false) String program) {
+        log.info("📤 GET /api/students/export");
+        return ndjsonExporter.export(cursor -> studentService.getStudentSummaryPage(faculty, program, cursor,
+                NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
     }
 
     @GetMapping("/faculty/{faculty}")
-    public ResponseEntity<List<Student>> getStudentsByFaculty(@PathVariable String faculty) {
-        log.info("📥 GET /api/students/faculty/{}", faculty);
-        return ResponseEntity.ok(studentService.getStudentsByFaculty(faculty));
+    public ResponseEntity<List<StudentSummaryDTO>> getStudentsByFaculty(@PathVariable String faculty) {
+        log.debug("📥 GET /api/students/faculty/{}", faculty);
+        return ResponseEntity.ok(studentService.getStudentSummariesByFaculty(faculty));
     }
 
     @GetMapping("/program/{program}")
-    public ResponseEntity<List<Student>> getStudentsByProgram(@PathVariable String program) {
-        log.info("📥 GET /api/students/program/{}", program);
-        return ResponseEntity.ok(studentService.getStudentsByProgram(program));
+    public ResponseEntity<List<StudentSummaryDTO>> getStudentsByProgram(@PathVariable String program) {
+        log.debug("📥 GET /api/students/program/{}", program);
+        return ResponseEntity.ok(studentService.getStudentSummariesByProgram(program));
     }
 
     @GetMapping("/year/{year}/semester/{semester}")
-    public ResponseEntity<List<Student>> getStudentsByYearAndSemester(
+    public ResponseEntity<List<StudentSummaryDTO>> getStudentsByYearAndSemester(
             @PathVariable Integer year,
             @PathVariable Integer semester) {
-        log.info("📥 GET /api/students/year/{}/semester/{}", year, semester);
-        return ResponseEntity.ok(studentService.getStudentsByYearAndSemester(year, semester));
+        log.debug("📥 GET /api/students/year/{}/semester/{}", year, semester);
+        return ResponseEntity.ok(studentService.getStudentSummariesByYearAndSemester(year, semester));
     }
 
     @GetMapping("/high-gpa/{minGpa}")
-    public ResponseEntity<List<Student>> getStudentsWithHighGPA(@PathVariable Double minGpa) {
-        log.info("📥 GET /api/students/high-gpa/{}", minGpa);
-        return ResponseEntity.ok(studentService.getStudentsWithHighGPA(minGpa));
+    public ResponseEntity<List<StudentSummaryDTO>> getStudentsWithHighGPA(@PathVariable Double minGpa) {
+        log.debug("📥 GET /api/students/high-gpa/{}", minGpa);
+        return ResponseEntity.ok(studentService.getStudentSummariesWithHighGPA(minGpa));
     }
 
     @GetMapping("/unpaid/{academicYear}/{semester}")
@@ -1,14 +1,25 @@
 package com.unt.academic_system.controller;
 
+import com.unt.academic_system.config.ConditionalGet;
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.dto.TimetableDTO;
+import com.unt.academic_system.metrics.QueryBudget;
+import com.unt.academic_system.model.AcademicYear;
+import com.unt.academic_system.model.Course;
+import com.unt.academic_system.model.DayOfWeek;
+import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.model.Timetable;
 import com.unt.academic_system.service.TimetableService;
+import com.unt.academic_system.util.CursorPagination;
 import com.unt.academic_system.util.DTOMapper;
+import com.unt.academic_system.util.NdjsonExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,8 +32,11 @@ import java.util.Optional;
 public class TimetableController {
 
     private final TimetableService timetableService;
+    private final NdjsonExporter ndjsonExporter;
 
     @GetMapping
+    @ConditionalGet({Timetable.class, Course.class, AcademicYear.class, Lecturer.class})
+    @QueryBudget(6)
     public ResponseEntity<List<TimetableDTO>> getAllTimetables() {
         try {
             log.info("GET /api/timetable - Fetching all timetables");
@@ -35,6 +49,37 @@ public class TimetableController {
         }
     }
 
+    @GetMapping("/page")
+    @ConditionalGet({Timetable.class, Course.class, AcademicYear.class, Lecturer.class})
+    @QueryBudget(6)
+    public ResponseEntity<CursorPage<TimetableDTO>> getTimetablePage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long academicYearId,
+            @RequestParam(required = false) DayOfWeek dayOfWeek) {
+        try {
+            log.info("GET /api/timetable/page - cursor={}, limit={}", cursor, limit);
+            return ResponseEntity.ok(timetableService.findPage(courseId, academicYearId, dayOfWeek,
+                    cursor, CursorPagination.clampLimit(limit), CursorPagination.direction(direction)));
+        } catch (Exception e) {
+            log.error("Error fetching timetable page: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTimetables(
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long academicYearId,
+            @RequestParam(required = false) DayOfWeek dayOfWeek) {
+        log.info("GET /api/timetable/export");
+        return ndjsonExporter.export(cursor -> timetableService.findPage(courseId, academicYearId, dayOfWeek,
+                cursor, NdjsonExporter.EXPORT_BATCH_SIZE, CursorPagination.direction(direction)));
+    }
+
     @PostMapping
     public ResponseEntity<?> createTimetable(@RequestBody Timetable timetable) {
         try {
@@ -66,6 +111,7 @@ public class TimetableController {
     }
 
     @GetMapping("/course/{courseId}")
+    @ConditionalGet({Timetable.class, Course.class, AcademicYear.class, Lecturer.class})
     public ResponseEntity<List<TimetableDTO>> getTimetableByCourse(@PathVariable Long courseId) {
         try {
             log.info("GET /api/timetable/course/{} - Fetching course timetable", courseId);
@@ -79,6 +125,8 @@ public class TimetableController {
     }
 
     @GetMapping("/student/{studentId}")
+    @ConditionalGet({Timetable.class, Course.class, AcademicYear.class, Lecturer.class, Enrollment.class})
+    @QueryBudget(7)
     public ResponseEntity<List<TimetableDTO>> getStudentTimetable(@PathVariable Long studentId) {
         try {
             log.info("GET /api/timetable/student/{} - Fetching student timetable", studentId);
@@ -92,6 +140,7 @@ public class TimetableController {
     }
 
     @GetMapping("/lecturer/{lecturerId}")
+    @ConditionalGet({Timetable.class, Course.class, AcademicYear.class, Lecturer.class})
     public ResponseEntity<?> getLecturerTimetable(@PathVariable Long lecturerId) {
         try {
             log.info("GET /api/timetable/lecturer/{} - Fetching lecturer timetable", lecturerId);
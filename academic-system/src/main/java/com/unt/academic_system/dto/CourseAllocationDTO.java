@@ -0,0 +1,39 @@
+package com.unt.academic_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Desired lecturer -> courses mapping for a bulk (re)assignment.
+ *
+ * Every lecturer listed ends up teaching exactly the listed courses.
+ * When a department is given, its courses that appear in no list are unassigned,
+ * so a whole department's allocation can be applied in one request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseAllocationDTO {
+
+    private String department;
+
+    // lecturerId -> course IDs
+    private Map<Long, List<Long>> allocations = new HashMap<>();
+
+    /**
+     * Outcome of applying an allocation: only changed rows are written
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AllocationResult {
+        private int assigned;
+        private int unassigned;
+        private int unchanged;
+    }
+}
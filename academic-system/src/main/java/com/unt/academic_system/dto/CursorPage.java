@@ -0,0 +1,20 @@
+package com.unt.academic_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ * Pass nextCursor back as the "cursor" request parameter to get the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasMore;
+}
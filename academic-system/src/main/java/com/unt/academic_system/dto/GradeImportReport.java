@@ -0,0 +1,34 @@
+package com.unt.academic_system.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a grade-sheet import: one entry per data row of the sheet, in
+ * sheet order, plus totals. Rejected rows are not applied; the others are,
+ * unless the import was a dry run.
+ */
+@Data
+@NoArgsConstructor
+public class GradeImportReport {
+
+    public enum Outcome { UPDATED, VALID, REJECTED }
+
+    /**
+     * @param line sheet line (CSV) or row (XLSX) number, the header usually being 1
+     */
+    public record Row(long line, Long enrollmentId, Outcome outcome,
+                      Double totalGrade, String letterGrade, String error) {
+    }
+
+    private boolean dryRun;
+    private int totalRows;
+    private int accepted;
+    private int rejected;
+    private int studentsRecomputed;
+    private long durationMs;
+    private List<Row> rows = new ArrayList<>();
+}
@@ -62,6 +62,31 @@ public class LecturerDTO {
         this.courses = new ArrayList<>();
     }
 
+    /**
+     * Constructor used by the JPQL projection in LecturerRepository
+     */
+    public LecturerDTO(Long id, String email, String firstName, String lastName, String phoneNumber,
+                       UserRole role, Boolean isActive, String employeeId, String department,
+                       String qualification, String specialization, String officeLocation,
+                       String officeHours, LocalDate hireDate) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.role = role;
+        this.isActive = isActive;
+        this.employeeId = employeeId;
+        this.department = department;
+        this.qualification = qualification;
+        this.specialization = specialization;
+        this.officeLocation = officeLocation;
+        this.officeHours = officeHours;
+        this.hireDate = hireDate;
+        this.courseCount = 0;
+        this.courses = new ArrayList<>();
+    }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
@@ -0,0 +1,18 @@
+package com.unt.academic_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id and sender of a message, all a read receipt needs.
+ * Projection of the unread-message queries of ChatMessageRepository and
+ * ChatGroupMessageRepository.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageRef {
+    private Long id;
+    private String senderId;
+}
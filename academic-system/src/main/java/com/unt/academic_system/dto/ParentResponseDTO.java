@@ -1,7 +1,11 @@
 package com.unt.academic_system.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.unt.academic_system.model.*;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,7 +22,11 @@ public class ParentResponseDTO {
     private String occupation;
     private List<StudentBasicDTO> children;
 
+    // The constructors below are the projections of the dashboard queries
+    // (StudentRepository, EnrollmentRepository and PaymentRepository findDashboard*)
+
     @Data
+    @NoArgsConstructor
     public static class StudentBasicDTO {
         private Long id;
         private String firstName;
@@ -31,10 +39,28 @@ public class ParentResponseDTO {
         private Integer currentSemester;
         private List<EnrollmentBasicDTO> enrollments;
         private List<PaymentBasicDTO> payments;
+
+        public StudentBasicDTO(Long id, String firstName, String lastName, String email, String studentId,
+                               String faculty, String program, Integer currentYear, Integer currentSemester) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.studentId = studentId;
+            this.faculty = faculty;
+            this.program = program;
+            this.currentYear = currentYear;
+            this.currentSemester = currentSemester;
+            this.enrollments = new ArrayList<>();
+            this.payments = new ArrayList<>();
+        }
     }
 
     @Data
+    @NoArgsConstructor
     public static class EnrollmentBasicDTO {
+        @JsonIgnore
+        private Long studentRef;
         private Long id;
         private String academicYear;
         private Integer semester;
@@ -44,6 +70,29 @@ public class ParentResponseDTO {
         private Double totalGrade;
         private String letterGrade;
         private CourseBasicDTO course;
+
+        public EnrollmentBasicDTO(Long studentRef, Long id, String academicYear, Integer semester,
+                                  EnrollmentStatus status, Double midtermGrade, Double finalGrade,
+                                  Double totalGrade, String letterGrade,
+                                  Long courseId, String courseCode, String courseName, Integer credits,
+                                  String courseFaculty, String courseDepartment) {
+            this.studentRef = studentRef;
+            this.id = id;
+            this.academicYear = academicYear;
+            this.semester = semester;
+            this.status = status != null ? status.toString() : null;
+            this.midtermGrade = midtermGrade;
+            this.finalGrade = finalGrade;
+            this.totalGrade = totalGrade;
+            this.letterGrade = letterGrade;
+            this.course = new CourseBasicDTO();
+            this.course.setId(courseId);
+            this.course.setCourseCode(courseCode);
+            this.course.setCourseName(courseName);
+            this.course.setCredits(credits);
+            this.course.setFaculty(courseFaculty);
+            this.course.setDepartment(courseDepartment);
+        }
     }
 
     @Data
@@ -57,7 +106,10 @@ public class ParentResponseDTO {
     }
 
     @Data
+    @NoArgsConstructor
     public static class PaymentBasicDTO {
+        @JsonIgnore
+        private Long studentRef;
         private Long id;
         private Double amount;
         private String academicYear;
@@ -68,6 +120,22 @@ public class ParentResponseDTO {
         private String transactionReference;
         private String paymentDate;
         private String processedBy;
+
+        public PaymentBasicDTO(Long studentRef, Long id, Double amount, String academicYear, Integer semester,
+                               PaymentType paymentType, PaymentMethod paymentMethod, PaymentStatus paymentStatus,
+                               String transactionReference, LocalDateTime paymentDate, String processedBy) {
+            this.studentRef = studentRef;
+            this.id = id;
+            this.amount = amount;
+            this.academicYear = academicYear;
+            this.semester = semester;
+            this.paymentType = paymentType != null ? paymentType.toString() : null;
+            this.paymentMethod = paymentMethod != null ? paymentMethod.toString() : null;
+            this.paymentStatus = paymentStatus != null ? paymentStatus.toString() : null;
+            this.transactionReference = transactionReference;
+            this.paymentDate = paymentDate != null ? paymentDate.toString() : null;
+            this.processedBy = processedBy;
+        }
     }
 
     public static ParentResponseDTO fromEntity(Parent parent) {
@@ -0,0 +1,34 @@
+package com.unt.academic_system.dto;
+
+import com.unt.academic_system.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for parent list endpoints: one row per parent with the number of
+ * linked children computed in the same statement.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParentSummaryDTO {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private UserRole role;
+    private Boolean isActive;
+    private String relationship;
+    private String occupation;
+    private String address;
+    private LocalDateTime createdAt;
+    private Long childrenCount;
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,80 @@
+package com.unt.academic_system.dto;
+
+import com.unt.academic_system.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for student list/detail endpoints.
+ * Built by a JPQL constructor expression (see StudentRepository) so the whole row,
+ * including the parent summary, comes from a single statement and never touches
+ * the lazy parent/enrollments associations. Same JSON shape as the Student entity
+ * minus the password and collections.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSummaryDTO {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private UserRole role;
+    private Boolean isActive;
+    private String profileImageUrl;
+    private String studentId;
+    private LocalDate dateOfBirth;
+    private String faculty;
+    private String program;
+    private Integer currentYear;
+    private Integer currentSemester;
+    private String academicYear;
+    private LocalDate enrollmentDate;
+    private Double cumulativeGPA;
+    private Integer totalCreditsEarned;
+    private String address;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private ParentBasicDTO parent;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParentBasicDTO {
+        private Long id;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String phoneNumber;
+        private String relationship;
+    }
+
+    /**
+     * Constructor used by JPQL "SELECT new ..." (parent columns come from a LEFT JOIN)
+     */
+    public StudentSummaryDTO(Long id, String email, String firstName, String lastName, String phoneNumber,
+                             UserRole role, Boolean isActive, String profileImageUrl, String studentId,
+                             LocalDate dateOfBirth, String faculty, String program, Integer currentYear,
+                             Integer currentSemester, String academicYear, LocalDate enrollmentDate,
+                             Double cumulativeGPA, Integer totalCreditsEarned, String address,
+                             LocalDateTime createdAt, LocalDateTime updatedAt,
+                             Long parentId, String parentFirstName, String parentLastName,
+                             String parentEmail, String parentPhoneNumber, String parentRelationship) {
+        this(id, email, firstName, lastName, phoneNumber, role, isActive, profileImageUrl, studentId,
+                dateOfBirth, faculty, program, currentYear, currentSemester, academicYear, enrollmentDate,
+                cumulativeGPA, totalCreditsEarned, address, createdAt, updatedAt,
+                parentId != null
+                        ? new ParentBasicDTO(parentId, parentFirstName, parentLastName,
+                        parentEmail, parentPhoneNumber, parentRelationship)
+                        : null);
+    }
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,33 @@
+package com.unt.academic_system.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one call of a controller or @MessageMapping
+ * method may issue, lazy loads during JSON serialization included.
+ *
+ * Checked by QueryBudgetMonitor. Going over the budget is logged and counted;
+ * with app.query-budget.fail-on-violation=true (integration tests) an HTTP
+ * call is answered with a 500 instead (QueryBudgetFilter). STOMP handlers
+ * are only logged and counted: their outcome is already delivered.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of statements per call.
+     */
+    int value();
+
+    /**
+     * Maximum number of times one statement may repeat within a call before it
+     * is reported as an N+1 pattern. -1 uses app.query-budget.max-repeats.
+     */
+    int maxRepeats() default -1;
+}
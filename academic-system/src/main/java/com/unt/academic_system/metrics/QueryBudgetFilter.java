@@ -0,0 +1,82 @@
+package com.unt.academic_system.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Fails HTTP calls that went over their @QueryBudget, for integration tests
+ * (app.query-budget.fail-on-violation=true).
+ *
+ * The response is held back in a ContentCachingResponseWrapper until the
+ * handler is done, so that a violation recorded by QueryCountInterceptor can
+ * still replace it with a 500 and {"error": "Query budget exceeded: ..."}.
+ * Server-sent event streams are passed through unbuffered.
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-budget.fail-on-violation", havingValue = "true")
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String VIOLATION_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".violation";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Streaming responses finish on the async dispatch, which has to copy the body out
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpServletResponse responseToUse = response;
+        if (!isAsyncDispatch(request) && !(response instanceof ContentCachingResponseWrapper)) {
+            responseToUse = new ContentCachingResponseWrapper(response);
+        }
+        try {
+            chain.doFilter(request, responseToUse);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                complete(request, responseToUse);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ContentCachingResponseWrapper wrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            return;
+        }
+        if (request.getAttribute(VIOLATION_ATTRIBUTE) instanceof String violation && !wrapper.isCommitted()) {
+            wrapper.resetBuffer();
+            wrapper.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.getOutputStream().write(
+                    objectMapper.writeValueAsBytes(Map.of("error", "Query budget exceeded: " + violation)));
+        }
+        wrapper.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,84 @@
+package com.unt.academic_system.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Checks the statements of one HTTP request or STOMP message against its
+ * {@link QueryBudget} and looks for N+1 patterns.
+ *
+ * Any unit of work where one statement repeats more than
+ * app.query-budget.max-repeats times is logged as a possible N+1, annotated
+ * or not. For annotated methods, going over the budget (or over the repeat
+ * limit) is a violation: it is logged, counted in query.budget.violations
+ * and returned to the caller. For HTTP requests QueryCountInterceptor records
+ * it on the request, and with app.query-budget.fail-on-violation=true
+ * QueryBudgetFilter turns the response into a 500 so that integration tests
+ * catch it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetMonitor {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.query-budget.max-repeats:10}")
+    private int maxRepeats;
+
+    /**
+     * @param endpoint "GET /api/courses" or a STOMP destination
+     * @param budget   the budget of the handler method, or null if it has none
+     * @return a description of the violation, or null if the call stayed within its budget
+     */
+    public String check(String endpoint, QueryCounter.Scope scope, QueryBudget budget) {
+        String violation = null;
+
+        if (budget != null && scope.getStatements() > budget.value()) {
+            violation = endpoint + " issued " + scope.getStatements()
+                    + " SQL statements, its budget is " + budget.value();
+            countViolation(endpoint, "statements");
+        }
+
+        int repeatLimit = budget != null && budget.maxRepeats() >= 0 ? budget.maxRepeats() : maxRepeats;
+        Map.Entry<String, Integer> top = scope.mostRepeated();
+        if (top != null && top.getValue() > repeatLimit) {
+            String sql = abbreviate(top.getKey());
+            log.warn("⚠️ Possible N+1 on {}: the same statement ran {} times: {}", endpoint, top.getValue(), sql);
+            if (budget != null && violation == null) {
+                violation = endpoint + " repeated one statement " + top.getValue()
+                        + " times, the limit is " + repeatLimit + ": " + sql;
+                countViolation(endpoint, "repeats");
+            }
+        }
+
+        if (violation != null) {
+            log.warn("⚠️ Query budget exceeded: {}", violation);
+        }
+        return violation;
+    }
+
+    private void countViolation(String endpoint, String kind) {
+        Counter.builder("query.budget.violations")
+                .description("Calls of @QueryBudget methods that went over their budget")
+                .tag("endpoint", endpoint)
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,95 @@
+package com.unt.academic_system.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Records how many SQL statements each controller call issues, as the
+ * http.server.queries distribution tagged like http.server.requests
+ * (method, uri, status). A growing count for one uri is the usual sign of
+ * an N+1 pattern.
+ *
+ * Once the response body is written (postHandle), the statements are also
+ * checked by QueryBudgetMonitor against the handler's @QueryBudget. A
+ * violation is recorded on the request for QueryBudgetFilter: the body of a
+ * @ResponseBody method is already written at this point, so the call can no
+ * longer be failed from here.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String METRIC_NAME = "http.server.queries";
+
+    private static final String SCOPE_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async re-dispatch of a streaming response is not a new request
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryCounter.begin());
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryCounter.Scope scope) {
+            String violation = queryBudgetMonitor.check(request.getMethod() + " " + uri(request), scope,
+                    handlerMethod.getMethodAnnotation(QueryBudget.class));
+            if (violation != null) {
+                request.setAttribute(QueryBudgetFilter.VIOLATION_ATTRIBUTE, violation);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter.Scope scope = takeScope(request);
+        if (scope == null) {
+            return;
+        }
+        long statements = QueryCounter.end(scope);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses continue on another thread; only the handler part was counted
+        QueryCounter.Scope scope = takeScope(request);
+        if (scope != null) {
+            QueryCounter.end(scope);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static QueryCounter.Scope takeScope(HttpServletRequest request) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        return scope instanceof QueryCounter.Scope s ? s : null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.unt.academic_system.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * Registered as the session factory's StatementInspector (see MetricsConfig).
+ * A unit of work (an HTTP request, a STOMP message) opens a scope with
+ * begin() and closes it with end(); statements issued outside a scope are
+ * not counted. Plain JdbcTemplate statements do not go through Hibernate and
+ * are not counted either.
+ *
+ * Each scope also counts how often every statement shape was issued. Hibernate
+ * binds values as parameters, so the same lazy load repeated for each row of a
+ * list shows up as one SQL string with a high count (the N+1 pattern).
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements++;
+            scope.shapes.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Opens a scope on the current thread. Scopes nest (e.g. an error
+     * dispatch inside a request); the outer scope also counts the statements
+     * of the inner one.
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Closes the scope and returns the number of statements issued in it.
+     */
+    public static long end(Scope scope) {
+        if (CURRENT.get() == scope) {
+            if (scope.parent != null) {
+                CURRENT.set(scope.parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        if (scope.parent != null) {
+            scope.parent.statements += scope.statements;
+            scope.shapes.forEach((sql, count) -> scope.parent.shapes.merge(sql, count, Integer::sum));
+        }
+        return scope.statements;
+    }
+
+    public static final class Scope {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private long statements;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+
+        /**
+         * The statement issued most often in this scope, or null if none was issued.
+         */
+        public Map.Entry<String, Integer> mostRepeated() {
+            Map.Entry<String, Integer> top = null;
+            for (Map.Entry<String, Integer> shape : shapes.entrySet()) {
+                if (top == null || shape.getValue() > top.getValue()) {
+                    top = shape;
+                }
+            }
+            return top;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.unt.academic_system.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.HandlerMethod;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics for the STOMP broker:
+ * - stomp.inbound.handler: latency of each @MessageMapping handler, by destination
+ * - stomp.inbound.queries: SQL statements issued per handled message, by destination,
+ *   also checked against the handler's @QueryBudget by QueryBudgetMonitor
+ * - stomp.channel.queue.depth / stomp.channel.active.threads: backlog of the
+ *   inbound, outbound and broker channel executors (always 0 for the virtual
+ *   thread executors of VirtualThreadConfig, which have no queue or pool)
+ * - stomp.sessions.active / stomp.users.connected
+ * - stomp.broker.fanout: number of sessions each broadcast or user message is delivered to
+ *
+ * The interceptors are registered by WebSocketConfig. Broker beans are looked
+ * up lazily because they are created by the same configuration.
+ */
+@Component
+public class StompMetrics {
+
+    private static final String UNMATCHED = "UNMATCHED";
+    private static final String USER_PREFIX = "/user/";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+    private final BeanFactory beanFactory;
+    private final ObjectProvider<SimpUserRegistry> userRegistry;
+    private final ObjectProvider<AbstractBrokerMessageHandler> brokerHandlers;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final ThreadLocal<HandlerInvocation> currentInvocation = new ThreadLocal<>();
+    private volatile Map<String, HandlerMethod> mappedDestinations;
+    private volatile SimpleBrokerMessageHandler simpleBroker;
+
+    public StompMetrics(MeterRegistry meterRegistry,
+                        QueryBudgetMonitor queryBudgetMonitor,
+                        BeanFactory beanFactory,
+                        ObjectProvider<SimpUserRegistry> userRegistry,
+                        ObjectProvider<AbstractBrokerMessageHandler> brokerHandlers) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudgetMonitor = queryBudgetMonitor;
+        this.beanFactory = beanFactory;
+        this.userRegistry = userRegistry;
+        this.brokerHandlers = brokerHandlers;
+
+        Gauge.builder("stomp.sessions.active", activeSessions, AtomicInteger::get)
+                .description("Open STOMP sessions")
+                .register(meterRegistry);
+        Gauge.builder("stomp.users.connected", this, StompMetrics::connectedUsers)
+                .description("Distinct users with at least one STOMP session")
+                .register(meterRegistry);
+        registerExecutorGauges("inbound", "clientInboundChannelExecutor");
+        registerExecutorGauges("outbound", "clientOutboundChannelExecutor");
+        registerExecutorGauges("broker", "brokerChannelExecutor");
+    }
+
+    /**
+     * For clientInboundChannel: times the @MessageMapping handler and counts its queries.
+     */
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                if (handler instanceof SimpAnnotationMethodMessageHandler
+                        && SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))) {
+                    currentInvocation.set(new HandlerInvocation(Timer.start(meterRegistry), QueryCounter.begin()));
+                }
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+                HandlerInvocation invocation = currentInvocation.get();
+                if (invocation == null || !(handler instanceof SimpAnnotationMethodMessageHandler methodHandler)) {
+                    return;
+                }
+                currentInvocation.remove();
+                long statements = QueryCounter.end(invocation.scope());
+                String sentTo = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                HandlerMethod handlerMethod = sentTo != null ? mappedDestinations(methodHandler).get(sentTo) : null;
+                String destination = handlerMethod != null ? sentTo : UNMATCHED;
+
+                invocation.sample().stop(Timer.builder("stomp.inbound.handler")
+                        .description("@MessageMapping handler latency")
+                        .tag("destination", destination)
+                        .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                        .register(meterRegistry));
+                DistributionSummary.builder("stomp.inbound.queries")
+                        .description("SQL statements issued per handled STOMP message")
+                        .tag("destination", destination)
+                        .register(meterRegistry)
+                        .record(statements);
+
+                if (handlerMethod != null) {
+                    queryBudgetMonitor.check(destination, invocation.scope(),
+                            handlerMethod.getMethodAnnotation(QueryBudget.class));
+                }
+            }
+        };
+    }
+
+    /**
+     * For brokerChannel: records how many sessions each message is delivered to.
+     * A user destination is counted once, with the sessions of that user, and
+     * not again for each per-session message it is translated into.
+     */
+    public ChannelInterceptor brokerInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                MessageHeaders headers = message.getHeaders();
+                String destination = SimpMessageHeaderAccessor.getDestination(headers);
+                if (!SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers))
+                        || destination == null
+                        || SimpMessageHeaderAccessor.getFirstNativeHeader(
+                                SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, headers) != null) {
+                    return message;
+                }
+
+                if (destination.startsWith(USER_PREFIX)) {
+                    recordFanOut("user", userSessions(destination));
+                } else {
+                    SimpleBrokerMessageHandler broker = simpleBroker();
+                    if (broker != null) {
+                        recordFanOut(destination.startsWith("/topic") ? "topic" : "queue",
+                                broker.getSubscriptionRegistry().findSubscriptions(message).size());
+                    }
+                }
+                return message;
+            }
+        };
+    }
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        activeSessions.incrementAndGet();
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        activeSessions.updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    private void recordFanOut(String kind, int sessions) {
+        DistributionSummary.builder("stomp.broker.fanout")
+                .description("Sessions a broker message is delivered to")
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .record(sessions);
+    }
+
+    private int userSessions(String destination) {
+        // /user/{name}/queue/...
+        int end = destination.indexOf('/', USER_PREFIX.length());
+        if (end < 0) {
+            return 0;
+        }
+        String name = destination.substring(USER_PREFIX.length(), end).replace("%2F", "/");
+        SimpUserRegistry registry = userRegistry.getIfAvailable();
+        SimpUser user = registry != null ? registry.getUser(name) : null;
+        return user != null ? user.getSessions().size() : 0;
+    }
+
+    private double connectedUsers() {
+        SimpUserRegistry registry = userRegistry.getIfAvailable();
+        return registry != null ? registry.getUserCount() : 0;
+    }
+
+    private SimpleBrokerMessageHandler simpleBroker() {
+        SimpleBrokerMessageHandler broker = simpleBroker;
+        if (broker == null) {
+            for (AbstractBrokerMessageHandler handler : brokerHandlers) {
+                if (handler instanceof SimpleBrokerMessageHandler found) {
+                    simpleBroker = broker = found;
+                }
+            }
+        }
+        return broker;
+    }
+
+    /**
+     * Client-sent destinations are only used as a tag when a handler is mapped
+     * to them, so arbitrary destinations cannot blow up the tag cardinality.
+     */
+    private Map<String, HandlerMethod> mappedDestinations(SimpAnnotationMethodMessageHandler handler) {
+        Map<String, HandlerMethod> mapped = mappedDestinations;
+        if (mapped == null) {
+            mapped = new HashMap<>();
+            for (Map.Entry<SimpMessageMappingInfo, HandlerMethod> entry : handler.getHandlerMethods().entrySet()) {
+                for (String pattern : entry.getKey().getDestinationConditions().getPatterns()) {
+                    for (String prefix : handler.getDestinationPrefixes()) {
+                        mapped.put(prefix.replaceAll("/$", "") + pattern, entry.getValue());
+                    }
+                }
+            }
+            mappedDestinations = mapped;
+        }
+        return mapped;
+    }
+
+    private void registerExecutorGauges(String channel, String executorBean) {
+        Gauge.builder("stomp.channel.queue.depth", () -> {
+                    ThreadPoolTaskExecutor executor = executor(executorBean);
+                    return executor != null ? executor.getThreadPoolExecutor().getQueue().size() : 0;
+                })
+                .description("Messages waiting for a channel thread")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.active.threads", () -> {
+                    ThreadPoolTaskExecutor executor = executor(executorBean);
+                    return executor != null ? executor.getActiveCount() : 0;
+                })
+                .description("Channel threads handling a message")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor executor(String beanName) {
+        if (!beanFactory.containsBean(beanName)) {
+            return null;
+        }
+        Object bean = beanFactory.getBean(beanName);
+        if (bean instanceof ThreadPoolTaskExecutor executor) {
+            try {
+                executor.getThreadPoolExecutor();
+                return executor;
+            } catch (IllegalStateException notInitialized) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private record HandlerInvocation(Timer.Sample sample, QueryCounter.Scope scope) {
+    }
+}
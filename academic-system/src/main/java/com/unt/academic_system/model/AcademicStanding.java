@@ -0,0 +1,75 @@
+package com.unt.academic_system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized academic standing of one student, recomputed from the student's
+ * graded enrollments whenever a grade changes (see AcademicStandingService).
+ * Rankings and at-risk lists read this table through its GPA indexes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "academic_standings", indexes = {
+        @Index(name = "idx_standing_gpa", columnList = "cumulative_gpa"),
+        @Index(name = "idx_standing_faculty_gpa", columnList = "faculty, cumulative_gpa")
+})
+public class AcademicStanding {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(nullable = false, length = 100)
+    private String faculty;
+
+    // Credit-weighted, 4.0 scale
+    @Column(name = "cumulative_gpa", nullable = false)
+    private Double cumulativeGpa = 0.0;
+
+    // Credits of graded (completed or failed) courses, i.e. the GPA weight
+    @Column(name = "graded_credits", nullable = false)
+    private Integer gradedCredits = 0;
+
+    @Column(name = "earned_credits", nullable = false)
+    private Integer earnedCredits = 0;
+
+    @Column(name = "completed_courses", nullable = false)
+    private Integer completedCourses = 0;
+
+    @Column(name = "failed_courses", nullable = false)
+    private Integer failedCourses = 0;
+
+    // Letter distribution
+    @Column(name = "grade_a", nullable = false)
+    private Integer gradeA = 0;
+
+    @Column(name = "grade_b_plus", nullable = false)
+    private Integer gradeBPlus = 0;
+
+    @Column(name = "grade_b", nullable = false)
+    private Integer gradeB = 0;
+
+    @Column(name = "grade_c_plus", nullable = false)
+    private Integer gradeCPlus = 0;
+
+    @Column(name = "grade_c", nullable = false)
+    private Integer gradeC = 0;
+
+    @Column(name = "grade_d", nullable = false)
+    private Integer gradeD = 0;
+
+    @Column(name = "grade_f", nullable = false)
+    private Integer gradeF = 0;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
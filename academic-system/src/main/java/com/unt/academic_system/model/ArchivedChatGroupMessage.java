@@ -0,0 +1,84 @@
+package com.unt.academic_system.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Group message older than app.chat.archive.after-days, moved out of
+ * chat_group_messages by ChatArchiveService. Keeps the id of the original
+ * message; the group is kept as a plain id (groups are only deactivated,
+ * never deleted). Read through ChatGroupService as ChatGroupMessage.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "chat_group_messages_archive", indexes = {
+        @Index(name = "idx_group_archive_group_timestamp", columnList = "group_id, timestamp"),
+        @Index(name = "idx_group_archive_timestamp", columnList = "timestamp")
+})
+public class ArchivedChatGroupMessage {
+
+    @Id
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private String senderId;
+
+    @Column(nullable = false, length = 100)
+    private String senderName;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChatGroupMessage.MessageType type;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Column(length = 50)
+    private String status;
+
+    @Column(length = 500)
+    private String fileName;
+
+    @Column(length = 1000)
+    private String fileUrl;
+
+    @Column
+    private Long fileSize;
+
+    @Column(columnDefinition = "TEXT")
+    private String readBy;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ChatGroupMessage toMessage(ChatGroup group) {
+        ChatGroupMessage message = new ChatGroupMessage();
+        message.setId(id);
+        message.setGroup(group);
+        message.setSenderId(senderId);
+        message.setSenderName(senderName);
+        message.setContent(content);
+        message.setType(type);
+        message.setTimestamp(timestamp);
+        message.setStatus(status);
+        message.setFileName(fileName);
+        message.setFileUrl(fileUrl);
+        message.setFileSize(fileSize);
+        message.setReadBy(readBy);
+        return message;
+    }
+}
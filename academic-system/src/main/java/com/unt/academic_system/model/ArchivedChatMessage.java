@@ -0,0 +1,79 @@
+package com.unt.academic_system.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Private message older than app.chat.archive.after-days, moved out of
+ * chat_messages by ChatArchiveService. Keeps the id of the original message.
+ * Read through ChatService as ChatMessage (see toMessage).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "chat_messages_archive", indexes = {
+        @Index(name = "idx_chat_archive_conversation", columnList = "sender_id, recipient_id, timestamp"),
+        @Index(name = "idx_chat_archive_timestamp", columnList = "timestamp")
+})
+public class ArchivedChatMessage {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "sender_id", nullable = false)
+    private String senderId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private String recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChatMessage.MessageType type;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(length = 50)
+    private String status;
+
+    @Column
+    private String fileName;
+
+    @Column
+    private String fileUrl;
+
+    @Column
+    private Long fileSize;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ChatMessage toMessage() {
+        ChatMessage message = new ChatMessage();
+        message.setId(id);
+        message.setContent(content);
+        message.setSenderId(senderId);
+        message.setRecipientId(recipientId);
+        message.setType(type);
+        message.setTimestamp(timestamp);
+        message.setRead(read);
+        message.setStatus(status);
+        message.setFileName(fileName);
+        message.setFileUrl(fileUrl);
+        message.setFileSize(fileSize);
+        return message;
+    }
+}
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "chat_group_messages")
+@Table(name = "chat_group_messages", indexes = {
+        @Index(name = "idx_group_message_group_timestamp", columnList = "group_id, timestamp"),
+        @Index(name = "idx_group_message_timestamp", columnList = "timestamp")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ChatGroupMessage {
 
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_conversation", columnList = "sender_id, recipient_id, timestamp"),
+        @Index(name = "idx_chat_recipient_read", columnList = "recipient_id, is_read"),
+        @Index(name = "idx_chat_timestamp", columnList = "timestamp")
+})
 public class ChatMessage {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
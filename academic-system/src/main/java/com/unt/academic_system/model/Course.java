@@ -2,11 +2,14 @@ package com.unt.academic_system.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.unt.academic_system.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,7 +22,11 @@ import java.util.Set;
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = {"lecturer", "prerequisites", "enrollments", "contents"})
 @Entity
-@Table(name = "courses")
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_course_updated_at", columnList = "updated_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSE_REGION)
+@EntityListeners(ReferenceDataChangeListener.class)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Course {
 
@@ -73,6 +80,7 @@ public class Course {
      * Using @JsonIgnoreProperties to prevent circular references
      */
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSE_PREREQUISITES_REGION)
     @JoinTable(
             name = "course_prerequisites",
             joinColumns = @JoinColumn(name = "course_id"),
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "course_contents")
+@Table(name = "course_contents", indexes = {
+        @Index(name = "idx_course_content_updated_at", columnList = "updated_at")
+})
 public class CourseContent {
 
     @Id
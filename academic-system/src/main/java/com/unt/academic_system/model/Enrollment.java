@@ -14,8 +14,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ParentDashboardChangeListener.class)
 @Table(name = "enrollments", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"student_id", "course_id", "academic_year", "semester"})
+}, indexes = {
+        @Index(name = "idx_enrollment_student_status", columnList = "student_id, status"),
+        @Index(name = "idx_enrollment_updated_at", columnList = "updated_at")
 })
 public class Enrollment {
 
@@ -2,10 +2,13 @@ package com.unt.academic_system.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.unt.academic_system.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,6 +21,8 @@ import java.util.Set;
 @AllArgsConstructor
 @Entity
 @Table(name = "faculties")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.FACULTY_REGION)
+@EntityListeners(ReferenceDataChangeListener.class)
 public class Faculty {
 
     @Id
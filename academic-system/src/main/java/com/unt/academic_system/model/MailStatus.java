@@ -0,0 +1,8 @@
+package com.unt.academic_system.model;
+
+public enum MailStatus {
+    PENDING,   // waiting for (re)delivery at nextAttemptAt
+    SENDING,   // claimed by a mail worker
+    SENT,
+    FAILED     // gave up after the maximum number of attempts
+}
@@ -4,34 +4,36 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * Write-through copy of a live OTP (only used when app.otp.write-through=true),
+ * so pending codes and attempt counters survive a restart.
+ * Only the salted SHA-256 of the code is stored, never the code itself.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "otp_codes")
+@Table(name = "otp_store", indexes = {
+        @Index(name = "idx_otp_store_expiry", columnList = "expiryTime")
+})
 public class OTP {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
     @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false, length = 6)
-    private String code;
+    @Column(nullable = false, length = 64)
+    private String codeHash;
+
+    @Column(nullable = false, length = 32)
+    private String salt;
 
     @Column(nullable = false)
     private LocalDateTime expiryTime;
 
     @Column(nullable = false)
-    private Boolean isUsed = false;
-
-    @CreationTimestamp
-    @Column(nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-}
\ No newline at end of file
+    private Integer attempts = 0;
+}
@@ -15,6 +15,7 @@ import java.util.Set;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(ParentDashboardChangeListener.class)
 @Table(name = "parents")
 public class Parent extends User {
 
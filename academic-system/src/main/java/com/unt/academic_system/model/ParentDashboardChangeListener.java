@@ -0,0 +1,55 @@
+package com.unt.academic_system.model;
+
+import com.unt.academic_system.config.CacheConfig;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the cached parent dashboard (CacheConfig.PARENT_DASHBOARD) when one
+ * of the entities it is built from changes: grades and status of an
+ * enrollment, a payment, a student or the parent itself.
+ *
+ * The cache is transaction aware, so evictions only happen once the
+ * transaction commits. A student change clears every entry because the
+ * student may just have been moved away from another parent.
+ */
+@Component
+public class ParentDashboardChangeListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public ParentDashboardChangeListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Cache cache = cacheManager.getObject().getCache(CacheConfig.PARENT_DASHBOARD);
+        if (cache == null) {
+            return;
+        }
+
+        if (entity instanceof Parent parent) {
+            cache.evict(parent.getId());
+        } else if (entity instanceof Student) {
+            cache.clear();
+        } else if (entity instanceof Enrollment enrollment) {
+            evictParentOf(cache, enrollment.getStudent());
+        } else if (entity instanceof Payment payment) {
+            evictParentOf(cache, payment.getStudent());
+        }
+    }
+
+    private void evictParentOf(Cache cache, Student student) {
+        if (student != null && student.getParent() != null) {
+            cache.evict(student.getParent().getId());
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ParentDashboardChangeListener.class)
 @Table(name = "payments", indexes = {
         @Index(name = "idx_student_id", columnList = "student_id"),
         @Index(name = "idx_transaction_ref", columnList = "transaction_reference"),
@@ -31,12 +32,12 @@ public class Payment {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
-    @JsonIgnoreProperties({"enrollments", "payments", "parent", "password"})
+    @JsonIgnoreProperties({"enrollments", "payments", "parent", "password", "hibernateLazyInitializer", "handler"})
     private Student student;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id")
-    @JsonIgnoreProperties({"enrollments", "prerequisites", "courseMaterials", "lecturer"})
+    @JsonIgnoreProperties({"enrollments", "prerequisites", "courseMaterials", "lecturer", "hibernateLazyInitializer", "handler"})
     private Course course;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,33 @@
+package com.unt.academic_system.model;
+
+import com.unt.academic_system.service.CacheInvalidationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every write to a second-level cached entity so that the other
+ * application nodes evict their copy (see CacheInvalidationService).
+ *
+ * Runs during the flush, so the record is written in the same transaction as
+ * the change and is rolled back with it. The service is looked up lazily: the
+ * listener is created with the EntityManagerFactory the service depends on.
+ */
+@Component
+public class ReferenceDataChangeListener {
+
+    private final ObjectProvider<CacheInvalidationService> cacheInvalidationService;
+
+    public ReferenceDataChangeListener(ObjectProvider<CacheInvalidationService> cacheInvalidationService) {
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        cacheInvalidationService.getObject().recordChange(entity);
+    }
+}
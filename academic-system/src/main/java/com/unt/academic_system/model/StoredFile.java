@@ -0,0 +1,43 @@
+package com.unt.academic_system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stored blob, shared by every upload with identical content.
+ * refCount is the number of course contents / chat messages pointing at it;
+ * the blob is removed when it drops to zero.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "stored_files")
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256, hex
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", length = 150)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -16,7 +16,10 @@ import java.util.Set;
 @EqualsAndHashCode(callSuper = true, exclude = {"enrollments", "payments", "parent"})
 @ToString(callSuper = true, exclude = {"enrollments", "payments", "parent"})
 @Entity
-@Table(name = "students")
+@EntityListeners(ParentDashboardChangeListener.class)
+@Table(name = "students", indexes = {
+        @Index(name = "idx_student_gpa", columnList = "cumulative_gpa")
+})
 public class Student extends User {
 
     @Column(name = "student_id", nullable = false, unique = true, length = 20)
@@ -0,0 +1,45 @@
+package com.unt.academic_system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-semester GPA of one student, maintained alongside AcademicStanding.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "term_standings", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"student_id", "academic_year", "semester"})
+})
+public class TermStanding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "academic_year", nullable = false, length = 20)
+    private String academicYear;
+
+    @Column(nullable = false)
+    private Integer semester;
+
+    // Credit-weighted, 4.0 scale
+    @Column(nullable = false)
+    private Double gpa = 0.0;
+
+    @Column(name = "graded_credits", nullable = false)
+    private Integer gradedCredits = 0;
+
+    @Column(name = "earned_credits", nullable = false)
+    private Integer earnedCredits = 0;
+
+    @Column(name = "course_count", nullable = false)
+    private Integer courseCount = 0;
+}
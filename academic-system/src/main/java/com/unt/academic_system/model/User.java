@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_user_updated_at", columnList = "updated_at")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 public class User {
 
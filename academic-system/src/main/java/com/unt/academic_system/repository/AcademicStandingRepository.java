@@ -0,0 +1,27 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.AcademicStanding;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AcademicStandingRepository extends JpaRepository<AcademicStanding, Long> {
+
+    // Rankings (idx_standing_gpa / idx_standing_faculty_gpa)
+    @Query("SELECT a FROM AcademicStanding a WHERE a.gradedCredits > 0 ORDER BY a.cumulativeGpa DESC")
+    List<AcademicStanding> findTopByGpa(Limit limit);
+
+    @Query("SELECT a FROM AcademicStanding a WHERE a.faculty = :faculty AND a.gradedCredits > 0 " +
+            "ORDER BY a.cumulativeGpa DESC")
+    List<AcademicStanding> findTopByGpaInFaculty(@Param("faculty") String faculty, Limit limit);
+
+    // Students with graded work whose GPA is below the threshold
+    @Query("SELECT a FROM AcademicStanding a WHERE a.cumulativeGpa < :threshold AND a.gradedCredits > 0 " +
+            "ORDER BY a.cumulativeGpa ASC")
+    List<AcademicStanding> findAtRisk(@Param("threshold") Double threshold);
+}
@@ -1,7 +1,12 @@
 package com.unt.academic_system.repository;
 
 import com.unt.academic_system.model.AcademicYear;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,24 +19,36 @@ import java.util.Optional;
 public interface AcademicYearRepository extends JpaRepository<AcademicYear, Long> {
 
     // ✅ Find academic year by code
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByYearCode(String yearCode);
 
     // ✅ Find academic year by code and active status
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByYearCodeAndIsActiveTrue(String yearCode);
 
     // ✅ Find current academic year
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByIsCurrentTrue();
 
+    // ✅ All academic years, write-locked until the end of the transaction (switching the current year)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ay FROM AcademicYear ay")
+    List<AcademicYear> findAllForUpdate();
+
     // ✅ Find active academic years
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AcademicYear> findByIsActiveTrue();
 
     // ✅ Find by year code and semester
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByYearCodeAndSemester(String yearCode, Integer semester);
 
     // ✅ Find by year code, semester and active status
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByYearCodeAndSemesterAndIsActiveTrue(String yearCode, Integer semester);
 
     // ✅ Find all ordered by start date descending (most recent first)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AcademicYear> findAllByOrderByStartDateDesc();
 
     // ✅ Find academic years by status
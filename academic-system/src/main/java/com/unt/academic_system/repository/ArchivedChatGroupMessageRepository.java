@@ -0,0 +1,29 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.ArchivedChatGroupMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedChatGroupMessageRepository extends JpaRepository<ArchivedChatGroupMessage, Long> {
+
+    // Copy hot messages into the archive (ChatArchiveService deletes them from chat_group_messages afterwards)
+    @Modifying
+    @Query("INSERT INTO ArchivedChatGroupMessage (id, groupId, senderId, senderName, content, type, timestamp, " +
+            "status, fileName, fileUrl, fileSize, readBy, archivedAt) " +
+            "SELECT m.id, m.group.id, m.senderId, m.senderName, m.content, m.type, m.timestamp, " +
+            "m.status, m.fileName, m.fileUrl, m.fileSize, m.readBy, LOCAL DATETIME " +
+            "FROM ChatGroupMessage m WHERE m.id IN :ids")
+    int copyFromHot(@Param("ids") Collection<Long> ids);
+
+    // Archived messages of a group, newest first
+    @Query("SELECT m FROM ArchivedChatGroupMessage m WHERE m.groupId = :groupId ORDER BY m.timestamp DESC, m.id DESC")
+    List<ArchivedChatGroupMessage> findByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.ArchivedChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedChatMessageRepository extends JpaRepository<ArchivedChatMessage, Long> {
+
+    // Copy hot messages into the archive (ChatArchiveService deletes them from chat_messages afterwards)
+    @Modifying
+    @Query("INSERT INTO ArchivedChatMessage (id, content, senderId, recipientId, type, timestamp, read, " +
+            "status, fileName, fileUrl, fileSize, archivedAt) " +
+            "SELECT m.id, m.content, m.senderId, m.recipientId, m.type, m.timestamp, m.read, " +
+            "m.status, m.fileName, m.fileUrl, m.fileSize, LOCAL DATETIME " +
+            "FROM ChatMessage m WHERE m.id IN :ids")
+    int copyFromHot(@Param("ids") Collection<Long> ids);
+
+    // Archived part of a conversation, newest first
+    @Query("SELECT m FROM ArchivedChatMessage m WHERE " +
+            "(m.senderId = :userA AND m.recipientId = :userB) OR (m.senderId = :userB AND m.recipientId = :userA) " +
+            "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ArchivedChatMessage> findConversation(@Param("userA") String userA, @Param("userB") String userB,
+                                               Pageable pageable);
+}
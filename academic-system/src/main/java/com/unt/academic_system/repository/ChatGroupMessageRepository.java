@@ -1,15 +1,23 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.MessageRef;
 import com.unt.academic_system.model.ChatGroup;
 import com.unt.academic_system.model.ChatGroupMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,6 +36,18 @@ public interface ChatGroupMessageRepository extends JpaRepository<ChatGroupMessa
     // Count messages in a group
     long countByGroup(ChatGroup group);
 
+    long countByGroupId(Long groupId);
+
+    // Messages due for the archive, locked with SKIP LOCKED so several nodes archive disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM ChatGroupMessage m WHERE m.timestamp < :cutoff ORDER BY m.id ASC")
+    List<ChatGroupMessage> findDueForArchive(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ChatGroupMessage m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     // Find unread messages for a user in a group
     @Query("SELECT m FROM ChatGroupMessage m WHERE m.group.id = :groupId " +
             "AND m.senderId != :userId " +
@@ -36,6 +56,21 @@ public interface ChatGroupMessageRepository extends JpaRepository<ChatGroupMessa
     List<ChatGroupMessage> findUnreadMessages(@Param("groupId") Long groupId,
                                               @Param("userId") String userId);
 
+    // Unread messages for a user in a group: id and sender only
+    @Query("SELECT new com.unt.academic_system.dto.MessageRef(m.id, m.senderId) FROM ChatGroupMessage m " +
+            "WHERE m.group.id = :groupId " +
+            "AND m.senderId != :userId " +
+            "AND (m.readBy IS NULL OR m.readBy NOT LIKE CONCAT('%', :userId, '%'))")
+    List<MessageRef> findUnreadRefs(@Param("groupId") Long groupId, @Param("userId") String userId);
+
+    // Add a user to the read receipts of several messages in one statement
+    @Modifying
+    @Query("UPDATE ChatGroupMessage m SET m.readBy = " +
+            "CASE WHEN m.readBy IS NULL OR m.readBy = '' THEN :userId ELSE CONCAT(m.readBy, ',', :userId) END " +
+            "WHERE m.id IN :ids " +
+            "AND (m.readBy IS NULL OR m.readBy NOT LIKE CONCAT('%', :userId, '%'))")
+    int addReadByForIds(@Param("ids") Collection<Long> ids, @Param("userId") String userId);
+
     // Find messages by sender in a group
     List<ChatGroupMessage> findByGroupAndSenderIdOrderByTimestampDesc(ChatGroup group, String senderId);
 
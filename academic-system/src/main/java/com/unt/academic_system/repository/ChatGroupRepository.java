@@ -25,6 +25,10 @@ public interface ChatGroupRepository extends JpaRepository<ChatGroup, Long> {
     @Query("SELECT g FROM ChatGroup g JOIN g.memberEmails m WHERE m = :email AND g.isActive = true")
     List<ChatGroup> findGroupsByMemberEmail(@Param("email") String email);
 
+    // Membership check without loading the group and its member list
+    @Query("SELECT COUNT(g) > 0 FROM ChatGroup g JOIN g.memberEmails m WHERE g.id = :groupId AND m = :email AND g.isActive = true")
+    boolean existsMember(@Param("groupId") Long groupId, @Param("email") String email);
+
     // Find groups where user is an admin
     @Query("SELECT g FROM ChatGroup g JOIN g.adminEmails a WHERE a = :email AND g.isActive = true")
     List<ChatGroup> findGroupsByAdminEmail(@Param("email") String email);
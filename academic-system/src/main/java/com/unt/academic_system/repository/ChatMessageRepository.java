@@ -2,14 +2,22 @@ package com.unt.academic_system.repository;
 
 
 
+import com.unt.academic_system.dto.MessageRef;
 import com.unt.academic_system.model.ChatMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,9 +70,37 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.recipientId = :userId AND m.read = false")
     long countUnreadMessagesByUserId(@Param("userId") String userId);
 
-    // Mark messages as read
-    @Query("UPDATE ChatMessage m SET m.read = true WHERE m.recipientId = :recipientId AND m.senderId = :senderId AND m.read = false")
-    void markMessagesAsRead(@Param("recipientId") String recipientId, @Param("senderId") String senderId);
+    // Unread messages of a recipient (from one sender, or from everyone when senderId is null): id and sender only
+    @Query("SELECT new com.unt.academic_system.dto.MessageRef(m.id, m.senderId) FROM ChatMessage m " +
+            "WHERE m.recipientId = :recipientId AND m.read = false " +
+            "AND (:senderId IS NULL OR m.senderId = :senderId)")
+    List<MessageRef> findUnreadRefs(@Param("recipientId") String recipientId, @Param("senderId") String senderId);
+
+    // Which of the given messages are still unread for the recipient: id and sender only
+    @Query("SELECT new com.unt.academic_system.dto.MessageRef(m.id, m.senderId) FROM ChatMessage m " +
+            "WHERE m.id IN :ids AND m.recipientId = :recipientId AND m.read = false")
+    List<MessageRef> findUnreadRefsByIds(@Param("ids") Collection<Long> ids, @Param("recipientId") String recipientId);
+
+    // Mark messages as read in one statement (the version is bumped as a versioned save would)
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.read = true, m.status = 'READ', m.version = m.version + 1 " +
+            "WHERE m.id IN :ids AND m.read = false")
+    int markAsReadByIds(@Param("ids") Collection<Long> ids);
+
+    // Number of messages of a conversation still in the hot table
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE " +
+            "(m.senderId = :userA AND m.recipientId = :userB) OR (m.senderId = :userB AND m.recipientId = :userA)")
+    long countConversation(@Param("userA") String userA, @Param("userB") String userB);
+
+    // Messages due for the archive, locked with SKIP LOCKED so several nodes archive disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM ChatMessage m WHERE m.timestamp < :cutoff ORDER BY m.id ASC")
+    List<ChatMessage> findDueForArchive(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessage m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     // Find conversation messages
     @Query("SELECT cm FROM ChatMessage cm WHERE " +
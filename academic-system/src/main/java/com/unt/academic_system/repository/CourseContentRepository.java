@@ -3,12 +3,13 @@ package com.unt.academic_system.repository;
 import com.unt.academic_system.model.ApprovalStatus;
 import com.unt.academic_system.model.CourseContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface CourseContentRepository extends JpaRepository<CourseContent, Long> {
+public interface CourseContentRepository extends JpaRepository<CourseContent, Long>, JpaSpecificationExecutor<CourseContent> {
 
     // Find content by course
     List<CourseContent> findByCourseId(Long courseId);
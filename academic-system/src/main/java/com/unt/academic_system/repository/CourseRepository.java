@@ -1,12 +1,15 @@
 package com.unt.academic_system.repository;
 
 import com.unt.academic_system.model.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,21 +23,10 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     /**
      * Find course by unique course code
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findByCourseCode(String courseCode);
 
 
-    /**
-     * CRITICAL: Update lecturer_id directly with native query
-     * Use this if JPA relationships are not persisting correctly
-     */
-    @Modifying
-    @Query(value = "UPDATE courses SET lecturer_id = :lecturerId WHERE id = :courseId", nativeQuery = true)
-    int assignLecturerToCourse(@Param("courseId") Long courseId, @Param("lecturerId") Long lecturerId);
-
-    @Modifying
-    @Query(value = "UPDATE courses SET lecturer_id = NULL WHERE id = :courseId", nativeQuery = true)
-    int unassignLecturerFromCourse(@Param("courseId") Long courseId);
-
     /**
      * Check if course code already exists
      */
@@ -74,6 +66,28 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     List<Course> findByLecturerId(Long lecturerId);
 
+    /**
+     * Current lecturer assignment as [courseId, lecturerId (nullable)] rows for
+     * the given courses, the courses currently taught by the given lecturers,
+     * and every course of the given department (department may be null).
+     * Used to diff a requested allocation against the database without loading entities.
+     */
+    @Query("SELECT c.id, l.id FROM Course c LEFT JOIN c.lecturer l " +
+            "WHERE c.id IN :courseIds OR l.id IN :lecturerIds OR c.department = :department")
+    List<Object[]> findLecturerAssignments(
+            @Param("courseIds") Collection<Long> courseIds,
+            @Param("lecturerIds") Collection<Long> lecturerIds,
+            @Param("department") String department
+    );
+
+    /**
+     * Course summaries for a set of lecturers as [lecturerId, courseId, courseCode, courseName]
+     * rows: one scalar query instead of findByLecturerId per lecturer.
+     */
+    @Query("SELECT c.lecturer.id, c.id, c.courseCode, c.courseName FROM Course c " +
+            "WHERE c.lecturer.id IN :lecturerIds ORDER BY c.courseCode")
+    List<Object[]> findCourseSummariesByLecturerIds(@Param("lecturerIds") Collection<Long> lecturerIds);
+
     /**
      * Find courses by lecturer with JOIN FETCH to avoid N+1 problem
      * Use this for better performance when you need lecturer details
@@ -106,6 +120,31 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.isActive = true AND SIZE(c.enrollments) < c.maxStudents")
     List<Course> findAvailableCoursesAlternative();
 
+    // ========================================
+    // CATALOG READ MODEL
+    // Lecturer and prerequisites are JOIN FETCHed so that mapping to
+    // CourseDTO does not issue one secondary select per course.
+    // ========================================
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH c.prerequisites")
+    List<Course> findAllForCatalog();
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH c.prerequisites " +
+            "WHERE c.faculty = :faculty")
+    List<Course> findByFacultyForCatalog(@Param("faculty") String faculty);
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH c.prerequisites " +
+            "WHERE c.department = :department")
+    List<Course> findByDepartmentForCatalog(@Param("department") String department);
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH c.prerequisites " +
+            "WHERE c.year = :year AND c.semester = :semester")
+    List<Course> findByYearAndSemesterForCatalog(@Param("year") String year, @Param("semester") Integer semester);
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH c.prerequisites " +
+            "WHERE c.isActive = true")
+    List<Course> findActiveForCatalog();
+
     // ========================================
     // COMPLEX QUERIES
     // ========================================
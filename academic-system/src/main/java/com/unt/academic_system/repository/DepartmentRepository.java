@@ -1,7 +1,10 @@
 package com.unt.academic_system.repository;
 
 import com.unt.academic_system.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,14 +17,22 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByName(String name);
 
     // Find department by code
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findByCode(String code);
 
     // Find departments by faculty
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Department> findByFacultyId(Long facultyId);
 
     // Find active departments
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Department> findByIsActiveTrue();
 
     // Count departments by faculty ID - ADD THIS LINE
     int countByFacultyId(Long facultyId);
+
+    // All departments (query cache)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Department> findAll();
 }
\ No newline at end of file
@@ -1,21 +1,26 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.ParentResponseDTO;
 import com.unt.academic_system.model.Enrollment;
 import com.unt.academic_system.model.EnrollmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>, JpaSpecificationExecutor<Enrollment> {
 
     /**
-     * Find enrollments by student ID
+     * Find enrollments by student ID, with course and lecturer in the same query
      */
-    List<Enrollment> findByStudentId(Long studentId);
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.course c LEFT JOIN FETCH c.lecturer " +
+            "WHERE e.student.id = :studentId")
+    List<Enrollment> findByStudentId(@Param("studentId") Long studentId);
 
     /**
      * Find enrollments by course ID
@@ -71,6 +76,14 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId")
     Integer countByCourseId(@Param("courseId") Long courseId);
 
+    /**
+     * Count enrollments for a batch of courses in one grouped query.
+     * Each row is [courseId (Long), count (Long)]; courses without enrollments are absent.
+     */
+    @Query("SELECT e.course.id, COUNT(e) FROM Enrollment e " +
+            "WHERE e.course.id IN :courseIds GROUP BY e.course.id")
+    List<Object[]> countByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
     /**
      * Count active enrollments for a course (REGISTERED or IN_PROGRESS)
      */
@@ -91,11 +104,48 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     );
 
     /**
-     * Calculate GPA for a student - MISSING METHOD ADDED
+     * Graded enrollments of a student grouped by term, status and letter:
+     * [academicYear, semester, status, letterGrade, courseCount, credits]
+     */
+    @Query("SELECT e.academicYear, e.semester, e.status, e.letterGrade, COUNT(e), COALESCE(SUM(c.credits), 0) " +
+            "FROM Enrollment e JOIN e.course c " +
+            "WHERE e.student.id = :studentId AND e.status IN ('COMPLETED', 'FAILED') " +
+            "AND e.letterGrade IS NOT NULL " +
+            "GROUP BY e.academicYear, e.semester, e.status, e.letterGrade")
+    List<Object[]> findGradeDistribution(@Param("studentId") Long studentId);
+
+    /**
+     * findGradeDistribution for several students in one query, with the student first:
+     * [studentId, academicYear, semester, status, letterGrade, courseCount, credits]
+     */
+    @Query("SELECT e.student.id, e.academicYear, e.semester, e.status, e.letterGrade, COUNT(e), " +
+            "COALESCE(SUM(c.credits), 0) " +
+            "FROM Enrollment e JOIN e.course c " +
+            "WHERE e.student.id IN :studentIds AND e.status IN ('COMPLETED', 'FAILED') " +
+            "AND e.letterGrade IS NOT NULL " +
+            "GROUP BY e.student.id, e.academicYear, e.semester, e.status, e.letterGrade")
+    List<Object[]> findGradeDistributions(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * What the grade-sheet import checks a row against, without loading the
+     * enrollments: [id, studentId, courseId, status]
      */
-    @Query("SELECT AVG(e.totalGrade) FROM Enrollment e " +
-            "WHERE e.student.id = :studentId AND e.status = 'COMPLETED'")
-    Double calculateGPA(@Param("studentId") Long studentId);
+    @Query("SELECT e.id, e.student.id, e.course.id, e.status FROM Enrollment e WHERE e.id IN :ids")
+    List<Object[]> findGradingTargets(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of every student with at least one graded enrollment
+     */
+    @Query("SELECT DISTINCT e.student.id FROM Enrollment e WHERE e.status IN ('COMPLETED', 'FAILED')")
+    List<Long> findGradedStudentIds();
+
+    /**
+     * Completed enrollments of a student in term order, with student and course in one query
+     */
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.student JOIN FETCH e.course " +
+            "WHERE e.student.id = :studentId AND e.status = 'COMPLETED' " +
+            "ORDER BY e.academicYear ASC, e.semester ASC")
+    List<Enrollment> findTranscript(@Param("studentId") Long studentId);
 
     /**
      * Find enrollments by student and course
@@ -106,4 +156,15 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      * Check if enrollment exists for student and course
      */
     boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
-}
\ No newline at end of file
+
+    /**
+     * Parent dashboard: enrollments of several students with their course, one row per enrollment
+     */
+    @Query("SELECT new com.unt.academic_system.dto.ParentResponseDTO$EnrollmentBasicDTO(" +
+            "e.student.id, e.id, e.academicYear, e.semester, e.status, " +
+            "e.midtermGrade, e.finalGrade, e.totalGrade, e.letterGrade, " +
+            "c.id, c.courseCode, c.courseName, c.credits, c.faculty, c.department) " +
+            "FROM Enrollment e JOIN e.course c " +
+            "WHERE e.student.id IN :studentIds ORDER BY e.id")
+    List<ParentResponseDTO.EnrollmentBasicDTO> findDashboardEnrollments(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -1,7 +1,10 @@
 package com.unt.academic_system.repository;
 
 import com.unt.academic_system.model.Faculty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,11 +14,19 @@ import java.util.Optional;
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
 
     // Find faculty by name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Faculty> findByName(String name);
 
     // Find faculty by code
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Faculty> findByCode(String code);
 
     // Find active faculties
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Faculty> findByIsActiveTrue();
+
+    // All faculties (query cache)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Faculty> findAll();
 }
\ No newline at end of file
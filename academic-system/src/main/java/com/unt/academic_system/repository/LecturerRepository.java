@@ -1,9 +1,13 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.LecturerDTO;
 import com.unt.academic_system.model.Lecturer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +30,29 @@ public interface LecturerRepository extends JpaRepository<Lecturer, Long> {
 
     // Find lecturers by specialization
     List<Lecturer> findBySpecialization(String specialization);
+
+    // Read model: lecturer columns only (courses are attached with one grouped course query)
+    String SUMMARY_SELECT = "SELECT new com.unt.academic_system.dto.LecturerDTO(" +
+            "l.id, l.email, l.firstName, l.lastName, l.phoneNumber, l.role, l.isActive, l.employeeId, " +
+            "l.department, l.qualification, l.specialization, l.officeLocation, l.officeHours, l.hireDate) " +
+            "FROM Lecturer l ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY l.id")
+    List<LecturerDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE l.department = :department ORDER BY l.id")
+    List<LecturerDTO> findSummariesByDepartment(@Param("department") String department);
+
+    @Query(SUMMARY_SELECT + "WHERE l.id = :id")
+    Optional<LecturerDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE l.employeeId = :employeeId")
+    Optional<LecturerDTO> findSummaryByEmployeeId(@Param("employeeId") String employeeId);
+
+    @Query(SUMMARY_SELECT + "WHERE l.email = :email")
+    Optional<LecturerDTO> findSummaryByEmail(@Param("email") String email);
+
+    // Which of the given IDs belong to existing lecturers (single IN query)
+    @Query("SELECT l.id FROM Lecturer l WHERE l.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.MailOutbox;
+import com.unt.academic_system.model.MailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * Due mails, locked with SKIP LOCKED (lock timeout -2) so several workers or
+     * application instances can claim disjoint batches
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = 'PENDING' AND m.nextAttemptAt <= :now ORDER BY m.id ASC")
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Put mails back in the queue whose worker died while sending
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'PENDING' WHERE m.status = 'SENDING' AND m.nextAttemptAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN ('SENT', 'FAILED') AND m.createdAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+    long countByStatus(MailStatus status);
+}
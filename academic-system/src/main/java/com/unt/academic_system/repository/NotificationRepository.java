@@ -3,12 +3,18 @@ package com.unt.academic_system.repository;
 import com.unt.academic_system.model.Notification;
 import com.unt.academic_system.model.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, JpaSpecificationExecutor<Notification> {
 
     // Find notifications for a user
     List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long userId);
@@ -23,4 +29,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // Count unread notifications for a user
     long countByRecipientIdAndIsReadFalse(Long userId);
+
+    // Count unread notifications by recipient email (push channel key)
+    long countByRecipientEmailAndIsReadFalse(String email);
+
+    // Ids of the unread notifications of a user
+    @Query("SELECT n.id FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false")
+    List<Long> findUnreadIds(@Param("userId") Long userId);
+
+    // Mark notifications as read in one statement
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.id IN :ids AND n.isRead = false")
+    int markAsReadByIds(@Param("ids") Collection<Long> ids, @Param("readAt") LocalDateTime readAt);
 }
\ No newline at end of file
@@ -2,17 +2,27 @@ package com.unt.academic_system.repository;
 
 import com.unt.academic_system.model.OTP;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface OTPRepository extends JpaRepository<OTP, Long> {
+public interface OTPRepository extends JpaRepository<OTP, String> {
 
-    Optional<OTP> findByEmailAndCodeAndIsUsedFalse(String email, String code);
+    List<OTP> findByExpiryTimeAfter(LocalDateTime dateTime);
 
-    void deleteByEmail(String email);
+    @Transactional
+    @Modifying
+    @Query("UPDATE OTP o SET o.attempts = :attempts WHERE o.email = :email")
+    int updateAttempts(@Param("email") String email, @Param("attempts") int attempts);
 
-    int deleteByExpiryTimeBefore(LocalDateTime dateTime);
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OTP o WHERE o.expiryTime < :dateTime")
+    int deleteByExpiryTimeBefore(@Param("dateTime") LocalDateTime dateTime);
+}
@@ -1,5 +1,6 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.ParentSummaryDTO;
 import com.unt.academic_system.model.Parent;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,19 +8,22 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ParentRepository extends JpaRepository<Parent, Long> {
 
-    // ✅ CRITICAL: Fetch parent with all nested data in ONE query
-    @Query("SELECT DISTINCT p FROM Parent p " +
-            "LEFT JOIN FETCH p.children c " +
-            "LEFT JOIN FETCH c.enrollments e " +
-            "LEFT JOIN FETCH e.course " +
-            "LEFT JOIN FETCH c.payments " +
-            "WHERE p.id = :id")
-    Optional<Parent> findByIdWithDetails(@Param("id") Long id);
+    // ✅ Read model for list endpoints: one row per parent, children counted in the same statement
+    String SUMMARY_SELECT = "SELECT new com.unt.academic_system.dto.ParentSummaryDTO(" +
+            "p.id, p.email, p.firstName, p.lastName, p.phoneNumber, p.role, p.isActive, " +
+            "p.relationship, p.occupation, p.address, p.createdAt, " +
+            "(SELECT COUNT(s) FROM Student s WHERE s.parent = p)) " +
+            "FROM Parent p ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.id")
+    List<ParentSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.relationship = :relationship ORDER BY p.id")
+    List<ParentSummaryDTO> findSummariesByRelationship(@Param("relationship") String relationship);
 
     List<Parent> findByRelationship(String relationship);
 
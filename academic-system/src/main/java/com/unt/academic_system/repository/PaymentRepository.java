@@ -1,18 +1,21 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.ParentResponseDTO;
 import com.unt.academic_system.model.Payment;
 import com.unt.academic_system.model.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, JpaSpecificationExecutor<Payment> {
 
     // ==================== FIND BY STUDENT ====================
 
@@ -341,4 +344,14 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     @Query("SELECT p FROM Payment p WHERE LOWER(p.notes) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Payment> findPaymentsByNotesKeyword(@Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    /**
+     * Parent dashboard: payments of several students, one row per payment
+     */
+    @Query("SELECT new com.unt.academic_system.dto.ParentResponseDTO$PaymentBasicDTO(" +
+            "p.student.id, p.id, p.amount, p.academicYear, p.semester, " +
+            "p.paymentType, p.paymentMethod, p.paymentStatus, " +
+            "p.transactionReference, p.paymentDate, p.processedBy) " +
+            "FROM Payment p WHERE p.student.id IN :studentIds ORDER BY p.id")
+    List<ParentResponseDTO.PaymentBasicDTO> findDashboardPayments(@Param("studentIds") Collection<Long> studentIds);
+}
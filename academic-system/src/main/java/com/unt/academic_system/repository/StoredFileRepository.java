@@ -0,0 +1,47 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.StoredFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByContentHash(String contentHash);
+
+    /**
+     * Row lock for reference count changes, so concurrent uploads and deletes of
+     * the same content serialize on the hash
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.contentHash = :hash")
+    Optional<StoredFile> lockByContentHash(@Param("hash") String contentHash);
+
+    /**
+     * One more reference to the content, creating the row on the first one.
+     * A single statement, so concurrent first uploads of the same content do
+     * not both miss the row under a gap lock and then collide on the insert.
+     * Leaves the row locked until commit.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (content_hash, size, content_type, ref_count, created_at) " +
+            "VALUES (:hash, :size, :contentType, 1, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int addReference(@Param("hash") String contentHash,
+                     @Param("size") long size,
+                     @Param("contentType") String contentType);
+
+    /**
+     * Rows left at refCount 0 whose blob has not been deleted yet
+     */
+    @Query("SELECT f.contentHash FROM StoredFile f WHERE f.refCount = 0")
+    List<String> findUnreferencedHashes();
+}
@@ -1,8 +1,14 @@
 package com.unt.academic_system.repository;
 
+import com.unt.academic_system.dto.ParentResponseDTO;
+import com.unt.academic_system.dto.StudentSummaryDTO;
 import com.unt.academic_system.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +18,70 @@ import java.util.Optional;
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
+    // ========================================
+    // READ MODEL PROJECTIONS
+    // One statement per call (students JOIN users LEFT JOIN parent), no entity
+    // hydration and no lazy parent/enrollments access during serialization.
+    // ========================================
+
+    String SUMMARY_SELECT = "SELECT new com.unt.academic_system.dto.StudentSummaryDTO(" +
+            "s.id, s.email, s.firstName, s.lastName, s.phoneNumber, s.role, s.isActive, s.profileImageUrl, " +
+            "s.studentId, s.dateOfBirth, s.faculty, s.program, s.currentYear, s.currentSemester, " +
+            "s.academicYear, s.enrollmentDate, s.cumulativeGPA, s.totalCreditsEarned, s.address, " +
+            "s.createdAt, s.updatedAt, " +
+            "p.id, p.firstName, p.lastName, p.email, p.phoneNumber, p.relationship) " +
+            "FROM Student s LEFT JOIN s.parent p ";
+
+    String SUMMARY_FETCH_SIZE = "500";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "ORDER BY s.id")
+    List<StudentSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE s.id = :id")
+    Optional<StudentSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE s.studentId = :studentId")
+    Optional<StudentSummaryDTO> findSummaryByStudentId(@Param("studentId") String studentId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE s.faculty = :faculty ORDER BY s.id")
+    List<StudentSummaryDTO> findSummariesByFaculty(@Param("faculty") String faculty);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE s.program = :program ORDER BY s.id")
+    List<StudentSummaryDTO> findSummariesByProgram(@Param("program") String program);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE s.currentYear = :year AND s.currentSemester = :semester ORDER BY s.id")
+    List<StudentSummaryDTO> findSummariesByYearAndSemester(@Param("year") Integer year,
+                                                           @Param("semester") Integer semester);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE s.cumulativeGPA >= :minGpa ORDER BY s.cumulativeGPA DESC")
+    List<StudentSummaryDTO> findSummariesWithMinGPA(@Param("minGpa") Double minGpa);
+
+    // Keyset pages (cursor = last id of the previous page); null filters are ignored
+    @Query(SUMMARY_SELECT + "WHERE s.id > :cursor " +
+            "AND (:faculty IS NULL OR s.faculty = :faculty) AND (:program IS NULL OR s.program = :program) " +
+            "ORDER BY s.id ASC")
+    List<StudentSummaryDTO> findSummaryPageAscending(@Param("cursor") Long cursor,
+                                                     @Param("faculty") String faculty,
+                                                     @Param("program") String program,
+                                                     Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE s.id < :cursor " +
+            "AND (:faculty IS NULL OR s.faculty = :faculty) AND (:program IS NULL OR s.program = :program) " +
+            "ORDER BY s.id DESC")
+    List<StudentSummaryDTO> findSummaryPageDescending(@Param("cursor") Long cursor,
+                                                      @Param("faculty") String faculty,
+                                                      @Param("program") String program,
+                                                      Limit limit);
+
+    // ========================================
+    // ENTITY FINDERS
+    // ========================================
+
     // ✅ Find student by student ID
     Optional<Student> findByStudentId(String studentId);
 
@@ -45,6 +115,13 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     // ✅ Find students by parent
     List<Student> findByParentId(Long parentId);
 
+    // ✅ Parent dashboard: children of a parent as DTOs, enrollments and payments are loaded separately
+    @Query("SELECT new com.unt.academic_system.dto.ParentResponseDTO$StudentBasicDTO(" +
+            "s.id, s.firstName, s.lastName, s.email, s.studentId, s.faculty, s.program, " +
+            "s.currentYear, s.currentSemester) " +
+            "FROM Student s WHERE s.parent.id = :parentId ORDER BY s.id")
+    List<ParentResponseDTO.StudentBasicDTO> findDashboardChildren(@Param("parentId") Long parentId);
+
     // ✅ Find students with GPA above threshold
     List<Student> findByCumulativeGPAGreaterThanEqual(Double gpa);
 
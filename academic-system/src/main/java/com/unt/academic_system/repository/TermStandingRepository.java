@@ -0,0 +1,16 @@
+package com.unt.academic_system.repository;
+
+import com.unt.academic_system.model.TermStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TermStandingRepository extends JpaRepository<TermStanding, Long> {
+
+    List<TermStanding> findByStudentIdOrderByAcademicYearAscSemesterAsc(Long studentId);
+
+    List<TermStanding> findByStudentIdIn(Collection<Long> studentIds);
+}
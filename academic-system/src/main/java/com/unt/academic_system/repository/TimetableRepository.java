@@ -3,19 +3,30 @@ package com.unt.academic_system.repository;
 import com.unt.academic_system.model.DayOfWeek;
 import com.unt.academic_system.model.Timetable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TimetableRepository extends JpaRepository<Timetable, Long> {
+public interface TimetableRepository extends JpaRepository<Timetable, Long>, JpaSpecificationExecutor<Timetable> {
+
+    // All entries with course, lecturer and academic year in one query
+    @Override
+    @Query("SELECT t FROM Timetable t JOIN FETCH t.course c LEFT JOIN FETCH c.lecturer LEFT JOIN FETCH t.academicYear")
+    List<Timetable> findAll();
 
     // ✅ SIMPLIFIED - Find timetable by course (no complex joins)
     @Query("SELECT t FROM Timetable t WHERE t.course.id = :courseId")
     List<Timetable> findByCourseId(@Param("courseId") Long courseId);
 
+    // Timetable entries of several courses in one query
+    @Query("SELECT t FROM Timetable t WHERE t.course.id IN :courseIds")
+    List<Timetable> findByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
     // Find timetable by academic year
     List<Timetable> findByAcademicYearId(Long academicYearId);
 
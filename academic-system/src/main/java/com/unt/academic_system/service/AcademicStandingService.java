@@ -0,0 +1,36 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.AcademicStanding;
+import com.unt.academic_system.model.TermStanding;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AcademicStandingService {
+
+    /**
+     * Recompute and persist the standing of one student from their graded enrollments
+     */
+    AcademicStanding recompute(Long studentId);
+
+    /**
+     * Recompute several students at once (bulk grade changes); ids without a student are skipped
+     */
+    int recompute(Collection<Long> studentIds);
+
+    /**
+     * Recompute every student with graded work (backfill / repair)
+     */
+    int recomputeAll();
+
+    Optional<AcademicStanding> getStanding(Long studentId);
+
+    List<TermStanding> getTermStandings(Long studentId);
+
+    List<AcademicStanding> getTopStudents(int limit);
+
+    List<AcademicStanding> getTopStudentsInFaculty(String faculty, int limit);
+
+    List<AcademicStanding> getAtRiskStudents(Double threshold);
+}
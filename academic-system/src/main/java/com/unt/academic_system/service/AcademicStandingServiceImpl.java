@@ -0,0 +1,256 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.AcademicStanding;
+import com.unt.academic_system.model.EnrollmentStatus;
+import com.unt.academic_system.model.Student;
+import com.unt.academic_system.model.TermStanding;
+import com.unt.academic_system.repository.AcademicStandingRepository;
+import com.unt.academic_system.repository.EnrollmentRepository;
+import com.unt.academic_system.repository.StudentRepository;
+import com.unt.academic_system.repository.TermStandingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AcademicStandingServiceImpl implements AcademicStandingService {
+
+    private final AcademicStandingRepository academicStandingRepository;
+    private final TermStandingRepository termStandingRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+
+    private static final int RECOMPUTE_BATCH_SIZE = 500;
+
+    /**
+     * Recomputed from one grouped query over the student's graded enrollments
+     * (a handful of rows per term), so the cost does not depend on how many
+     * grade changes led here.
+     */
+    @Override
+    public AcademicStanding recompute(Long studentId) {
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new RuntimeException("Student not found"));
+        AcademicStanding standing = academicStandingRepository.findById(studentId)
+                .orElseGet(AcademicStanding::new);
+
+        AcademicStanding saved = recompute(student, standing,
+                enrollmentRepository.findGradeDistribution(studentId),
+                termStandingRepository.findByStudentIdOrderByAcademicYearAscSemesterAsc(studentId));
+        log.debug("Standing recomputed for student {}: GPA {} over {} credits",
+                studentId, saved.getCumulativeGpa(), saved.getGradedCredits());
+        return saved;
+    }
+
+    /**
+     * Students, standings, grade distributions and terms are read with one
+     * query each per RECOMPUTE_BATCH_SIZE students instead of per student.
+     */
+    @Override
+    public int recompute(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        int recomputed = 0;
+        for (int from = 0; from < ids.size(); from += RECOMPUTE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + RECOMPUTE_BATCH_SIZE, ids.size()));
+
+            Map<Long, AcademicStanding> standings = academicStandingRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(AcademicStanding::getStudentId, Function.identity()));
+            // Same columns as findGradeDistribution once the student id is dropped
+            Map<Long, List<Object[]>> distributions = enrollmentRepository.findGradeDistributions(batch).stream()
+                    .collect(Collectors.groupingBy(row -> (Long) row[0],
+                            Collectors.mapping(row -> Arrays.copyOfRange(row, 1, row.length), Collectors.toList())));
+            Map<Long, List<TermStanding>> terms = termStandingRepository.findByStudentIdIn(batch).stream()
+                    .collect(Collectors.groupingBy(TermStanding::getStudentId));
+
+            for (Student student : studentRepository.findAllById(batch)) {
+                Long id = student.getId();
+                recompute(student, standings.getOrDefault(id, new AcademicStanding()),
+                        distributions.getOrDefault(id, List.of()), terms.getOrDefault(id, List.of()));
+                recomputed++;
+            }
+        }
+        log.debug("Standing recomputed for {} students", recomputed);
+        return recomputed;
+    }
+
+    @Override
+    public int recomputeAll() {
+        List<Long> studentIds = enrollmentRepository.findGradedStudentIds();
+        log.info("📊 Recomputing academic standing for {} students", studentIds.size());
+        return recompute(studentIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AcademicStanding> getStanding(Long studentId) {
+        return academicStandingRepository.findById(studentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TermStanding> getTermStandings(Long studentId) {
+        return termStandingRepository.findByStudentIdOrderByAcademicYearAscSemesterAsc(studentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AcademicStanding> getTopStudents(int limit) {
+        return academicStandingRepository.findTopByGpa(Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AcademicStanding> getTopStudentsInFaculty(String faculty, int limit) {
+        return academicStandingRepository.findTopByGpaInFaculty(faculty, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AcademicStanding> getAtRiskStudents(Double threshold) {
+        return academicStandingRepository.findAtRisk(threshold);
+    }
+
+    /**
+     * @param distribution  rows as returned by EnrollmentRepository.findGradeDistribution
+     * @param existingTerms the term standings currently stored for the student
+     */
+    private AcademicStanding recompute(Student student, AcademicStanding standing,
+                                       List<Object[]> distribution, List<TermStanding> existingTerms) {
+        Long studentId = student.getId();
+        resetTotals(standing);
+        standing.setStudentId(studentId);
+        standing.setFaculty(student.getFaculty());
+
+        Map<String, TermStanding> terms = new LinkedHashMap<>();
+        double points = 0;
+
+        for (Object[] row : distribution) {
+            String academicYear = (String) row[0];
+            Integer semester = (Integer) row[1];
+            EnrollmentStatus status = (EnrollmentStatus) row[2];
+            String letter = (String) row[3];
+            int courses = ((Number) row[4]).intValue();
+            int credits = ((Number) row[5]).intValue();
+            double rowPoints = gradePoints(letter) * credits;
+
+            TermStanding term = terms.computeIfAbsent(academicYear + "/" + semester, key -> {
+                TermStanding t = new TermStanding();
+                t.setStudentId(studentId);
+                t.setAcademicYear(academicYear);
+                t.setSemester(semester);
+                return t;
+            });
+            // Term GPA is accumulated as points in the gpa field and divided below
+            term.setGpa(term.getGpa() + rowPoints);
+            term.setGradedCredits(term.getGradedCredits() + credits);
+            term.setCourseCount(term.getCourseCount() + courses);
+
+            points += rowPoints;
+            standing.setGradedCredits(standing.getGradedCredits() + credits);
+            if (status == EnrollmentStatus.COMPLETED) {
+                term.setEarnedCredits(term.getEarnedCredits() + credits);
+                standing.setEarnedCredits(standing.getEarnedCredits() + credits);
+                standing.setCompletedCourses(standing.getCompletedCourses() + courses);
+            } else {
+                standing.setFailedCourses(standing.getFailedCourses() + courses);
+            }
+            countLetter(standing, letter, courses);
+        }
+
+        standing.setCumulativeGpa(average(points, standing.getGradedCredits()));
+        terms.values().forEach(term -> term.setGpa(average(term.getGpa(), term.getGradedCredits())));
+
+        AcademicStanding saved = academicStandingRepository.save(standing);
+        saveTerms(terms, existingTerms);
+
+        // Keep the student's own columns (dashboards, findTopStudentsByGPA, findAtRiskStudents) in step
+        student.setCumulativeGPA(saved.getCumulativeGpa());
+        student.setTotalCreditsEarned(saved.getEarnedCredits());
+        return saved;
+    }
+
+    /**
+     * Update terms in place, insert new ones and drop terms that no longer have graded work
+     */
+    private void saveTerms(Map<String, TermStanding> computed, List<TermStanding> existingTerms) {
+        Map<String, TermStanding> existing = existingTerms.stream()
+                .collect(Collectors.toMap(t -> t.getAcademicYear() + "/" + t.getSemester(), Function.identity()));
+
+        List<TermStanding> toSave = new ArrayList<>();
+        computed.forEach((key, term) -> {
+            TermStanding current = existing.remove(key);
+            if (current != null) {
+                term.setId(current.getId());
+            }
+            toSave.add(term);
+        });
+
+        termStandingRepository.saveAll(toSave);
+        termStandingRepository.deleteAll(existing.values());
+    }
+
+    private void resetTotals(AcademicStanding standing) {
+        standing.setCumulativeGpa(0.0);
+        standing.setGradedCredits(0);
+        standing.setEarnedCredits(0);
+        standing.setCompletedCourses(0);
+        standing.setFailedCourses(0);
+        standing.setGradeA(0);
+        standing.setGradeBPlus(0);
+        standing.setGradeB(0);
+        standing.setGradeCPlus(0);
+        standing.setGradeC(0);
+        standing.setGradeD(0);
+        standing.setGradeF(0);
+    }
+
+    private void countLetter(AcademicStanding standing, String letter, int courses) {
+        switch (letter) {
+            case "A" -> standing.setGradeA(standing.getGradeA() + courses);
+            case "B+" -> standing.setGradeBPlus(standing.getGradeBPlus() + courses);
+            case "B" -> standing.setGradeB(standing.getGradeB() + courses);
+            case "C+" -> standing.setGradeCPlus(standing.getGradeCPlus() + courses);
+            case "C" -> standing.setGradeC(standing.getGradeC() + courses);
+            case "D" -> standing.setGradeD(standing.getGradeD() + courses);
+            default -> standing.setGradeF(standing.getGradeF() + courses);
+        }
+    }
+
+    /**
+     * 4.0 scale for the letters produced by GradeCalculator.letterGrade
+     */
+    private double gradePoints(String letter) {
+        return switch (letter) {
+            case "A" -> 4.0;
+            case "B+" -> 3.5;
+            case "B" -> 3.0;
+            case "C+" -> 2.5;
+            case "C" -> 2.0;
+            case "D" -> 1.0;
+            default -> 0.0;
+        };
+    }
+
+    private double average(double points, int credits) {
+        if (credits == 0) {
+            return 0.0;
+        }
+        return Math.round(points / credits * 100.0) / 100.0;
+    }
+}
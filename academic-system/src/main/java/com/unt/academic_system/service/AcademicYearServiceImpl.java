@@ -3,6 +3,7 @@ package com.unt.academic_system.service;
 import com.unt.academic_system.model.AcademicYear;
 import com.unt.academic_system.repository.AcademicYearRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import java.util.Optional;
 public class AcademicYearServiceImpl implements AcademicYearService {
 
     private final AcademicYearRepository academicYearRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public AcademicYear createAcademicYear(AcademicYear academicYear) {
@@ -26,7 +28,9 @@ public class AcademicYearServiceImpl implements AcademicYearService {
         academicYear.setIsActive(false);
         academicYear.setIsCurrent(false);
 
-        return academicYearRepository.save(academicYear);
+        AcademicYear saved = academicYearRepository.save(academicYear);
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
+        return saved;
     }
 
     @Override
@@ -56,7 +60,9 @@ public class AcademicYearServiceImpl implements AcademicYearService {
         existing.setExamStartDate(updatedAcademicYear.getExamStartDate());
         existing.setExamEndDate(updatedAcademicYear.getExamEndDate());
 
-        return academicYearRepository.save(existing);
+        AcademicYear saved = academicYearRepository.save(existing);
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
+        return saved;
     }
 
     @Override
@@ -71,20 +77,22 @@ public class AcademicYearServiceImpl implements AcademicYearService {
 
     @Override
     public void setCurrentAcademicYear(Long academicYearId) {
-        // First, set all academic years to not current
-        Optional<AcademicYear> currentYear = academicYearRepository.findByIsCurrentTrue();
-        currentYear.ifPresent(year -> {
-            year.setIsCurrent(false);
-            academicYearRepository.save(year);
-        });
-
-        // Then set the specified year as current
-        AcademicYear newCurrentYear = academicYearRepository.findById(academicYearId)
-                .orElseThrow(() -> new RuntimeException("Academic year not found"));
+        // One statement locks every year, so concurrent switches run one after the other
+        // and exactly one year is left current
+        List<AcademicYear> years = academicYearRepository.findAllForUpdate();
+        if (years.stream().noneMatch(year -> year.getId().equals(academicYearId))) {
+            throw new RuntimeException("Academic year not found");
+        }
 
-        newCurrentYear.setIsCurrent(true);
-        newCurrentYear.setIsActive(true);
-        academicYearRepository.save(newCurrentYear);
+        for (AcademicYear year : years) {
+            // Only the rows whose flags change are updated on flush
+            boolean current = year.getId().equals(academicYearId);
+            year.setIsCurrent(current);
+            if (current) {
+                year.setIsActive(true);
+            }
+        }
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
     }
 
     @Override
@@ -94,6 +102,7 @@ public class AcademicYearServiceImpl implements AcademicYearService {
 
         academicYear.setIsActive(true);
         academicYearRepository.save(academicYear);
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
     }
 
     @Override
@@ -104,6 +113,7 @@ public class AcademicYearServiceImpl implements AcademicYearService {
         academicYear.setIsActive(false);
         academicYear.setIsCurrent(false);
         academicYearRepository.save(academicYear);
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
     }
 
     @Override
@@ -117,5 +127,6 @@ public class AcademicYearServiceImpl implements AcademicYearService {
         }
 
         academicYearRepository.deleteById(academicYearId);
+        eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.unt.academic_system.service;
+
+import java.util.Collection;
+
+/**
+ * Keeps the second-level cache of every application node consistent.
+ *
+ * Hibernate only updates the cache of the node that made a change. Each write
+ * to a cached entity is therefore also recorded in the cache_invalidation
+ * table, and every node polls that table and evicts what the other nodes
+ * changed.
+ */
+public interface CacheInvalidationService {
+
+    /**
+     * Record a write to a second-level cached entity. Joins the caller's
+     * transaction, so the record only becomes visible if the change commits.
+     */
+    void recordChange(Object entity);
+
+    /**
+     * Record writes that bypassed Hibernate (JDBC batch updates) to the given
+     * rows of a second-level cached entity. Hibernate does not know about
+     * them, so this node's entries and cached query results are evicted too,
+     * once the caller's transaction commits.
+     */
+    void recordChanges(Class<?> entityClass, Collection<Long> ids);
+
+    /**
+     * Same, for JDBC writes to any number of rows of an entity, cached or
+     * not: cached query results and @ConditionalGet versions may cover them
+     */
+    void recordChanges(Class<?> entityClass);
+
+    /**
+     * Evict everything recorded by other nodes since the last poll
+     */
+    void applyRemoteChanges();
+
+    /**
+     * Clear all second-level cache regions, the query cache and the
+     * application caches on this node and, through the next poll, on the others
+     */
+    void clearAll();
+}
@@ -0,0 +1,226 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.config.CacheConfig;
+import com.unt.academic_system.model.AcademicYear;
+import com.unt.academic_system.model.Course;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The cache_invalidation table is a short-lived change log: rows are read by
+ * the other nodes within a few seconds and deleted after
+ * app.l2-cache.invalidation-retention-hours.
+ *
+ * Ids are assigned on insert but rows become visible on commit, so a row with
+ * a lower id can show up after a higher one. Each poll therefore re-reads the
+ * last app.l2-cache.invalidation-lookback-seconds and skips the ids it has
+ * already applied, instead of resuming after the highest id seen.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+
+    private static final String ALL = "*";
+    private static final String COURSE_PREREQUISITES_ROLE = Course.class.getName() + ".prerequisites";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+
+    // Identifies the rows written by this node, which are already applied by Hibernate
+    private final String origin = UUID.randomUUID().toString();
+
+    // Applied row id -> created_at (epoch millis), pruned once outside the lookback window
+    private final Map<Long, Long> applied = new LinkedHashMap<>();
+
+    // Not synchronized: a virtual thread blocked on the query would pin its carrier
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    @Value("${app.l2-cache.invalidation-lookback-seconds:120}")
+    private long lookbackSeconds;
+
+    @Value("${app.l2-cache.invalidation-retention-hours:24}")
+    private long retentionHours;
+
+    @PostConstruct
+    void ensureTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS cache_invalidation (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "entity_name VARCHAR(255) NOT NULL, " +
+                "entity_id BIGINT NULL, " +
+                "origin VARCHAR(36) NOT NULL, " +
+                "created_at TIMESTAMP(3) NOT NULL, " +
+                "INDEX idx_cache_invalidation_created_at (created_at))");
+    }
+
+    @Override
+    public void recordChange(Object entity) {
+        Object id = entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        record(entity.getClass().getName(), id instanceof Number number ? number.longValue() : null);
+    }
+
+    @Override
+    public void recordChanges(Class<?> entityClass, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> changed = List.copyOf(ids);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate("INSERT INTO cache_invalidation (entity_name, entity_id, origin, created_at) " +
+                        "VALUES (?, ?, ?, ?)",
+                changed.stream().map(id -> new Object[]{entityClass.getName(), id, origin, now}).toList());
+
+        afterCommit(() -> {
+            Cache cache = secondLevelCache();
+            changed.forEach(id -> cache.evictEntityData(entityClass, id));
+            cache.evictQueryRegions();
+            resourceVersionService.invalidate(entityClass);
+        });
+    }
+
+    @Override
+    public void recordChanges(Class<?> entityClass) {
+        record(entityClass.getName(), null);
+        afterCommit(() -> {
+            Cache cache = secondLevelCache();
+            cache.evictEntityData(entityClass);
+            cache.evictQueryRegions();
+            resourceVersionService.invalidate(entityClass);
+        });
+    }
+
+    private void afterCommit(Runnable evict) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Evicting before the commit would let a concurrent read cache the old row again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.l2-cache.invalidation-poll-ms:2000}")
+    public void applyRemoteChanges() {
+        pollLock.lock();
+        try {
+            poll();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        long since = now - lookbackSeconds * 1000;
+        applied.values().removeIf(createdAt -> createdAt < since);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, entity_name, entity_id, created_at FROM cache_invalidation " +
+                        "WHERE created_at >= ? AND origin <> ? ORDER BY id",
+                new Timestamp(since), origin);
+
+        Cache cache = null;
+        boolean termChanged = false;
+        for (Map<String, Object> row : rows) {
+            Long id = ((Number) row.get("id")).longValue();
+            if (applied.containsKey(id)) {
+                continue;
+            }
+            applied.put(id, ((Timestamp) row.get("created_at")).getTime());
+
+            if (cache == null) {
+                cache = secondLevelCache();
+                // Cached query results may include or exclude the changed rows
+                cache.evictQueryRegions();
+            }
+            String entityName = (String) row.get("entity_name");
+            Number entityId = (Number) row.get("entity_id");
+            if (ALL.equals(entityName)) {
+                clearLocal();
+                continue;
+            }
+            termChanged |= AcademicYear.class.getName().equals(entityName);
+            resourceVersionService.invalidate(entityName);
+            if (entityId != null) {
+                cache.evictEntityData(entityName, entityId.longValue());
+            } else {
+                cache.evictEntityData(entityName);
+            }
+            if (Course.class.getName().equals(entityName)) {
+                cache.evictCollectionData(COURSE_PREREQUISITES_ROLE);
+                clearSpringCache(CacheConfig.COURSE_CATALOG);
+            }
+            log.debug("Evicted {}#{} changed on another node", entityName, entityId);
+        }
+        if (termChanged) {
+            eventPublisher.publishEvent(new TermContextService.AcademicYearChanged());
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeOldRecords() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                new Timestamp(System.currentTimeMillis() - retentionHours * 3_600_000));
+        if (deleted > 0) {
+            log.debug("Purged {} cache invalidation records", deleted);
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        clearLocal();
+        record(ALL, null);
+        log.info("🧹 Cleared all second-level and application caches");
+    }
+
+    private void record(String entityName, Long entityId) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation (entity_name, entity_id, origin, created_at) " +
+                        "VALUES (?, ?, ?, ?)",
+                entityName, entityId, origin, new Timestamp(System.currentTimeMillis()));
+    }
+
+    private void clearLocal() {
+        secondLevelCache().evictAllRegions();
+        cacheManager.getCacheNames().forEach(this::clearSpringCache);
+        resourceVersionService.invalidateAll();
+    }
+
+    private void clearSpringCache(String name) {
+        org.springframework.cache.Cache springCache = cacheManager.getCache(name);
+        if (springCache != null) {
+            springCache.clear();
+        }
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
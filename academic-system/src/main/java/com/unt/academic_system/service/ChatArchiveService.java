@@ -0,0 +1,62 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.ChatGroup;
+import com.unt.academic_system.model.ChatGroupMessage;
+import com.unt.academic_system.model.ChatMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Hot/cold storage for chat messages.
+ *
+ * Messages older than app.chat.archive.after-days are moved from
+ * chat_messages and chat_group_messages into the compressed
+ * chat_messages_archive and chat_group_messages_archive tables, so the
+ * history, media and unread queries only go through recent rows. Every
+ * archived message is older than every hot message, so a history page that
+ * runs past the end of the hot table simply continues in the archive.
+ */
+public interface ChatArchiveService {
+
+    record ArchiveRun(int privateMessages, int groupMessages) {
+    }
+
+    /**
+     * Archive runs of this node: whether one is running, and the outcome of the last one
+     *
+     * @param lastRun   null until a run has finished
+     * @param lastError null unless the last run failed
+     */
+    record ArchiveStatus(boolean running, LocalDateTime startedAt, LocalDateTime finishedAt,
+                         ArchiveRun lastRun, String lastError) {
+    }
+
+    /**
+     * Move everything older than the cutoff, in short batches so the tables
+     * stay online; safe to run on several nodes at once
+     */
+    ArchiveRun archiveOldMessages();
+
+    /**
+     * Run archiveOldMessages() in the background; false if a run is already
+     * in progress on this node
+     */
+    boolean startArchive();
+
+    ArchiveStatus archiveStatus();
+
+    /**
+     * Archived part of a conversation, newest first, starting offset rows
+     * after the newest archived message
+     */
+    List<ChatMessage> findConversation(String userA, String userB, long offset, int limit);
+
+    /**
+     * Archived messages of a group, newest first
+     */
+    List<ChatGroupMessage> findGroupMessages(ChatGroup group, long offset, int limit);
+
+    Optional<ChatMessage> findMessage(Long messageId);
+}
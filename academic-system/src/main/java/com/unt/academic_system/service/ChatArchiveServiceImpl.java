@@ -0,0 +1,274 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.repository.ArchivedChatGroupMessageRepository;
+import com.unt.academic_system.repository.ArchivedChatMessageRepository;
+import com.unt.academic_system.repository.ChatGroupMessageRepository;
+import com.unt.academic_system.repository.ChatMessageRepository;
+import com.unt.academic_system.service.NotificationPushService.UnreadChanged;
+import com.unt.academic_system.util.OffsetPageRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Each batch locks up to app.chat.archive.batch-size due rows (SKIP LOCKED),
+ * copies them into the archive table and deletes them from the hot table in
+ * one short transaction, so readers see every message in exactly one of the
+ * two tables and the hot table is never locked for long. Batches are spaced
+ * by app.chat.archive.batch-pause-ms; the first run after enabling the
+ * archive is the online migration of the existing backlog.
+ *
+ * Unread private messages leave the unread count when they are archived:
+ * each batch publishes the per-recipient decrease, like marking them read
+ * does, so the counts pushed to connected users stay right.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveServiceImpl implements ChatArchiveService {
+
+    private static final List<String> ARCHIVE_TABLES = List.of("chat_messages_archive", "chat_group_messages_archive");
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatGroupMessageRepository groupMessageRepository;
+    private final ArchivedChatMessageRepository archivedChatMessageRepository;
+    private final ArchivedChatGroupMessageRepository archivedGroupMessageRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.chat.archive.after-days:180}")
+    private long afterDays;
+
+    @Value("${app.chat.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.chat.archive.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    @Value("${app.chat.archive.compress:true}")
+    private boolean compress;
+
+    private TransactionTemplate batchTransaction;
+    private ThreadPoolTaskExecutor executor;
+    private Counter privateArchived;
+    private Counter groupArchived;
+    private volatile boolean stopping;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ArchiveStatus status = new ArchiveStatus(false, null, null, null, null);
+
+    @PostConstruct
+    void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("chat-archive-");
+        executor.initialize();
+        privateArchived = Counter.builder("chat.archive.messages")
+                .description("Chat messages moved to the archive tables")
+                .tag("table", "chat_messages")
+                .register(meterRegistry);
+        groupArchived = Counter.builder("chat.archive.messages")
+                .description("Chat messages moved to the archive tables")
+                .tag("table", "chat_group_messages")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        stopping = true;
+        executor.shutdown();
+    }
+
+    /**
+     * Archive rows are written once and read rarely: on MySQL they are stored
+     * compressed. Done after startup, once Hibernate has created the tables.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void compressArchiveTables() {
+        if (!compress || !isMySql()) {
+            return;
+        }
+        for (String table : ARCHIVE_TABLES) {
+            List<String> rowFormat = jdbcTemplate.queryForList(
+                    "SELECT row_format FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                    String.class, table);
+            if (!rowFormat.isEmpty() && !"Compressed".equalsIgnoreCase(rowFormat.get(0))) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8");
+                log.info("🗜️ {} switched to ROW_FORMAT=COMPRESSED", table);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveOldMessages();
+        }
+    }
+
+    @Override
+    public ArchiveRun archiveOldMessages() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("📦 Chat archive already running, skipped");
+            return new ArchiveRun(0, 0);
+        }
+        return run();
+    }
+
+    @Override
+    public boolean startArchive() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(this::run);
+        return true;
+    }
+
+    @Override
+    public ArchiveStatus archiveStatus() {
+        return status;
+    }
+
+    // Called with running set
+    private ArchiveRun run() {
+        ArchiveStatus previous = status;
+        LocalDateTime startedAt = LocalDateTime.now();
+        status = new ArchiveStatus(true, startedAt, null, previous.lastRun(), null);
+        try {
+            LocalDateTime cutoff = startedAt.minusDays(afterDays);
+            log.info("📦 Archiving chat messages older than {}", cutoff);
+
+            int privateMessages = drain(() -> archivePrivateBatch(cutoff));
+            int groupMessages = drain(() -> archiveGroupBatch(cutoff));
+
+            log.info("📦 Archived {} private and {} group messages", privateMessages, groupMessages);
+            ArchiveRun run = new ArchiveRun(privateMessages, groupMessages);
+            status = new ArchiveStatus(false, startedAt, LocalDateTime.now(), run, null);
+            return run;
+        } catch (RuntimeException e) {
+            log.error("❌ Chat archive failed", e);
+            status = new ArchiveStatus(false, startedAt, LocalDateTime.now(), previous.lastRun(), e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessage> findConversation(String userA, String userB, long offset, int limit) {
+        return archivedChatMessageRepository.findConversation(userA, userB, new OffsetPageRequest(offset, limit))
+                .stream()
+                .map(ArchivedChatMessage::toMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatGroupMessage> findGroupMessages(ChatGroup group, long offset, int limit) {
+        return archivedGroupMessageRepository.findByGroupId(group.getId(), new OffsetPageRequest(offset, limit))
+                .stream()
+                .map(message -> message.toMessage(group))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatMessage> findMessage(Long messageId) {
+        return archivedChatMessageRepository.findById(messageId).map(ArchivedChatMessage::toMessage);
+    }
+
+    private int archivePrivateBatch(LocalDateTime cutoff) {
+        Integer moved = batchTransaction.execute(tx -> {
+            List<ChatMessage> due = chatMessageRepository.findDueForArchive(cutoff, Limit.of(batchSize));
+            if (due.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = due.stream().map(ChatMessage::getId).collect(Collectors.toList());
+            archivedChatMessageRepository.copyFromHot(ids);
+            int deleted = chatMessageRepository.deleteByIdIn(ids);
+
+            // Delivered after the commit, as when the messages are marked read
+            Map<String, Long> unread = due.stream()
+                    .filter(message -> !message.isRead())
+                    .collect(Collectors.groupingBy(ChatMessage::getRecipientId, Collectors.counting()));
+            unread.forEach((recipientId, count) -> eventPublisher.publishEvent(
+                    new UnreadChanged(recipientId, NotificationPushService.Counter.CHAT_MESSAGES, -count, null)));
+            return deleted;
+        });
+        privateArchived.increment(moved);
+        return moved;
+    }
+
+    private int archiveGroupBatch(LocalDateTime cutoff) {
+        Integer moved = batchTransaction.execute(tx -> {
+            List<Long> ids = groupMessageRepository.findDueForArchive(cutoff, Limit.of(batchSize)).stream()
+                    .map(ChatGroupMessage::getId)
+                    .collect(Collectors.toList());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archivedGroupMessageRepository.copyFromHot(ids);
+            return groupMessageRepository.deleteByIdIn(ids);
+        });
+        groupArchived.increment(moved);
+        return moved;
+    }
+
+    private int drain(Supplier<Integer> batch) {
+        int total = 0;
+        while (!stopping) {
+            int moved = batch.get();
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(batchPauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
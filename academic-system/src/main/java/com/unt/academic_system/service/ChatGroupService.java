@@ -1,10 +1,13 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.MessageRef;
 import com.unt.academic_system.model.*;
 import com.unt.academic_system.repository.*;
+import com.unt.academic_system.service.ReadReceiptDispatcher.ReadReceipt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -37,6 +40,12 @@ public class ChatGroupService {
     @Autowired
     private AdminRepository adminRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChatArchiveService chatArchiveService;
+
     // ==================== GROUP MANAGEMENT ====================
 
     @Transactional
@@ -385,7 +394,16 @@ public class ChatGroupService {
     public List<ChatGroupMessage> getGroupMessages(Long groupId, int page, int size) {
         try {
             PageRequest pageRequest = PageRequest.of(page, size, Sort.by("timestamp").descending());
-            List<ChatGroupMessage> messages = groupMessageRepository.findByGroupId(groupId, pageRequest);
+            List<ChatGroupMessage> messages = new ArrayList<>(groupMessageRepository.findByGroupId(groupId, pageRequest));
+
+            // Past the oldest hot message the page continues in the archive (see ChatArchiveService)
+            if (messages.size() < size) {
+                long start = (long) page * size;
+                long hotTotal = messages.isEmpty() ? groupMessageRepository.countByGroupId(groupId) : start + messages.size();
+                long archiveOffset = Math.max(0, start + messages.size() - hotTotal);
+                groupRepository.findById(groupId).ifPresent(group -> messages.addAll(
+                        chatArchiveService.findGroupMessages(group, archiveOffset, size - messages.size())));
+            }
 
             // Reverse to get chronological order
             Collections.reverse(messages);
@@ -424,6 +442,36 @@ public class ChatGroupService {
         }
     }
 
+    /**
+     * Adds the user to the read receipts of every unread message of the group
+     * with one UPDATE and sends one receipt per sender.
+     *
+     * @return ids of the messages that were unread
+     * @throws IllegalArgumentException if the group does not exist or the user is not a member
+     */
+    @Transactional
+    public List<Long> markGroupAsRead(Long groupId, String userId) {
+        if (userId == null || !groupRepository.existsMember(groupId, userId)) {
+            throw new IllegalArgumentException("Not a member of group " + groupId);
+        }
+
+        List<MessageRef> unread = groupMessageRepository.findUnreadRefs(groupId, userId);
+        if (unread.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> messageIds = unread.stream().map(MessageRef::getId).collect(Collectors.toList());
+        int updated = groupMessageRepository.addReadByForIds(messageIds, userId);
+
+        unread.stream()
+                .collect(Collectors.groupingBy(MessageRef::getSenderId, LinkedHashMap::new,
+                        Collectors.mapping(MessageRef::getId, Collectors.toList())))
+                .forEach((senderId, ids) -> eventPublisher.publishEvent(new ReadReceipt(senderId, userId, groupId, ids)));
+
+        logger.info("{} messages of group {} marked as read by {}", updated, groupId, userId);
+        return messageIds;
+    }
+
     @Transactional(readOnly = true)
     public long getUnreadCount(Long groupId, String userId) {
         try {
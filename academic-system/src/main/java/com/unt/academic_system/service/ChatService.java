@@ -2,11 +2,16 @@
 package com.unt.academic_system.service;
 
 
+import com.unt.academic_system.dto.MessageRef;
 import com.unt.academic_system.model.ChatMessage;
 import com.unt.academic_system.repository.ChatMessageRepository;
+import com.unt.academic_system.service.NotificationPushService.Counter;
+import com.unt.academic_system.service.NotificationPushService.UnreadChanged;
+import com.unt.academic_system.service.ReadReceiptDispatcher.ReadReceipt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -15,7 +20,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
@@ -26,7 +30,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.*;
@@ -37,6 +40,9 @@ import java.util.stream.Collectors;
 public class ChatService {
     private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
     private final ChatMessageRepository chatMessageRepository;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatArchiveService chatArchiveService;
 
     // In-memory storage for user online status
     private final Map<String, UserStatus> userStatusMap = new ConcurrentHashMap<>();
@@ -66,8 +72,12 @@ public class ChatService {
             "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
     );
 
-    public ChatService(ChatMessageRepository chatMessageRepository) {
+    public ChatService(ChatMessageRepository chatMessageRepository, FileStorageService fileStorageService,
+                       ApplicationEventPublisher eventPublisher, ChatArchiveService chatArchiveService) {
         this.chatMessageRepository = chatMessageRepository;
+        this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
+        this.chatArchiveService = chatArchiveService;
     }
 
     @jakarta.annotation.PostConstruct
@@ -95,16 +105,6 @@ public class ChatService {
 
     @Transactional
     public ChatMessage saveMessage(ChatMessage chatMessage) {
-        logger.info("==========================================");
-        logger.info("ATTEMPTING TO SAVE MESSAGE");
-        logger.info("Message ID: {}", chatMessage.getId());
-        logger.info("Sender: {}", chatMessage.getSenderId());
-        logger.info("Recipient: {}", chatMessage.getRecipientId());
-        logger.info("Content: {}", chatMessage.getContent());
-        logger.info("Type: {}", chatMessage.getType());
-        logger.info("Timestamp: {}", chatMessage.getTimestamp());
-        logger.info("==========================================");
-
         int maxRetries = 3;
         int retryCount = 0;
 
@@ -130,27 +130,39 @@ public class ChatService {
                     chatMessage.setTimestamp(LocalDateTime.now());
                 }
 
-                if (chatMessage.getId() == null) {
-                    logger.info("New message - setting defaults");
+                boolean isNew = chatMessage.getId() == null;
+                if (isNew) {
                     chatMessage.setRead(false);
                 }
 
                 if (chatMessage.getStatus() == null) {
-                    logger.info("Status was null, setting to SENT");
                     chatMessage.setStatus("SENT");
                 }
 
                 if (chatMessage.getType() == null) {
-                    logger.info("Type was null, setting to CHAT");
                     chatMessage.setType(ChatMessage.MessageType.CHAT);
                 }
 
-                logger.info("Calling repository.save()...");
                 ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-                logger.info("✅ MESSAGE SAVED SUCCESSFULLY!");
-                logger.info("Saved Message ID: {}", savedMessage.getId());
-                logger.info("Saved Message Content: {}", savedMessage.getContent());
-                logger.info("==========================================");
+
+                // Per-message detail at DEBUG only; content is never logged
+                logger.atDebug()
+                        .addKeyValue("messageId", savedMessage.getId())
+                        .addKeyValue("sender", savedMessage.getSenderId())
+                        .addKeyValue("recipient", savedMessage.getRecipientId())
+                        .addKeyValue("type", savedMessage.getType())
+                        .addKeyValue("contentLength", savedMessage.getContent() != null ? savedMessage.getContent().length() : 0)
+                        .log("Chat message saved");
+
+                if (isNew) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("id", savedMessage.getId());
+                    item.put("senderId", savedMessage.getSenderId());
+                    item.put("type", savedMessage.getType());
+                    item.put("timestamp", savedMessage.getTimestamp());
+                    eventPublisher.publishEvent(new UnreadChanged(
+                            savedMessage.getRecipientId(), Counter.CHAT_MESSAGES, 1, item));
+                }
                 return savedMessage;
 
             } catch (org.hibernate.StaleObjectStateException e) {
@@ -170,11 +182,6 @@ public class ChatService {
                 throw e;
             } catch (Exception e) {
                 logger.error("❌ UNEXPECTED ERROR saving message", e);
-                logger.error("Exception type: {}", e.getClass().getName());
-                logger.error("Exception message: {}", e.getMessage());
-                if (e.getCause() != null) {
-                    logger.error("Caused by: {}", e.getCause().getMessage());
-                }
                 throw new RuntimeException("Failed to save message", e);
             }
         }
@@ -192,7 +199,8 @@ public class ChatService {
                 throw new IllegalArgumentException("Message ID cannot be null");
             }
 
-            Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId);
+            Optional<ChatMessage> messageOpt = chatMessageRepository.findById(messageId)
+                    .or(() -> chatArchiveService.findMessage(messageId));
             if (messageOpt.isPresent()) {
                 logger.debug("Retrieved message with ID: {}", messageId);
                 return messageOpt.get();
@@ -213,6 +221,10 @@ public class ChatService {
                 throw new IllegalArgumentException("File URL cannot be null or empty");
             }
 
+            if (FileStorageService.isStoredFileUrl(fileUrl)) {
+                return fileStorageService.load(FileStorageService.hashOf(fileUrl));
+            }
+
             String cleanFileUrl = fileUrl.startsWith("/uploads/") ?
                     fileUrl.substring("/uploads/".length()) : fileUrl;
 
@@ -491,8 +503,8 @@ public class ChatService {
             validateUserIds(senderId, recipientId);
 
             PageRequest pageRequest = PageRequest.of(0, 100, Sort.by("timestamp").descending());
-            List<ChatMessage> messages = chatMessageRepository.findBySenderIdAndRecipientId(
-                    senderId, recipientId, pageRequest);
+            List<ChatMessage> messages = withArchive(senderId, recipientId, 0, 100,
+                    chatMessageRepository.findBySenderIdAndRecipientId(senderId, recipientId, pageRequest));
 
             List<ChatMessage> chronologicalMessages = new ArrayList<>(messages);
             Collections.reverse(chronologicalMessages);
@@ -514,10 +526,8 @@ public class ChatService {
 
     @Transactional(readOnly = true)
     public List<ChatMessage> getChatHistoryPaginated(String senderId, String recipientId, int page, int size) {
-        logger.info("📚 Getting chat history from service");
-        logger.info("   Sender: {}", senderId);
-        logger.info("   Recipient: {}", recipientId);
-        logger.info("   Page: {}, Size: {}", page, size);
+        logger.debug("Getting chat history: sender={}, recipient={}, page={}, size={}",
+                senderId, recipientId, page, size);
 
         try {
             // Validate inputs
@@ -536,37 +546,19 @@ public class ChatService {
             String normalizedSender = senderId.trim().toLowerCase();
             String normalizedRecipient = recipientId.trim().toLowerCase();
 
-            logger.info("🔍 Querying conversation between: {} <-> {}", normalizedSender, normalizedRecipient);
-
             // Create pageable with descending order (newest first from DB)
             Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
 
             // Query for bidirectional conversation
-            List<ChatMessage> messages = chatMessageRepository.findConversationMessages(
-                    normalizedSender,
-                    normalizedRecipient,
-                    pageable
-            );
+            List<ChatMessage> messages = withArchive(normalizedSender, normalizedRecipient, page, size,
+                    chatMessageRepository.findConversationMessages(normalizedSender, normalizedRecipient, pageable));
 
-            logger.info("✅ Found {} messages in database", messages.size());
+            logger.debug("Found {} messages between {} and {}", messages.size(), normalizedSender, normalizedRecipient);
 
             // Reverse to get chronological order for display
             List<ChatMessage> chronologicalMessages = new ArrayList<>(messages);
             Collections.reverse(chronologicalMessages);
 
-            // Log sample messages for debugging
-            if (!chronologicalMessages.isEmpty()) {
-                logger.info("📧 Sample messages:");
-                chronologicalMessages.stream().limit(3).forEach(msg -> {
-                    logger.info("   {} -> {}: {}",
-                            msg.getSenderId(),
-                            msg.getRecipientId(),
-                            msg.getContent() != null && msg.getContent().length() > 30 ?
-                                    msg.getContent().substring(0, 30) + "..." :
-                                    msg.getContent());
-                });
-            }
-
             return chronologicalMessages;
 
         } catch (Exception e) {
@@ -663,9 +655,13 @@ public class ChatService {
                 ChatMessage message = messageOpt.get();
 
                 if (message.getRecipientId().equals(username)) {
+                    boolean wasUnread = !message.isRead();
                     message.setRead(true);
                     message.setStatus("READ");
                     chatMessageRepository.save(message);
+                    if (wasUnread) {
+                        eventPublisher.publishEvent(new UnreadChanged(username, Counter.CHAT_MESSAGES, -1, null));
+                    }
                     logger.info("Message {} marked as read by {}", messageId, username);
                 } else {
                     logger.warn("User {} attempted to mark message {} as read but is not the recipient",
@@ -685,29 +681,25 @@ public class ChatService {
         }
     }
 
+    /**
+     * Marks the conversation (or, without senderId, every conversation) of the
+     * recipient as read with one UPDATE and sends one receipt per sender.
+     *
+     * @return ids of the messages that were unread
+     */
     @Transactional
-    public void markAllMessagesAsRead(String recipientId, String senderId) {
+    public List<Long> markAllMessagesAsRead(String recipientId, String senderId) {
         try {
             if (recipientId == null || recipientId.trim().isEmpty()) {
                 throw new IllegalArgumentException("Recipient ID cannot be null or empty");
             }
 
-            List<ChatMessage> unreadMessages = chatMessageRepository.findByRecipientIdAndReadFalse(recipientId);
-
-            List<ChatMessage> messagesToUpdate = unreadMessages.stream()
-                    .filter(message -> senderId == null || message.getSenderId().equals(senderId))
-                    .collect(Collectors.toList());
-
-            for (ChatMessage message : messagesToUpdate) {
-                message.setRead(true);
-                message.setStatus("READ");
-            }
-
-            if (!messagesToUpdate.isEmpty()) {
-                chatMessageRepository.saveAll(messagesToUpdate);
+            List<Long> messageIds = markAsRead(recipientId, chatMessageRepository.findUnreadRefs(recipientId, senderId));
+            if (!messageIds.isEmpty()) {
                 logger.info("Marked {} messages as read for recipient {} from sender {}",
-                        messagesToUpdate.size(), recipientId, senderId);
+                        messageIds.size(), recipientId, senderId);
             }
+            return messageIds;
         } catch (IllegalArgumentException e) {
             logger.error("Invalid parameters: {}", e.getMessage());
             throw e;
@@ -718,6 +710,42 @@ public class ChatService {
         }
     }
 
+    /**
+     * Same as markAllMessagesAsRead for the given messages only; messages
+     * that are not addressed to the recipient or already read are skipped.
+     *
+     * @return ids of the messages that were unread
+     */
+    @Transactional
+    public List<Long> markMessagesAsRead(String recipientId, Collection<Long> messageIds) {
+        if (recipientId == null || recipientId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Recipient ID cannot be null or empty");
+        }
+        if (messageIds == null || messageIds.isEmpty()) {
+            return List.of();
+        }
+        return markAsRead(recipientId, chatMessageRepository.findUnreadRefsByIds(messageIds, recipientId));
+    }
+
+    private List<Long> markAsRead(String recipientId, List<MessageRef> unread) {
+        if (unread.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> messageIds = unread.stream().map(MessageRef::getId).collect(Collectors.toList());
+        int updated = chatMessageRepository.markAsReadByIds(messageIds);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UnreadChanged(recipientId, Counter.CHAT_MESSAGES, -updated, null));
+        }
+
+        unread.stream()
+                .collect(Collectors.groupingBy(MessageRef::getSenderId, LinkedHashMap::new,
+                        Collectors.mapping(MessageRef::getId, Collectors.toList())))
+                .forEach((senderId, ids) -> eventPublisher.publishEvent(new ReadReceipt(senderId, recipientId, null, ids)));
+
+        return messageIds;
+    }
+
     @Transactional
     public boolean deleteMessage(Long messageId, String username) {
         try {
@@ -736,6 +764,13 @@ public class ChatService {
 
                 if (message.getSenderId().equals(username) || message.getRecipientId().equals(username)) {
                     chatMessageRepository.deleteById(messageId);
+                    if (!message.isRead()) {
+                        eventPublisher.publishEvent(new UnreadChanged(
+                                message.getRecipientId(), Counter.CHAT_MESSAGES, -1, null));
+                    }
+                    if (message.getFileUrl() != null) {
+                        fileStorageService.release(message.getFileUrl());
+                    }
                     logger.info("Message {} deleted by user {}", messageId, username);
                     return true;
                 } else {
@@ -886,20 +921,8 @@ public class ChatService {
             throw new IllegalArgumentException("File type not allowed: " + contentType);
         }
 
-        String originalFilename = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
-        String fileExtension = originalFilename.contains(".") ?
-                originalFilename.substring(originalFilename.lastIndexOf(".")) : "";
-        String uniqueFilename = UUID.randomUUID().toString() + fileExtension;
-
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        Path filePath = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        return "/uploads/" + uniqueFilename;
+        // Content-addressed: the same file shared in several conversations is stored once
+        return fileStorageService.store(file);
     }
 
     private boolean isAllowedFileType(String contentType) {
@@ -942,6 +965,25 @@ public class ChatService {
         }
     }
 
+    /**
+     * Completes a newest-first history page from the archive once it runs past
+     * the oldest message still in the hot table (see ChatArchiveService).
+     * Recent pages are served by the hot table alone.
+     */
+    private List<ChatMessage> withArchive(String userA, String userB, int page, int size, List<ChatMessage> hotPage) {
+        if (hotPage.size() >= size) {
+            return hotPage;
+        }
+
+        long start = (long) page * size;
+        long hotTotal = hotPage.isEmpty() ? chatMessageRepository.countConversation(userA, userB) : start + hotPage.size();
+        long archiveOffset = Math.max(0, start + hotPage.size() - hotTotal);
+
+        List<ChatMessage> messages = new ArrayList<>(hotPage);
+        messages.addAll(chatArchiveService.findConversation(userA, userB, archiveOffset, size - hotPage.size()));
+        return messages;
+    }
+
     private void validateUserIds(String senderId, String recipientId) {
         if (senderId == null || senderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Sender ID cannot be null or empty");
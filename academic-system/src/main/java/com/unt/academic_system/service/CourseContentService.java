@@ -1,6 +1,10 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CourseContentDTO;
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.model.ApprovalStatus;
 import com.unt.academic_system.model.CourseContent;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +13,9 @@ public interface CourseContentService {
 
     List<CourseContent> getAllContent();
 
+    CursorPage<CourseContentDTO> findPage(Long courseId, Long lecturerId, ApprovalStatus approvalStatus,
+                                          Long cursor, int limit, Sort.Direction direction);
+
     CourseContent uploadContent(CourseContent content);
     Optional<CourseContent> findById(Long id);
     List<CourseContent> getContentByCourse(Long courseId);
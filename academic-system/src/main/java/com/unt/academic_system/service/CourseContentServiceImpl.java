@@ -1,12 +1,18 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CourseContentDTO;
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.model.Admin;
 import com.unt.academic_system.model.ApprovalStatus;
 import com.unt.academic_system.model.CourseContent;
 import com.unt.academic_system.repository.AdminRepository;
 import com.unt.academic_system.repository.CourseContentRepository;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.DTOMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +28,7 @@ public class CourseContentServiceImpl implements CourseContentService {
 
     private final CourseContentRepository courseContentRepository;
     private final AdminRepository adminRepository;
+    private final FileStorageService fileStorageService;
 
     @Override
     @Transactional
@@ -44,6 +51,18 @@ public class CourseContentServiceImpl implements CourseContentService {
         return courseContentRepository.findAll();
     }
 
+    @Override
+    public CursorPage<CourseContentDTO> findPage(Long courseId, Long lecturerId, ApprovalStatus approvalStatus,
+                                                 Long cursor, int limit, Sort.Direction direction) {
+        Specification<CourseContent> filter = Specification.allOf(
+                CursorPagination.attributeEquals("course.id", courseId),
+                CursorPagination.attributeEquals("lecturer.id", lecturerId),
+                CursorPagination.attributeEquals("approvalStatus", approvalStatus));
+
+        return CursorPagination.fetch(courseContentRepository, filter, cursor, limit, direction,
+                CourseContent::getId, DTOMapper::toCourseContentDTO);
+    }
+
     @Override
     public Optional<CourseContent> findById(Long id) {
         log.info("Fetching content by id: {}", id);
@@ -141,11 +160,11 @@ public class CourseContentServiceImpl implements CourseContentService {
     public void deleteContent(Long contentId) {
         log.info("Deleting content id: {}", contentId);
 
-        if (!courseContentRepository.existsById(contentId)) {
-            throw new RuntimeException("Content not found with id: " + contentId);
-        }
+        CourseContent content = courseContentRepository.findById(contentId)
+                .orElseThrow(() -> new RuntimeException("Content not found with id: " + contentId));
 
-        courseContentRepository.deleteById(contentId);
+        courseContentRepository.delete(content);
+        fileStorageService.release(content.getFilePath());
         log.info("Content deleted successfully");
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.config.CacheConfig;
 import com.unt.academic_system.dto.CourseCreateDTO;
 import com.unt.academic_system.dto.CourseDTO;
 import com.unt.academic_system.dto.CourseUpdateDTO;
@@ -10,10 +11,16 @@ import com.unt.academic_system.repository.CourseRepository;
 import com.unt.academic_system.repository.EnrollmentRepository;
 import com.unt.academic_system.repository.LecturerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,6 +35,7 @@ public class CourseServiceImpl implements CourseService {
     private final LecturerRepository lecturerRepository;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public CourseDTO createCourse(CourseCreateDTO courseCreateDTO) {
         // Check if course code already exists
         if (courseRepository.existsByCourseCode(courseCreateDTO.getCourseCode())) {
@@ -95,6 +103,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public CourseDTO updateCourse(Long id, CourseUpdateDTO courseUpdateDTO) {
         Course existingCourse = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
@@ -124,6 +133,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void deleteCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
@@ -140,71 +150,48 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'all'")
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findAllForCatalog());
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'faculty:' + #faculty")
     public List<CourseDTO> getCoursesByFaculty(String faculty) {
-        return courseRepository.findByFaculty(faculty).stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findByFacultyForCatalog(faculty));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'department:' + #department")
     public List<CourseDTO> getCoursesByDepartment(String department) {
-        return courseRepository.findByDepartment(department).stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findByDepartmentForCatalog(department));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'year:' + #year + ':' + #semester")
     public List<CourseDTO> getCoursesByYearAndSemester(String year, Integer semester) {
-        List<Course> courses = courseRepository.findByYearAndSemester(year, semester);
-        return courses.stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findByYearAndSemesterForCatalog(year, semester));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'active'")
     public List<CourseDTO> getActiveCourses() {
-        return courseRepository.findByIsActiveTrue().stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findActiveForCatalog());
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'available'")
     public List<CourseDTO> getAvailableCourses() {
-        return courseRepository.findAvailableCourses().stream()
-                .map(course -> {
-                    Integer enrollmentCount = enrollmentRepository.countByCourseId(course.getId());
-                    return CourseDTO.fromEntity(course, enrollmentCount);
-                })
-                .collect(Collectors.toList());
+        return toCatalog(courseRepository.findAvailableCourses());
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void addPrerequisite(Long courseId, Long prerequisiteId) {
         if (courseId.equals(prerequisiteId)) {
             throw new RuntimeException("A course cannot be its own prerequisite");
@@ -222,10 +209,13 @@ public class CourseServiceImpl implements CourseService {
         }
 
         course.getPrerequisites().add(prerequisite);
+        // A collection change alone does not update the row; touch it so updatedAt (and ETags) move
+        course.setUpdatedAt(LocalDateTime.now());
         courseRepository.save(course);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void removePrerequisite(Long courseId, Long prerequisiteId) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
@@ -234,6 +224,8 @@ public class CourseServiceImpl implements CourseService {
                 .orElseThrow(() -> new RuntimeException("Prerequisite course not found"));
 
         course.getPrerequisites().remove(prerequisite);
+        // A collection change alone does not update the row; touch it so updatedAt (and ETags) move
+        course.setUpdatedAt(LocalDateTime.now());
         courseRepository.save(course);
     }
 
@@ -263,6 +255,30 @@ public class CourseServiceImpl implements CourseService {
         return true;
     }
 
+    /**
+     * Map a page of courses to DTOs using a single grouped COUNT query
+     * instead of one countByCourseId call per course.
+     */
+    private List<CourseDTO> toCatalog(List<Course> courses) {
+        Map<Long, Integer> counts = countEnrollments(courses);
+        return courses.stream()
+                .map(course -> CourseDTO.fromEntity(course, counts.getOrDefault(course.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Integer> countEnrollments(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Set<Long> courseIds = courses.stream().map(Course::getId).collect(Collectors.toSet());
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : enrollmentRepository.countByCourseIds(courseIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
     /**
      * Helper method to check for circular dependencies in prerequisites
      */
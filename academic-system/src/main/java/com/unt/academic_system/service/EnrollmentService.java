@@ -1,9 +1,11 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.dto.EnrollmentCreateDTO;
 import com.unt.academic_system.dto.EnrollmentDTO;
 import com.unt.academic_system.dto.EnrollmentUpdateDTO;
 import com.unt.academic_system.model.EnrollmentStatus;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +22,12 @@ public interface EnrollmentService {
      */
     List<EnrollmentDTO> findAll();
 
+    /**
+     * Keyset page of enrollments, optionally filtered (null filters are ignored)
+     */
+    CursorPage<EnrollmentDTO> findPage(Long studentId, Long courseId, EnrollmentStatus status, String academicYear,
+                                       Long cursor, int limit, Sort.Direction direction);
+
     /**
      * Find enrollment by ID
      */
@@ -81,7 +89,7 @@ public interface EnrollmentService {
     Integer calculateCurrentCredits(Long studentId, String academicYear, Integer semester);
 
     /**
-     * Calculate student GPA
+     * Student GPA (credit-weighted, 4.0 scale) from the precomputed academic standing
      */
     Double calculateGPA(Long studentId);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.config.CacheConfig;
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.dto.EnrollmentCreateDTO;
 import com.unt.academic_system.dto.EnrollmentDTO;
 import com.unt.academic_system.dto.EnrollmentUpdateDTO;
+import com.unt.academic_system.model.AcademicStanding;
 import com.unt.academic_system.model.Course;
 import com.unt.academic_system.model.Enrollment;
 import com.unt.academic_system.model.EnrollmentStatus;
@@ -10,10 +13,16 @@ import com.unt.academic_system.model.Student;
 import com.unt.academic_system.repository.CourseRepository;
 import com.unt.academic_system.repository.EnrollmentRepository;
 import com.unt.academic_system.repository.StudentRepository;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.GradeCalculator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,9 +36,24 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
     private final CourseService courseService;
+    private final AcademicStandingService academicStandingService;
+    private final TermContextService termContextService;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public EnrollmentDTO enrollStudent(EnrollmentCreateDTO enrollmentCreateDTO) {
+        // Registration window of the current term, checked from memory before anything is loaded.
+        // Without a current academic year there is no window to enforce.
+        termContextService.currentTerm().ifPresent(term -> {
+            if (!term.isFor(enrollmentCreateDTO.getAcademicYear(), enrollmentCreateDTO.getSemester())) {
+                throw new RuntimeException("Enrollment is only open for the current term: "
+                        + term.yearCode() + ", semester " + term.semester());
+            }
+            if (!term.isRegistrationOpen(LocalDate.now())) {
+                throw new RuntimeException("Registration for " + term.yearCode() + " is closed");
+            }
+        });
+
         // Validate student exists
         Student student = studentRepository.findById(enrollmentCreateDTO.getStudentId())
                 .orElseThrow(() -> new RuntimeException("Student not found"));
@@ -85,6 +109,21 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EnrollmentDTO> findPage(Long studentId, Long courseId, EnrollmentStatus status,
+                                              String academicYear, Long cursor, int limit,
+                                              Sort.Direction direction) {
+        Specification<Enrollment> filter = Specification.allOf(
+                CursorPagination.attributeEquals("student.id", studentId),
+                CursorPagination.attributeEquals("course.id", courseId),
+                CursorPagination.attributeEquals("status", status),
+                CursorPagination.attributeEquals("academicYear", academicYear));
+
+        return CursorPagination.fetch(enrollmentRepository, filter, cursor, limit, direction,
+                Enrollment::getId, EnrollmentDTO::fromEntity, "student", "course", "course.lecturer");
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<EnrollmentDTO> findById(Long id) {
@@ -93,6 +132,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public EnrollmentDTO updateEnrollment(Long id, EnrollmentUpdateDTO enrollmentUpdateDTO) {
         Enrollment existingEnrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
@@ -131,10 +171,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         }
 
         Enrollment updatedEnrollment = enrollmentRepository.save(existingEnrollment);
+        academicStandingService.recompute(updatedEnrollment.getStudent().getId());
         return EnrollmentDTO.fromEntity(updatedEnrollment);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void dropCourse(Long enrollmentId) {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
@@ -150,11 +192,18 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void deleteEnrollment(Long id) {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
 
+        boolean graded = enrollment.getStatus() == EnrollmentStatus.COMPLETED ||
+                enrollment.getStatus() == EnrollmentStatus.FAILED;
         enrollmentRepository.delete(enrollment);
+
+        if (graded) {
+            academicStandingService.recompute(enrollment.getStudent().getId());
+        }
     }
 
     @Override
@@ -182,6 +231,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public EnrollmentDTO updateGrade(Long enrollmentId, Double midterm, Double finalGrade) {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
@@ -195,6 +245,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         }
 
         Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        academicStandingService.recompute(updatedEnrollment.getStudent().getId());
         return EnrollmentDTO.fromEntity(updatedEnrollment);
     }
 
@@ -213,6 +264,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public EnrollmentDTO markAsPaid(Long enrollmentId) {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
@@ -231,7 +283,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     @Override
     @Transactional(readOnly = true)
     public List<EnrollmentDTO> getStudentTranscript(Long studentId) {
-        return enrollmentRepository.findByStudentIdAndStatus(studentId, EnrollmentStatus.COMPLETED)
+        return enrollmentRepository.findTranscript(studentId)
                 .stream()
                 .map(EnrollmentDTO::fromEntity)
                 .collect(Collectors.toList());
@@ -247,8 +299,10 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     @Override
     @Transactional(readOnly = true)
     public Double calculateGPA(Long studentId) {
-        Double gpa = enrollmentRepository.calculateGPA(studentId);
-        return gpa != null ? gpa : 0.0;
+        // Maintained by AcademicStandingService on every grade change
+        return academicStandingService.getStanding(studentId)
+                .map(AcademicStanding::getCumulativeGpa)
+                .orElse(0.0);
     }
 
     /**
@@ -262,32 +316,9 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             return;
         }
 
-        // Calculate total grade (40% midterm + 60% final)
-        double total = (midterm * 0.4) + (finalGrade * 0.6);
+        double total = GradeCalculator.total(midterm, finalGrade);
         enrollment.setTotalGrade(total);
-
-        // Calculate letter grade
-        String letterGrade = calculateLetterGrade(total);
-        enrollment.setLetterGrade(letterGrade);
-
-        // Update status based on grade
-        if (total >= 50) {
-            enrollment.setStatus(EnrollmentStatus.COMPLETED);
-        } else {
-            enrollment.setStatus(EnrollmentStatus.FAILED);
-        }
-    }
-
-    /**
-     * Helper method to calculate letter grade
-     */
-    private String calculateLetterGrade(double grade) {
-        if (grade >= 90) return "A";
-        if (grade >= 85) return "B+";
-        if (grade >= 80) return "B";
-        if (grade >= 75) return "C+";
-        if (grade >= 70) return "C";
-        if (grade >= 60) return "D";
-        return "F";
+        enrollment.setLetterGrade(GradeCalculator.letterGrade(total));
+        enrollment.setStatus(GradeCalculator.status(total));
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.StoredFile;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public interface FileStorageService {
+
+    /**
+     * URL prefix of files served from the content-addressed store
+     */
+    String URL_PREFIX = "/api/files/";
+
+    /**
+     * Store an upload (or add a reference to identical content already stored)
+     * and return its URL, /api/files/{sha256}
+     */
+    String store(MultipartFile file) throws IOException;
+
+    /**
+     * Drop one reference; the blob is deleted after commit when none remain.
+     * URLs outside the store (legacy uploads) are ignored.
+     */
+    void release(String fileUrl);
+
+    Optional<StoredFile> findByHash(String contentHash);
+
+    Resource load(String contentHash) throws IOException;
+
+    static boolean isStoredFileUrl(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(URL_PREFIX);
+    }
+
+    static String hashOf(String fileUrl) {
+        return fileUrl.substring(URL_PREFIX.length());
+    }
+}
@@ -0,0 +1,160 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.StoredFile;
+import com.unt.academic_system.repository.StoredFileRepository;
+import com.unt.academic_system.storage.BlobStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Blobs and their stored_files rows change under the row lock of the hash:
+ * - store() adds the reference with an upsert, which locks the row until
+ *   commit, and writes the blob if it is missing
+ * - release() leaves the row at refCount 0 (a tombstone) instead of deleting it
+ * - after commit, the blob and the tombstone are deleted in a new transaction
+ *   that locks the row again and only goes ahead if it is still at 0
+ * An upload of the same content racing a release therefore either keeps the
+ * blob alive or waits for the delete and writes the blob again. Tombstones
+ * left behind by a crash are swept every hour.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FileStorageServiceImpl implements FileStorageService {
+
+    private final StoredFileRepository storedFileRepository;
+    private final BlobStore blobStore;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate purgeTransaction;
+
+    @PostConstruct
+    void init() {
+        purgeTransaction = new TransactionTemplate(transactionManager);
+        // Runs after the commit of the release, whose resources are still bound
+        purgeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String store(MultipartFile file) throws IOException {
+        String hash = sha256(file);
+
+        storedFileRepository.addReference(hash, file.getSize(), file.getContentType());
+
+        // The row is locked from here on: a purge of this hash cannot run until we commit
+        if (blobStore.exists(hash)) {
+            log.debug("Deduplicated upload {} -> {}", file.getOriginalFilename(), hash);
+            return FileStorageService.URL_PREFIX + hash;
+        }
+        try (InputStream in = file.getInputStream()) {
+            blobStore.put(hash, in);
+        }
+
+        log.info("Stored new blob {} ({} bytes)", hash, file.getSize());
+        return FileStorageService.URL_PREFIX + hash;
+    }
+
+    @Override
+    public void release(String fileUrl) {
+        if (!FileStorageService.isStoredFileUrl(fileUrl)) {
+            return;
+        }
+        String hash = FileStorageService.hashOf(fileUrl);
+
+        storedFileRepository.lockByContentHash(hash)
+                .filter(stored -> stored.getRefCount() > 0)
+                .ifPresent(stored -> {
+                    stored.setRefCount(stored.getRefCount() - 1);
+                    if (stored.getRefCount() == 0) {
+                        purgeAfterCommit(hash);
+                    }
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredFile> findByHash(String contentHash) {
+        return storedFileRepository.findByContentHash(contentHash)
+                .filter(stored -> stored.getRefCount() > 0);
+    }
+
+    @Override
+    public Resource load(String contentHash) throws IOException {
+        return blobStore.load(contentHash);
+    }
+
+    /**
+     * Tombstones whose purge never ran (the node stopped right after the commit)
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeUnreferenced() {
+        storedFileRepository.findUnreferencedHashes().forEach(this::purge);
+    }
+
+    /**
+     * A rollback keeps the reference, so the blob may only go once the release
+     * has committed
+     */
+    private void purgeAfterCommit(String hash) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    purge(hash);
+                }
+            });
+        } else {
+            purge(hash);
+        }
+    }
+
+    private void purge(String hash) {
+        purgeTransaction.executeWithoutResult(status -> storedFileRepository.lockByContentHash(hash)
+                .filter(stored -> stored.getRefCount() == 0)
+                .ifPresent(stored -> {
+                    // Deleted while holding the row lock, so no upload can re-reference it in between
+                    try {
+                        blobStore.delete(hash);
+                    } catch (IOException e) {
+                        // Keep the tombstone, the hourly sweep tries again
+                        log.warn("Could not delete blob {}: {}", hash, e.getMessage());
+                        return;
+                    }
+                    storedFileRepository.delete(stored);
+                    log.info("Deleted unreferenced blob {}", hash);
+                }));
+    }
+
+    private String sha256(MultipartFile file) throws IOException {
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(),
+                MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
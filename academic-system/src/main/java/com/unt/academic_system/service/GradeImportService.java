@@ -0,0 +1,21 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.dto.GradeImportReport;
+
+import java.io.InputStream;
+
+public interface GradeImportService {
+
+    /**
+     * Import a grade sheet with the columns enrollment_id, midterm and final
+     * (header required, extra columns ignored). The sheet is read as a stream;
+     * valid rows are applied, invalid ones are reported and skipped, and the
+     * standing of every student with an applied row is recomputed.
+     *
+     * @param filename decides the format: .xlsx for a workbook, CSV otherwise
+     * @param courseId when set, rows for enrollments of other courses are rejected
+     * @param dryRun   validate and report without writing anything
+     * @throws com.unt.academic_system.util.GradeSheetException if the sheet itself cannot be read
+     */
+    GradeImportReport importGrades(InputStream sheet, String filename, Long courseId, boolean dryRun);
+}
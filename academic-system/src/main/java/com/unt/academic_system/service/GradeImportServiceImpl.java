@@ -0,0 +1,218 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.config.CacheConfig;
+import com.unt.academic_system.dto.GradeImportReport;
+import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.model.EnrollmentStatus;
+import com.unt.academic_system.repository.EnrollmentRepository;
+import com.unt.academic_system.util.GradeCalculator;
+import com.unt.academic_system.util.GradeSheetColumns;
+import com.unt.academic_system.util.GradeSheetException;
+import com.unt.academic_system.util.GradeSheetReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Grade-sheet import. The sheet (CSV or XLSX, see GradeSheetReader) is read
+ * row by row and handled in chunks of app.grades.import.batch-size rows; per
+ * chunk:
+ * - rows are parsed and range-checked
+ * - the enrollments they point at are looked up with one IN query (ids,
+ *   student, course and status only, no entities are loaded)
+ * - accepted rows are written with one JDBC batch, totals, letters and status
+ *   computed by GradeCalculator as for PUT /api/enrollments/{id}/grade
+ * Standings are recomputed once at the end for all affected students.
+ *
+ * The batch bypasses the Enrollment entity listener, so the parent dashboards
+ * are evicted here and the change is recorded with CacheInvalidationService
+ * (query cache, @ConditionalGet versions, other nodes); updated_at is set so
+ * pollers see the change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GradeImportServiceImpl implements GradeImportService {
+
+    private static final String UPDATE_GRADES = "UPDATE enrollments SET midterm_grade = ?, final_grade = ?, " +
+            "total_grade = ?, letter_grade = ?, status = ?, updated_at = ? WHERE id = ?";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final AcademicStandingService academicStandingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Value("${app.grades.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PARENT_DASHBOARD, allEntries = true, condition = "!#dryRun")
+    public GradeImportReport importGrades(InputStream sheet, String filename, Long courseId, boolean dryRun) {
+        long started = System.nanoTime();
+        Import state = new Import(courseId, dryRun);
+        state.report.setDryRun(dryRun);
+
+        try (GradeSheetReader reader = GradeSheetReader.open(sheet, filename)) {
+            GradeSheetReader.Row header = reader.next();
+            if (header == null) {
+                throw new GradeSheetException("Grade sheet is empty");
+            }
+            state.columns = GradeSheetColumns.of(header.cells());
+            state.decimalComma = reader.decimalComma();
+
+            List<GradeSheetReader.Row> chunk = new ArrayList<>(batchSize);
+            GradeSheetReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    applyChunk(chunk, state);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                applyChunk(chunk, state);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read grade sheet: " + e.getMessage(), e);
+        }
+
+        GradeImportReport report = state.report;
+        if (!dryRun && !state.students.isEmpty()) {
+            report.setStudentsRecomputed(academicStandingService.recompute(state.students));
+            cacheInvalidationService.recordChanges(Enrollment.class);
+        }
+        report.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        log.info("📝 Grade sheet {}: {} rows, {} accepted, {} rejected, {} students recomputed in {} ms",
+                dryRun ? "checked" : "imported", report.getTotalRows(), report.getAccepted(),
+                report.getRejected(), report.getStudentsRecomputed(), report.getDurationMs());
+        return report;
+    }
+
+    private void applyChunk(List<GradeSheetReader.Row> chunk, Import state) {
+        List<ParsedRow> parsed = chunk.stream()
+                .map(row -> parse(row, state))
+                .toList();
+
+        Set<Long> ids = parsed.stream()
+                .filter(row -> row.error() == null)
+                .map(ParsedRow::enrollmentId)
+                .collect(Collectors.toSet());
+        // [id, studentId, courseId, status]
+        Map<Long, Object[]> targets = ids.isEmpty() ? Map.of() : enrollmentRepository.findGradingTargets(ids).stream()
+                .collect(Collectors.toMap(target -> (Long) target[0], Function.identity()));
+
+        GradeImportReport report = state.report;
+        GradeImportReport.Outcome accepted = state.dryRun
+                ? GradeImportReport.Outcome.VALID
+                : GradeImportReport.Outcome.UPDATED;
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> updates = new ArrayList<>();
+
+        for (ParsedRow row : parsed) {
+            Object[] target = targets.get(row.enrollmentId());
+            String error = row.error() != null ? row.error() : check(row, target, state);
+            if (error != null) {
+                report.getRows().add(new GradeImportReport.Row(
+                        row.line(), row.enrollmentId(), GradeImportReport.Outcome.REJECTED, null, null, error));
+                report.setRejected(report.getRejected() + 1);
+                continue;
+            }
+
+            state.students.add((Long) target[1]);
+            updates.add(new Object[]{row.midterm(), row.finalGrade(), row.total(), row.letterGrade(),
+                    row.status().name(), now, row.enrollmentId()});
+            report.getRows().add(new GradeImportReport.Row(
+                    row.line(), row.enrollmentId(), accepted, row.total(), row.letterGrade(), null));
+            report.setAccepted(report.getAccepted() + 1);
+        }
+        report.setTotalRows(report.getTotalRows() + chunk.size());
+
+        if (!state.dryRun && !updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_GRADES, updates);
+        }
+    }
+
+    private String check(ParsedRow row, Object[] target, Import state) {
+        Long enrollmentId = row.enrollmentId();
+        if (!state.seen.add(enrollmentId)) {
+            return "Enrollment " + enrollmentId + " appears more than once in the sheet";
+        }
+        if (target == null) {
+            return "Enrollment " + enrollmentId + " not found";
+        }
+        if (state.courseId != null && !state.courseId.equals(target[2])) {
+            return "Enrollment " + enrollmentId + " is not in course " + state.courseId;
+        }
+        if (target[3] == EnrollmentStatus.DROPPED) {
+            return "Enrollment " + enrollmentId + " was dropped";
+        }
+        return null;
+    }
+
+    private ParsedRow parse(GradeSheetReader.Row row, Import state) {
+        GradeSheetColumns columns = state.columns;
+        String id = row.cell(columns.enrollmentId());
+        Long enrollmentId;
+        try {
+            enrollmentId = Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return ParsedRow.rejected(row.line(), null, "Invalid enrollment id '" + id + "'");
+        }
+
+        try {
+            double midterm = GradeSheetColumns.grade(row.cell(columns.midterm()), "Midterm", state.decimalComma);
+            double finalGrade = GradeSheetColumns.grade(row.cell(columns.finalGrade()), "Final", state.decimalComma);
+            double total = GradeCalculator.total(midterm, finalGrade);
+            return new ParsedRow(row.line(), enrollmentId, midterm, finalGrade, total,
+                    GradeCalculator.letterGrade(total), GradeCalculator.status(total), null);
+        } catch (IllegalArgumentException e) {
+            return ParsedRow.rejected(row.line(), enrollmentId, e.getMessage());
+        }
+    }
+
+    /**
+     * State of one import across its chunks
+     */
+    private static class Import {
+        private final Long courseId;
+        private final boolean dryRun;
+        private final GradeImportReport report = new GradeImportReport();
+        private final Set<Long> seen = new HashSet<>();
+        private final Set<Long> students = new LinkedHashSet<>();
+        private GradeSheetColumns columns;
+        private boolean decimalComma;
+
+        private Import(Long courseId, boolean dryRun) {
+            this.courseId = courseId;
+            this.dryRun = dryRun;
+        }
+    }
+
+    private record ParsedRow(long line, Long enrollmentId, Double midterm, Double finalGrade, Double total,
+                             String letterGrade, EnrollmentStatus status, String error) {
+
+        static ParsedRow rejected(long line, Long enrollmentId, String error) {
+            return new ParsedRow(line, enrollmentId, null, null, null, null, null, error);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CourseAllocationDTO;
+import com.unt.academic_system.dto.LecturerDTO;
 import com.unt.academic_system.model.Lecturer;
 
 import java.util.List;
@@ -22,4 +24,14 @@ public interface LecturerService {
     void assignMultipleCourses(Long lecturerId, List<Long> courseIds);
     void unassignCourse(Long lecturerId, Long courseId);
     void deleteLecturer(Long id);
+
+    // Read-only projections (lecturer columns + course summaries, two statements total)
+    List<LecturerDTO> getLecturerSummaries();
+    List<LecturerDTO> getLecturerSummariesByDepartment(String department);
+    Optional<LecturerDTO> findSummaryById(Long id);
+    Optional<LecturerDTO> findSummaryByEmployeeId(String employeeId);
+    Optional<LecturerDTO> findSummaryByEmail(String email);
+
+    // Bulk (re)assignment: diffs the desired mapping and writes only changed courses
+    CourseAllocationDTO.AllocationResult applyAllocation(CourseAllocationDTO allocation);
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.config.CacheConfig;
+import com.unt.academic_system.dto.CourseAllocationDTO;
+import com.unt.academic_system.dto.LecturerDTO;
 import com.unt.academic_system.model.Course;
 import com.unt.academic_system.model.Lecturer;
 import com.unt.academic_system.model.UserRole;
@@ -9,12 +12,24 @@ import com.unt.academic_system.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +37,13 @@ public class LecturerServiceImpl implements LecturerService {
 
     private static final Logger logger = LoggerFactory.getLogger(LecturerServiceImpl.class);
 
+    private static final int ALLOCATION_BATCH_SIZE = 500;
+
     private final LecturerRepository lecturerRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     @Transactional
@@ -69,6 +88,7 @@ public class LecturerServiceImpl implements LecturerService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public Lecturer updateLecturer(Long id, Lecturer updatedLecturer) {
         logger.info("🔵 Updating lecturer with ID: {}", id);
 
@@ -124,8 +144,63 @@ public class LecturerServiceImpl implements LecturerService {
         return lecturerRepository.findByQualification(qualification);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<LecturerDTO> getLecturerSummaries() {
+        return withCourses(lecturerRepository.findAllSummaries());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LecturerDTO> getLecturerSummariesByDepartment(String department) {
+        return withCourses(lecturerRepository.findSummariesByDepartment(department));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LecturerDTO> findSummaryById(Long id) {
+        return lecturerRepository.findSummaryById(id).map(this::withCourses);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LecturerDTO> findSummaryByEmployeeId(String employeeId) {
+        return lecturerRepository.findSummaryByEmployeeId(employeeId).map(this::withCourses);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LecturerDTO> findSummaryByEmail(String email) {
+        return lecturerRepository.findSummaryByEmail(email).map(this::withCourses);
+    }
+
+    private LecturerDTO withCourses(LecturerDTO dto) {
+        withCourses(List.of(dto));
+        return dto;
+    }
+
+    /**
+     * Attach course summaries and counts with a single scalar query for all lecturers
+     */
+    private List<LecturerDTO> withCourses(List<LecturerDTO> lecturers) {
+        if (lecturers.isEmpty()) {
+            return lecturers;
+        }
+
+        Map<Long, LecturerDTO> byId = new HashMap<>();
+        lecturers.forEach(dto -> byId.put(dto.getId(), dto));
+
+        for (Object[] row : courseRepository.findCourseSummariesByLecturerIds(byId.keySet())) {
+            LecturerDTO dto = byId.get((Long) row[0]);
+            dto.getCourses().add(new LecturerDTO.SimpleCourseDTO((Long) row[1], (String) row[2], (String) row[3]));
+        }
+        lecturers.forEach(dto -> dto.setCourseCount(dto.getCourses().size()));
+        return lecturers;
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void assignCourse(Long lecturerId, Long courseId) {
         logger.info("🔵 Assigning course {} to lecturer {}", courseId, lecturerId);
 
@@ -152,260 +227,132 @@ public class LecturerServiceImpl implements LecturerService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void assignMultipleCourses(Long lecturerId, List<Long> courseIds) {
-        logger.info("🔵 ========================================");
-        logger.info("🔵 STARTING MULTIPLE COURSES ASSIGNMENT");
-        logger.info("🔵 Lecturer ID: {}", lecturerId);
-        logger.info("🔵 Course IDs to assign: {}", courseIds);
-        logger.info("🔵 ========================================");
-
-        try {
-            // 1. Verify lecturer exists
-            Lecturer lecturer = lecturerRepository.findById(lecturerId)
-                    .orElseThrow(() -> new RuntimeException("Lecturer not found with ID: " + lecturerId));
-
-            logger.info("✅ Lecturer found: {} {} (ID: {})",
-                    lecturer.getFirstName(), lecturer.getLastName(), lecturer.getId());
-
-            // 2. Get ALL courses currently assigned to this lecturer
-            List<Course> currentCourses = courseRepository.findByLecturerId(lecturerId);
-            logger.info("📝 Current courses assigned: {}", currentCourses.size());
-
-            // 3. UNASSIGN ALL current courses
-            if (!currentCourses.isEmpty()) {
-                logger.info("🔄 Unassigning {} current courses...", currentCourses.size());
-                for (Course course : currentCourses) {
-                    logger.info("   - Unassigning: {} (ID: {})", course.getCourseCode(), course.getId());
-                    course.setLecturer(null);
-                }
-                courseRepository.saveAll(currentCourses);
-                courseRepository.flush();
-                logger.info("✅ All current courses unassigned and flushed to DB");
-            }
-
-            // 4. ASSIGN NEW courses (if any)
-            if (courseIds != null && !courseIds.isEmpty()) {
-                logger.info("🔄 Assigning {} new courses...", courseIds.size());
-
-                for (Long courseId : courseIds) {
-                    Course course = courseRepository.findById(courseId)
-                            .orElseThrow(() -> new RuntimeException("Course not found with ID: " + courseId));
-
-                    logger.info("   📚 Course: {} - {}", course.getCourseCode(), course.getCourseName());
-
-                    // Check if already assigned to another lecturer
-                    if (course.getLecturer() != null && !course.getLecturer().getId().equals(lecturerId)) {
-                        logger.warn("      ⚠️  Course was assigned to lecturer ID: {}. Reassigning...",
-                                course.getLecturer().getId());
-                    }
-
-                    // Assign to new lecturer
-                    course.setLecturer(lecturer);
-
-                    // Save immediately
-                    courseRepository.save(course);
-                    logger.info("      ✅ Course assigned and saved");
-                }
-
-                // Final flush
-                courseRepository.flush();
-                logger.info("✅ All new courses flushed to database");
-            } else {
-                logger.info("📝 No new courses to assign (courseIds is null or empty)");
-            }
-
-            // 5. VERIFICATION - Query database directly
-            logger.info("🔍 ========================================");
-            logger.info("🔍 VERIFICATION - Querying database...");
-            List<Course> verificationCourses = courseRepository.findByLecturerId(lecturerId);
-            logger.info("🔍 Total courses found in DB for lecturer {}: {}", lecturerId, verificationCourses.size());
-
-            for (Course c : verificationCourses) {
-                logger.info("   ✓ {} - {} (Course ID: {}, Lecturer ID: {})",
-                        c.getCourseCode(),
-                        c.getCourseName(),
-                        c.getId(),
-                        c.getLecturer() != null ? c.getLecturer().getId() : "NULL");
-            }
-
-            // Check if verification matches expectation
-            int expectedCount = (courseIds != null) ? courseIds.size() : 0;
-            if (verificationCourses.size() != expectedCount) {
-                logger.error("❌ VERIFICATION FAILED!");
-                logger.error("   Expected: {} courses", expectedCount);
-                logger.error("   Found: {} courses", verificationCourses.size());
-                throw new RuntimeException("Course assignment verification failed! Expected " +
-                        expectedCount + " but found " + verificationCourses.size());
-            }
-
-            logger.info("🎉 ========================================");
-            logger.info("🎉 ASSIGNMENT COMPLETED SUCCESSFULLY");
-            logger.info("🎉 Total courses assigned: {}", verificationCourses.size());
-            logger.info("🎉 ========================================");
-
-        } catch (Exception e) {
-            logger.error("❌ ========================================");
-            logger.error("❌ CRITICAL ERROR in assignMultipleCourses");
-            logger.error("❌ Lecturer ID: {}", lecturerId);
-            logger.error("❌ Error: {}", e.getMessage(), e);
-            logger.error("❌ ========================================");
-            throw new RuntimeException("Failed to assign courses: " + e.getMessage(), e);
-        }
+        applyAllocation(singleLecturerAllocation(lecturerId, courseIds));
     }
 
-
-
+    /**
+     * Kept for API compatibility: both variants now go through the same
+     * set-based diff and batched native UPDATE.
+     */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void assignMultipleCoursesNative(Long lecturerId, List<Long> courseIds) {
-        logger.info("🔵 ========================================");
-        logger.info("🔵 SERVICE: Starting assignMultipleCoursesNative");
-        logger.info("🔵 Lecturer ID: {}", lecturerId);
-        logger.info("🔵 Course IDs to assign: {}", courseIds);
-        logger.info("🔵 Transaction active: {}", TransactionSynchronizationManager.isActualTransactionActive());
-        logger.info("🔵 ========================================");
-
-        try {
-            // Step 1: Verify lecturer exists
-            logger.info("📝 Step 1: Verifying lecturer exists...");
-            Lecturer lecturer = lecturerRepository.findById(lecturerId)
-                    .orElseThrow(() -> new RuntimeException("Lecturer not found with ID: " + lecturerId));
-
-            logger.info("✅ Lecturer found: {} {} (ID: {})",
-                    lecturer.getFirstName(), lecturer.getLastName(), lecturer.getId());
-
-            // Step 2: Get current courses
-            logger.info("📝 Step 2: Fetching current courses...");
-            List<Course> currentCourses = courseRepository.findByLecturerId(lecturerId);
-            logger.info("📊 Current courses assigned to lecturer {}: {}", lecturerId, currentCourses.size());
-
-            for (Course c : currentCourses) {
-                logger.info("   - Current: {} (ID: {}, Lecturer ID: {})",
-                        c.getCourseCode(), c.getId(),
-                        c.getLecturer() != null ? c.getLecturer().getId() : "NULL");
-            }
-
-            // Step 3: UNASSIGN all current courses using native query
-            if (!currentCourses.isEmpty()) {
-                logger.info("📝 Step 3: Unassigning {} current courses using NATIVE SQL...", currentCourses.size());
-
-                for (Course course : currentCourses) {
-                    logger.info("   🔄 Unassigning course ID: {}", course.getId());
-
-                    int rowsAffected = courseRepository.unassignLecturerFromCourse(course.getId());
-
-                    logger.info("   ✅ SQL UPDATE executed - Rows affected: {}", rowsAffected);
+        applyAllocation(singleLecturerAllocation(lecturerId, courseIds));
+    }
 
-                    if (rowsAffected == 0) {
-                        logger.error("   ❌ WARNING: No rows were updated for course ID: {}", course.getId());
-                    }
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
+    public CourseAllocationDTO.AllocationResult applyAllocation(CourseAllocationDTO allocation) {
+        Map<Long, List<Long>> allocations = allocation.getAllocations() != null
+                ? allocation.getAllocations() : Collections.emptyMap();
+        String department = allocation.getDepartment();
+
+        // 1. Desired state: courseId -> lecturerId
+        Map<Long, Long> desired = new HashMap<>();
+        for (Map.Entry<Long, List<Long>> entry : allocations.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            for (Long courseId : entry.getValue()) {
+                Long previous = desired.put(courseId, entry.getKey());
+                if (previous != null && !previous.equals(entry.getKey())) {
+                    throw new RuntimeException("Course " + courseId + " is allocated to more than one lecturer");
                 }
+            }
+        }
 
-                logger.info("✅ All current courses unassigned via native SQL");
-            } else {
-                logger.info("📝 No current courses to unassign");
+        Set<Long> lecturerIds = allocations.keySet();
+        if (desired.isEmpty() && lecturerIds.isEmpty() && department == null) {
+            return new CourseAllocationDTO.AllocationResult(0, 0, 0);
+        }
+
+        // 2. Validate lecturers in one query
+        if (!lecturerIds.isEmpty()) {
+            Set<Long> missing = new HashSet<>(lecturerIds);
+            lecturerRepository.findExistingIds(lecturerIds).forEach(missing::remove);
+            if (!missing.isEmpty()) {
+                throw new RuntimeException("Lecturer not found with ID: " + missing);
             }
+        }
 
-            // Step 4: ASSIGN new courses using native query
-            if (courseIds != null && !courseIds.isEmpty()) {
-                logger.info("📝 Step 4: Assigning {} NEW courses using NATIVE SQL...", courseIds.size());
-
-                for (Long courseId : courseIds) {
-                    logger.info("   🔄 Processing course ID: {}", courseId);
-
-                    // Verify course exists
-                    Course course = courseRepository.findById(courseId)
-                            .orElseThrow(() -> new RuntimeException("Course not found: " + courseId));
-
-                    logger.info("   📚 Course found: {} - {}", course.getCourseCode(), course.getCourseName());
-                    logger.info("   📊 Current lecturer_id in course object: {}",
-                            course.getLecturer() != null ? course.getLecturer().getId() : "NULL");
-
-                    // Execute native SQL UPDATE
-                    logger.info("   💾 Executing SQL: UPDATE courses SET lecturer_id = {} WHERE id = {}",
-                            lecturerId, courseId);
-
-                    int rowsAffected = courseRepository.assignLecturerToCourse(courseId, lecturerId);
-
-                    logger.info("   ✅ SQL UPDATE executed - Rows affected: {}", rowsAffected);
-
-                    if (rowsAffected == 0) {
-                        logger.error("   ❌ CRITICAL: No rows were updated for course ID: {}", courseId);
-                        throw new RuntimeException("Failed to assign course " + courseId + " - no rows affected");
-                    } else if (rowsAffected > 1) {
-                        logger.error("   ❌ CRITICAL: Multiple rows updated ({})", rowsAffected);
-                        throw new RuntimeException("Database error: multiple rows affected");
-                    }
-
-                    // Verify immediately after update
-                    Course verifiedCourse = courseRepository.findById(courseId).orElse(null);
-                    if (verifiedCourse != null && verifiedCourse.getLecturer() != null) {
-                        logger.info("   ✓ VERIFICATION: lecturer_id is now: {}",
-                                verifiedCourse.getLecturer().getId());
-                    } else {
-                        logger.error("   ❌ VERIFICATION FAILED: lecturer_id is still NULL after update!");
-                    }
-                }
+        // 3. Current state for every course the allocation can touch
+        // (IN lists must not be empty, so pad with an impossible ID)
+        Map<Long, Long> current = new HashMap<>();
+        for (Object[] row : courseRepository.findLecturerAssignments(
+                nonEmpty(desired.keySet()), nonEmpty(lecturerIds), department)) {
+            current.put((Long) row[0], (Long) row[1]);
+        }
 
-                logger.info("✅ All new courses assigned via native SQL");
+        Set<Long> missingCourses = new HashSet<>(desired.keySet());
+        missingCourses.removeAll(current.keySet());
+        if (!missingCourses.isEmpty()) {
+            throw new RuntimeException("Course not found with ID: " + missingCourses);
+        }
 
+        // 4. Diff: anything not explicitly allocated is released
+        List<Object[]> changes = new ArrayList<>();
+        int assigned = 0;
+        int unassigned = 0;
+        int unchanged = 0;
+        for (Map.Entry<Long, Long> entry : current.entrySet()) {
+            Long target = desired.get(entry.getKey());
+            if (Objects.equals(target, entry.getValue())) {
+                unchanged++;
+                continue;
+            }
+            changes.add(new Object[]{target, entry.getKey()});
+            if (target != null) {
+                assigned++;
             } else {
-                logger.info("📝 No new courses to assign (courseIds is null or empty)");
+                unassigned++;
             }
+        }
 
-            // Step 5: FINAL VERIFICATION
-            logger.info("📝 Step 5: FINAL VERIFICATION...");
-            logger.info("🔍 ========================================");
-            logger.info("🔍 Querying database for lecturer {} courses...", lecturerId);
-
-            List<Course> verificationCourses = courseRepository.findByLecturerId(lecturerId);
+        // 5. Apply only the changed rows as batched UPDATEs
+        if (!changes.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    "UPDATE courses SET lecturer_id = ?, updated_at = ? WHERE id = ?",
+                    changes,
+                    ALLOCATION_BATCH_SIZE,
+                    (ps, change) -> {
+                        if (change[0] != null) {
+                            ps.setLong(1, (Long) change[0]);
+                        } else {
+                            ps.setNull(1, Types.BIGINT);
+                        }
+                        ps.setTimestamp(2, now);
+                        ps.setLong(3, (Long) change[1]);
+                    });
+            // The batch bypasses Hibernate: evict the L2 Course entries and cached queries
+            // here after commit, and on the other nodes through cache_invalidation
+            cacheInvalidationService.recordChanges(Course.class,
+                    changes.stream().map(change -> (Long) change[1]).toList());
+        }
 
-            logger.info("🔍 TOTAL courses found in DB: {}", verificationCourses.size());
-            logger.info("🔍 Expected courses: {}", courseIds != null ? courseIds.size() : 0);
+        logger.info("Course allocation applied (department={}, lecturers={}): {} assigned, {} unassigned, {} unchanged",
+                department, lecturerIds.size(), assigned, unassigned, unchanged);
 
-            for (Course c : verificationCourses) {
-                logger.info("   ✓ {} - {} (Course ID: {}, Lecturer ID: {})",
-                        c.getCourseCode(),
-                        c.getCourseName(),
-                        c.getId(),
-                        c.getLecturer() != null ? c.getLecturer().getId() : "NULL");
-            }
+        return new CourseAllocationDTO.AllocationResult(assigned, unassigned, unchanged);
+    }
 
-            // Verify count matches
-            int expectedCount = (courseIds != null) ? courseIds.size() : 0;
-            if (verificationCourses.size() != expectedCount) {
-                logger.error("❌ VERIFICATION MISMATCH!");
-                logger.error("   Expected: {} courses", expectedCount);
-                logger.error("   Found: {} courses", verificationCourses.size());
-                logger.error("   Missing courses!");
-
-                throw new RuntimeException(
-                        "Verification failed: Expected " + expectedCount +
-                                " courses but found " + verificationCourses.size()
-                );
-            }
+    private CourseAllocationDTO singleLecturerAllocation(Long lecturerId, List<Long> courseIds) {
+        Map<Long, List<Long>> allocations = new HashMap<>();
+        allocations.put(lecturerId, courseIds != null ? courseIds : Collections.emptyList());
+        return new CourseAllocationDTO(null, allocations);
+    }
 
-            logger.info("🎉 ========================================");
-            logger.info("🎉 SUCCESS: Assignment verified successfully");
-            logger.info("🎉 Total courses assigned: {}", verificationCourses.size());
-            logger.info("🎉 ========================================");
-
-        } catch (Exception e) {
-            logger.error("❌ ========================================");
-            logger.error("❌ CRITICAL ERROR in assignMultipleCoursesNative");
-            logger.error("❌ Lecturer ID: {}", lecturerId);
-            logger.error("❌ Course IDs: {}", courseIds);
-            logger.error("❌ Error type: {}", e.getClass().getName());
-            logger.error("❌ Error message: {}", e.getMessage());
-            logger.error("❌ Stack trace:", e);
-            logger.error("❌ ========================================");
-
-            throw new RuntimeException("Failed to assign courses: " + e.getMessage(), e);
-        }
+    private Collection<Long> nonEmpty(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of(-1L) : ids;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void unassignCourse(Long lecturerId, Long courseId) {
         logger.info("🔵 Unassigning course {} from lecturer {}", courseId, lecturerId);
 
@@ -427,6 +374,7 @@ public class LecturerServiceImpl implements LecturerService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
     public void deleteLecturer(Long id) {
         logger.info("🔵 Deleting lecturer with ID: {}", id);
 
@@ -0,0 +1,234 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.MailOutbox;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Delivers the mail outbox in the background.
+ *
+ * Up to app.mail.workers workers run at once. Each claims a batch of due rows
+ * (SKIP LOCKED, so batches never overlap) and sends the whole batch over one
+ * SMTP connection, since JavaMailSender.send(MimeMessage...) opens the
+ * transport once per call. Workers are started right after an enqueue commits
+ * and by a periodic poll that also picks up retries.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender mailSender;
+    private final Environment environment;
+
+    @Value("${app.mail.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.per-recipient-limit:5}")
+    private int perRecipientLimit;
+
+    @Value("${app.mail.per-recipient-window-seconds:60}")
+    private long perRecipientWindowSeconds;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    private ThreadPoolTaskExecutor executor;
+    private Semaphore workerSlots;
+
+    // recipient -> send times (epoch millis) inside the current window
+    private final Map<String, Deque<Long>> recentSends = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        workerSlots = new Semaphore(workers);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-");
+        // Workers mostly wait on SMTP; the slots still cap them at app.mail.workers
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMailEnqueued(MailOutboxServiceImpl.MailEnqueuedEvent event) {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.poll-interval-ms:5000}")
+    public void poll() {
+        int released = mailOutboxService.releaseStale();
+        if (released > 0) {
+            log.warn("Re-queued {} mails left in SENDING", released);
+        }
+        pruneRateWindows();
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.purge-interval-ms:3600000}")
+    public void purge() {
+        int purged = mailOutboxService.purgeFinished();
+        if (purged > 0) {
+            log.info("🧹 Purged {} finished mails from the outbox", purged);
+        }
+    }
+
+    /**
+     * Start a worker if a slot is free; a busy worker keeps draining until the queue is empty
+     */
+    private void wakeUp() {
+        if (!workerSlots.tryAcquire()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    workerSlots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            workerSlots.release();
+            log.warn("Mail worker not started: {}", e.getMessage());
+        }
+    }
+
+    private void drain() {
+        List<MailOutbox> batch;
+        while (!(batch = mailOutboxService.claimBatch(batchSize)).isEmpty()) {
+            sendBatch(batch);
+        }
+    }
+
+    private void sendBatch(List<MailOutbox> batch) {
+        Map<MimeMessage, Long> messages = new LinkedHashMap<>();
+        List<Long> deferred = new ArrayList<>();
+
+        for (MailOutbox mail : batch) {
+            if (!tryAcquireRecipient(mail.getRecipient())) {
+                deferred.add(mail.getId());
+                continue;
+            }
+            try {
+                messages.put(toMimeMessage(mail), mail.getId());
+            } catch (MessagingException e) {
+                mailOutboxService.markFailed(mail.getId(), e.getMessage());
+            }
+        }
+
+        if (!deferred.isEmpty()) {
+            mailOutboxService.defer(deferred, LocalDateTime.now().plusSeconds(perRecipientWindowSeconds));
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Set<Long> sent = new HashSet<>(messages.values());
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // Per-message failures; everything not listed went through
+            e.getFailedMessages().forEach((message, cause) -> {
+                Long id = messages.get(message);
+                if (id != null) {
+                    sent.remove(id);
+                    mailOutboxService.markFailed(id, cause.getMessage());
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                failAll(messages.values(), sent, e);
+            }
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing was sent
+            failAll(messages.values(), sent, e);
+        }
+
+        if (!sent.isEmpty()) {
+            mailOutboxService.markSent(sent);
+            log.info("📧 Sent {} mails", sent.size());
+        }
+    }
+
+    private void failAll(Collection<Long> ids, Set<Long> sent, Exception e) {
+        for (Long id : ids) {
+            sent.remove(id);
+            mailOutboxService.markFailed(id, e.getMessage());
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        if (from != null && !from.isBlank()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody());
+        return message;
+    }
+
+    /**
+     * Sliding-window limit per recipient, so a burst of OTP requests cannot flood one mailbox
+     */
+    private boolean tryAcquireRecipient(String recipient) {
+        long now = System.currentTimeMillis();
+        long windowStart = now - perRecipientWindowSeconds * 1000;
+        Deque<Long> sends = recentSends.computeIfAbsent(recipient.toLowerCase(Locale.ROOT), key -> new ArrayDeque<>());
+
+        synchronized (sends) {
+            while (!sends.isEmpty() && sends.peekFirst() < windowStart) {
+                sends.pollFirst();
+            }
+            if (sends.size() >= perRecipientLimit) {
+                return false;
+            }
+            sends.addLast(now);
+            return true;
+        }
+    }
+
+    private void pruneRateWindows() {
+        long windowStart = System.currentTimeMillis() - perRecipientWindowSeconds * 1000;
+        recentSends.values().removeIf(sends -> {
+            synchronized (sends) {
+                return sends.isEmpty() || sends.peekLast() < windowStart;
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxService {
+
+    /**
+     * Queue a plain-text mail. Joins the caller's transaction; delivery is
+     * attempted by MailDispatcher after commit.
+     */
+    MailOutbox enqueue(String recipient, String subject, String body);
+
+    // ---- used by MailDispatcher ----
+
+    /**
+     * Claim up to batchSize due mails (status SENDING) for one worker
+     */
+    List<MailOutbox> claimBatch(int batchSize);
+
+    /**
+     * Mark delivered and drop the body, which may hold an OTP code
+     */
+    void markSent(Collection<Long> ids);
+
+    /**
+     * Record a failed attempt and schedule a retry with exponential backoff,
+     * or mark FAILED (body dropped) once the maximum number of attempts is reached
+     */
+    void markFailed(Long id, String error);
+
+    /**
+     * Return claimed mails to the queue without counting an attempt
+     */
+    void defer(Collection<Long> ids, LocalDateTime until);
+
+    /**
+     * Re-queue mails left in SENDING by a worker that stopped mid-batch
+     */
+    int releaseStale();
+
+    /**
+     * Delete SENT and FAILED mails older than app.mail.retention-days
+     */
+    int purgeFinished();
+}
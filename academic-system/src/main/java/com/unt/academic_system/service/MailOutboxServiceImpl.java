@@ -0,0 +1,130 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.MailOutbox;
+import com.unt.academic_system.model.MailStatus;
+import com.unt.academic_system.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final int STALE_SENDING_MINUTES = 10;
+
+    // body is NOT NULL in existing schemas, so a finished mail keeps an empty one
+    private static final String DELIVERED_BODY = "";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.mail.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${app.mail.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    @Value("${app.mail.retention-days:7}")
+    private long retentionDays;
+
+    @Override
+    public MailOutbox enqueue(String recipient, String subject, String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setStatus(MailStatus.PENDING);
+        mail.setNextAttemptAt(LocalDateTime.now());
+
+        MailOutbox saved = mailOutboxRepository.save(mail);
+        eventPublisher.publishEvent(new MailEnqueuedEvent(saved.getId()));
+        log.debug("Mail {} queued for {}", saved.getId(), recipient);
+        return saved;
+    }
+
+    @Override
+    public List<MailOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> batch = mailOutboxRepository.findDueForUpdate(now, Limit.of(batchSize));
+        batch.forEach(mail -> {
+            mail.setStatus(MailStatus.SENDING);
+            // While SENDING, nextAttemptAt records the claim time (see releaseStale)
+            mail.setNextAttemptAt(now);
+        });
+        return batch;
+    }
+
+    @Override
+    public void markSent(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(ids).forEach(mail -> {
+            mail.setStatus(MailStatus.SENT);
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setSentAt(now);
+            mail.setLastError(null);
+            // OTP codes and reset links must not outlive their delivery
+            mail.setBody(DELIVERED_BODY);
+        });
+    }
+
+    @Override
+    public void markFailed(Long id, String error) {
+        mailOutboxRepository.findById(id).ifPresent(mail -> {
+            int attempts = mail.getAttempts() + 1;
+            mail.setAttempts(attempts);
+            mail.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+
+            if (attempts >= maxAttempts) {
+                mail.setStatus(MailStatus.FAILED);
+                mail.setBody(DELIVERED_BODY);
+                log.error("Giving up on mail {} to {} after {} attempts: {}",
+                        id, mail.getRecipient(), attempts, error);
+                return;
+            }
+
+            long delay = Math.min(retryMaxSeconds, retryBaseSeconds << Math.min(attempts - 1, 20));
+            mail.setStatus(MailStatus.PENDING);
+            mail.setNextAttemptAt(LocalDateTime.now().plusSeconds(delay));
+            log.warn("Mail {} to {} failed (attempt {}), retrying in {}s: {}",
+                    id, mail.getRecipient(), attempts, delay, error);
+        });
+    }
+
+    @Override
+    public void defer(Collection<Long> ids, LocalDateTime until) {
+        mailOutboxRepository.findAllById(ids).forEach(mail -> {
+            mail.setStatus(MailStatus.PENDING);
+            mail.setNextAttemptAt(until);
+        });
+    }
+
+    @Override
+    public int releaseStale() {
+        return mailOutboxRepository.releaseStale(LocalDateTime.now().minusMinutes(STALE_SENDING_MINUTES));
+    }
+
+    @Override
+    public int purgeFinished() {
+        return mailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * Published on enqueue; MailDispatcher starts a worker once the transaction commits
+     */
+    public record MailEnqueuedEvent(Long mailId) {
+    }
+}
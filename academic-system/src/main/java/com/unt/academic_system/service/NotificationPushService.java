@@ -0,0 +1,42 @@
+package com.unt.academic_system.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * Pushes unread counts (notifications, chat messages, chat notifications) to
+ * connected users instead of letting the pages poll for them.
+ *
+ * Updates go to the STOMP destination /user/queue/unread and to the SSE
+ * streams opened with openStream(). Each update carries the current counts,
+ * the counter that changed, its delta and, for new items, the item itself.
+ * After a reconnect a client calls resync() (GET /api/push/unread or a STOMP
+ * subscription to /app/unread) to get the counts without a delta.
+ */
+public interface NotificationPushService {
+
+    enum Counter {
+        NOTIFICATIONS, CHAT_MESSAGES, CHAT_NOTIFICATIONS
+    }
+
+    /**
+     * Published by NotificationServiceImpl and ChatService when an unread
+     * count changes; delivered once the transaction commits.
+     *
+     * @param email recipient (the STOMP principal name)
+     * @param item  the new notification or message, or null
+     */
+    record UnreadChanged(String email, Counter counter, long delta, Map<String, Object> item) {
+    }
+
+    /**
+     * Current unread counts of the user, read from the database
+     */
+    Map<String, Object> resync(String email);
+
+    /**
+     * Open an SSE stream of unread updates; the first event carries the current counts
+     */
+    SseEmitter openStream(String email);
+}
@@ -0,0 +1,202 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.repository.ChatMessageRepository;
+import com.unt.academic_system.repository.ChatNotificationRepository;
+import com.unt.academic_system.repository.NotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unread counts are cached per connected user. The first update for a user
+ * loads the counts from the database (after commit, so they already include
+ * the change); later updates only apply their delta. Counts of users without
+ * a STOMP session or SSE stream are dropped, so the cache never holds more
+ * than the connected users and a user coming back starts from the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushServiceImpl implements NotificationPushService {
+
+    public static final String USER_DESTINATION = "/queue/unread";
+    private static final String SSE_EVENT = "unread";
+
+    private final NotificationRepository notificationRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatNotificationRepository chatNotificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counts> counts = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+
+    @Value("${app.push.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("push.sse.streams", streams, s -> s.values().stream().mapToInt(Set::size).sum())
+                .description("Open SSE unread-count streams")
+                .register(meterRegistry);
+        Gauge.builder("push.unread.cached.users", counts, Map::size)
+                .description("Users whose unread counts are cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open streams would otherwise hold the shutdown until they time out
+     */
+    @PreDestroy
+    void closeStreams() {
+        streams.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        streams.clear();
+    }
+
+    @Override
+    public Map<String, Object> resync(String email) {
+        Counts current = load(email);
+        if (isConnected(email)) {
+            counts.put(email, current);
+        }
+        return current.toPayload();
+    }
+
+    @Override
+    public SseEmitter openStream(String email) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        streams.computeIfAbsent(email, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> closeStream(email, emitter));
+        emitter.onTimeout(() -> closeStream(email, emitter));
+        emitter.onError(error -> closeStream(email, emitter));
+
+        Counts current = counts.computeIfAbsent(email, this::load);
+        send(email, emitter, current.toPayload());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadChanged(UnreadChanged event) {
+        String email = event.email();
+        if (email == null) {
+            return;
+        }
+        if (!isConnected(email)) {
+            counts.remove(email);
+            return;
+        }
+
+        boolean[] loaded = {false};
+        Counts updated = counts.compute(email, (key, cached) -> {
+            if (cached == null) {
+                loaded[0] = true;
+                return load(key);
+            }
+            return cached.plus(event.counter(), event.delta());
+        });
+
+        Map<String, Object> payload = updated.toPayload();
+        payload.put("changed", event.counter());
+        payload.put("delta", loaded[0] ? 0 : event.delta());
+        if (event.item() != null) {
+            payload.put("item", event.item());
+        }
+        deliver(email, payload);
+    }
+
+    /**
+     * Keeps idle SSE connections open through proxies and detects the closed ones
+     */
+    @Scheduled(fixedDelayString = "${app.push.keepalive-ms:25000}")
+    public void keepAlive() {
+        streams.forEach((email, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                } catch (IOException | IllegalStateException e) {
+                    closeStream(email, emitter);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.sweep-interval-ms:60000}")
+    public void dropDisconnected() {
+        counts.keySet().removeIf(email -> !isConnected(email));
+    }
+
+    private void deliver(String email, Map<String, Object> payload) {
+        if (userRegistry.getUser(email) != null) {
+            messagingTemplate.convertAndSendToUser(email, USER_DESTINATION, payload);
+        }
+        Set<SseEmitter> emitters = streams.get(email);
+        if (emitters != null) {
+            for (SseEmitter emitter : emitters) {
+                send(email, emitter, payload);
+            }
+        }
+    }
+
+    private void send(String email, SseEmitter emitter, Map<String, Object> payload) {
+        try {
+            emitter.send(SseEmitter.event().name(SSE_EVENT).data(payload));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE stream of {} closed: {}", email, e.getMessage());
+            closeStream(email, emitter);
+        }
+    }
+
+    private void closeStream(String email, SseEmitter emitter) {
+        streams.computeIfPresent(email, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private boolean isConnected(String email) {
+        return userRegistry.getUser(email) != null || streams.containsKey(email);
+    }
+
+    private Counts load(String email) {
+        return new Counts(
+                notificationRepository.countByRecipientEmailAndIsReadFalse(email),
+                chatMessageRepository.countByRecipientIdAndReadFalse(email),
+                chatNotificationRepository.countByRecipientIdAndReadFalse(email));
+    }
+
+    private record Counts(long notifications, long chatMessages, long chatNotifications) {
+
+        Counts plus(Counter counter, long delta) {
+            return switch (counter) {
+                case NOTIFICATIONS -> new Counts(Math.max(0, notifications + delta), chatMessages, chatNotifications);
+                case CHAT_MESSAGES -> new Counts(notifications, Math.max(0, chatMessages + delta), chatNotifications);
+                case CHAT_NOTIFICATIONS -> new Counts(notifications, chatMessages, Math.max(0, chatNotifications + delta));
+            };
+        }
+
+        Map<String, Object> toPayload() {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("notifications", notifications);
+            payload.put("chatMessages", chatMessages);
+            payload.put("chatNotifications", chatNotifications);
+            return payload;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.model.ChatNotification;
 import com.unt.academic_system.model.Notification;
 import com.unt.academic_system.model.NotificationType;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,8 +19,10 @@ public interface NotificationService {
     long countUnreadNotifications(Long userId);
 
     List<Notification> findAll();
+    CursorPage<Notification> findPage(Long userId, Boolean isRead, NotificationType type,
+                                      Long cursor, int limit, Sort.Direction direction);
     void markAsRead(Long notificationId);
-    void markAllAsRead(Long userId);
+    List<Long> markAllAsRead(Long userId);
     void deleteNotification(Long notificationId);
     void sendNotificationToUser(Long userId, String title, String message, NotificationType type);
     void sendNotificationToAllStudents(String title, String message, NotificationType type);
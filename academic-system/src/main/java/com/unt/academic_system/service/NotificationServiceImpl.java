@@ -1,16 +1,25 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.model.*;
 import com.unt.academic_system.repository.ChatNotificationRepository;
 import com.unt.academic_system.repository.NotificationRepository;
 import com.unt.academic_system.repository.StudentRepository;
 import com.unt.academic_system.repository.UserRepository;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.service.NotificationPushService.Counter;
+import com.unt.academic_system.service.NotificationPushService.UnreadChanged;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -22,11 +31,19 @@ public class NotificationServiceImpl implements NotificationService {
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final ChatNotificationRepository chatNotificationRepository; // NEW
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Notification createNotification(Notification notification) {
         notification.setIsRead(false);
-        return notificationRepository.save(notification);
+        User recipient = notification.getRecipient();
+        if (recipient != null && recipient.getEmail() == null && recipient.getId() != null) {
+            // Posted as {"recipient": {"id": ...}}; the email is the push channel key
+            userRepository.findById(recipient.getId()).ifPresent(notification::setRecipient);
+        }
+        Notification saved = notificationRepository.save(notification);
+        publishNew(saved);
+        return saved;
     }
 
     @Override
@@ -34,6 +51,19 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> findPage(Long userId, Boolean isRead, NotificationType type,
+                                             Long cursor, int limit, Sort.Direction direction) {
+        Specification<Notification> filter = Specification.allOf(
+                CursorPagination.attributeEquals("recipient.id", userId),
+                CursorPagination.attributeEquals("isRead", isRead),
+                CursorPagination.attributeEquals("type", type));
+
+        return CursorPagination.fetch(notificationRepository, filter, cursor, limit, direction,
+                Notification::getId, notification -> notification);
+    }
+
     @Override
     public Optional<Notification> findById(Long id) {
         return notificationRepository.findById(id);
@@ -59,26 +89,38 @@ public class NotificationServiceImpl implements NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
 
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.setIsRead(true);
         notification.setReadAt(LocalDateTime.now());
         notificationRepository.save(notification);
+        if (wasUnread) {
+            publishUnread(notification.getRecipient(), Counter.NOTIFICATIONS, -1, null);
+        }
     }
 
     @Override
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = getUnreadNotifications(userId);
-
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
-            notification.setReadAt(LocalDateTime.now());
+    public List<Long> markAllAsRead(Long userId) {
+        List<Long> unreadIds = notificationRepository.findUnreadIds(userId);
+        if (unreadIds.isEmpty()) {
+            return unreadIds;
         }
 
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAsReadByIds(unreadIds, LocalDateTime.now());
+        if (updated > 0) {
+            userRepository.findById(userId)
+                    .ifPresent(user -> publishUnread(user, Counter.NOTIFICATIONS, -updated, null));
+        }
+        return unreadIds;
     }
 
     @Override
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(notificationId);
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (!Boolean.TRUE.equals(notification.getIsRead())) {
+                publishUnread(notification.getRecipient(), Counter.NOTIFICATIONS, -1, null);
+            }
+        });
     }
 
     @Override
@@ -94,7 +136,7 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setPriority(NotificationPriority.NORMAL);
         notification.setIsRead(false);
 
-        notificationRepository.save(notification);
+        publishNew(notificationRepository.save(notification));
     }
 
     @Override
@@ -110,7 +152,7 @@ public class NotificationServiceImpl implements NotificationService {
             notification.setPriority(NotificationPriority.NORMAL);
             notification.setIsRead(false);
 
-            notificationRepository.save(notification);
+            publishNew(notificationRepository.save(notification));
         }
     }
 
@@ -125,7 +167,15 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setRead(false);
         notification.setTimestamp(LocalDateTime.now());
 
-        return chatNotificationRepository.save(notification);
+        ChatNotification saved = chatNotificationRepository.save(notification);
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", saved.getId());
+        item.put("senderId", saved.getSenderId());
+        item.put("content", saved.getContent());
+        item.put("type", saved.getType());
+        item.put("timestamp", saved.getTimestamp());
+        eventPublisher.publishEvent(new UnreadChanged(recipientId, Counter.CHAT_NOTIFICATIONS, 1, item));
+        return saved;
     }
 
     @Override
@@ -143,7 +193,28 @@ public class NotificationServiceImpl implements NotificationService {
             throw new RuntimeException("Access denied");
         }
 
+        boolean wasUnread = !notification.isRead();
         notification.setRead(true);
         chatNotificationRepository.save(notification);
+        if (wasUnread) {
+            eventPublisher.publishEvent(new UnreadChanged(username, Counter.CHAT_NOTIFICATIONS, -1, null));
+        }
+    }
+
+    private void publishNew(Notification notification) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", notification.getId());
+        item.put("title", notification.getTitle());
+        item.put("message", notification.getMessage());
+        item.put("type", notification.getType());
+        item.put("priority", notification.getPriority());
+        item.put("createdAt", notification.getCreatedAt());
+        publishUnread(notification.getRecipient(), Counter.NOTIFICATIONS, 1, item);
+    }
+
+    private void publishUnread(User recipient, Counter counter, long delta, Map<String, Object> item) {
+        if (recipient != null) {
+            eventPublisher.publishEvent(new UnreadChanged(recipient.getEmail(), counter, delta, item));
+        }
     }
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.unt.academic_system.service;
 
 public interface OTPService {
 
-    void generateAndSendOTP(String email);
+    /**
+     * @return false when the email is throttled and no code was issued
+     */
+    boolean generateAndSendOTP(String email);
 
     boolean verifyOTP(String email, String code);
 
     void cleanupExpiredOTPs();
-}
\ No newline at end of file
+}
@@ -2,47 +2,101 @@ package com.unt.academic_system.service;
 
 import com.unt.academic_system.model.OTP;
 import com.unt.academic_system.repository.OTPRepository;
+import com.unt.academic_system.util.HierarchicalTimerWheel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Optional;
-import java.util.Random;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * OTP engine backed by a bounded in-memory map.
+ *
+ * Codes are stored as salted SHA-256 hashes, expire on a hierarchical timer
+ * wheel, and both issuing (per email, per window) and verifying (per code) are
+ * throttled. The database is only touched when app.otp.write-through is on.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class OTPServiceImpl implements OTPService {
 
+    private static final long OTP_VALIDITY_MILLIS = 5 * 60 * 1000L;
+    private static final long WHEEL_TICK_MILLIS = 1000L;
+    private static final int SALT_BYTES = 16;
+
     private final OTPRepository otpRepository;
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, PendingOtp> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RequestWindow> requestWindows = new ConcurrentHashMap<>();
+    private final HierarchicalTimerWheel<String> otpExpiry =
+            new HierarchicalTimerWheel<>(WHEEL_TICK_MILLIS, System.currentTimeMillis());
+    private final HierarchicalTimerWheel<String> windowExpiry =
+            new HierarchicalTimerWheel<>(WHEEL_TICK_MILLIS, System.currentTimeMillis());
 
     @Value("${otp.dev.mode:true}")
     private boolean devMode;
 
+    @Value("${app.otp.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${app.otp.max-verify-attempts:5}")
+    private int maxVerifyAttempts;
+
+    @Value("${app.otp.max-requests-per-window:5}")
+    private int maxRequestsPerWindow;
+
+    @Value("${app.otp.request-window-seconds:900}")
+    private long requestWindowSeconds;
+
+    @Value("${app.otp.write-through:false}")
+    private boolean writeThrough;
+
     @Override
-    public void generateAndSendOTP(String email) {
-        // Delete any existing OTPs for this email
-        otpRepository.deleteByEmail(email);
+    public boolean generateAndSendOTP(String email) {
+        long now = System.currentTimeMillis();
+
+        if (!allowRequest(email, now)) {
+            log.warn("OTP request throttled for email: {}", email);
+            return false;
+        }
+
+        if (pending.size() >= maxEntries && !pending.containsKey(email)) {
+            expireDue();
+            if (pending.size() >= maxEntries) {
+                throw new RuntimeException("OTP store is full, please retry shortly");
+            }
+        }
 
         // Generate 6-digit OTP
-        String code = String.format("%06d", new Random().nextInt(999999));
+        String code = String.format("%06d", random.nextInt(1_000_000));
 
-        // Create OTP entity
-        OTP otp = new OTP();
-        otp.setEmail(email);
-        otp.setCode(code);
-        otp.setExpiryTime(LocalDateTime.now().plusMinutes(5)); // Valid for 5 minutes
-        otp.setIsUsed(false);
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        PendingOtp otp = new PendingOtp(hash(salt, code), salt, now + OTP_VALIDITY_MILLIS, 0);
 
-        otpRepository.save(otp);
+        // Replaces any previous code for this email
+        pending.put(email, otp);
+        otpExpiry.schedule(email, otp.expiresAt);
+        if (writeThrough) {
+            otpRepository.save(toEntity(email, otp));
+        }
 
         // Send email or log in dev mode
         if (devMode) {
@@ -51,59 +105,155 @@ public class OTPServiceImpl implements OTPService {
             log.warn("OTP CODE: {}", code);
             log.warn("===========================================");
         } else {
-            sendOTPEmail(email, code);
+            // Only queued here; MailDispatcher delivers it in the background
+            mailOutboxService.enqueue(email, "UNT Academic System - Login OTP",
+                    "Your OTP code is: " + code + "\n\n" +
+                            "This code will expire in 5 minutes.\n\n" +
+                            "If you didn't request this, please ignore this email.");
         }
+        return true;
     }
 
     @Override
     public boolean verifyOTP(String email, String code) {
-        Optional<OTP> otpOptional = otpRepository.findByEmailAndCodeAndIsUsedFalse(email, code);
+        PendingOtp otp = pending.get(email);
+        if (otp == null || code == null) {
+            log.warn("Invalid OTP or OTP already used for email: {}", email);
+            return false;
+        }
 
-        if (otpOptional.isPresent()) {
-            OTP otp = otpOptional.get();
+        if (otp.expiresAt <= System.currentTimeMillis()) {
+            log.warn("OTP expired for email: {}", email);
+            discard(email, otp);
+            return false;
+        }
 
-            // Check if expired
-            if (otp.getExpiryTime().isAfter(LocalDateTime.now())) {
-                otp.setIsUsed(true);
-                otpRepository.save(otp);
-                return true;
+        int attempt = otp.attempts.incrementAndGet();
+        if (attempt > maxVerifyAttempts) {
+            log.warn("OTP attempt limit reached for email: {}", email);
+            discard(email, otp);
+            return false;
+        }
+
+        if (!MessageDigest.isEqual(otp.codeHash, hash(otp.salt, code))) {
+            if (attempt >= maxVerifyAttempts) {
+                // Burn the code: brute force has to request a new one (and hit the request throttle)
+                log.warn("OTP burned after {} failed attempts for email: {}", attempt, email);
+                discard(email, otp);
             } else {
-                log.warn("OTP expired for email: {}", email);
+                log.warn("Invalid OTP for email: {} (attempt {}/{})", email, attempt, maxVerifyAttempts);
+                if (writeThrough) {
+                    otpRepository.updateAttempts(email, attempt);
+                }
             }
-        } else {
-            log.warn("Invalid OTP or OTP already used for email: {}", email);
+            return false;
         }
 
-        return false;
+        // Single use: of two concurrent correct submissions only one removes it
+        return discard(email, otp);
+    }
+
+    /**
+     * Drops expired codes and request windows; the wheel only visits the slots that are due
+     */
+    @Scheduled(fixedDelay = WHEEL_TICK_MILLIS)
+    public void expireDue() {
+        long now = System.currentTimeMillis();
+        otpExpiry.advance(now, email ->
+                pending.computeIfPresent(email, (key, otp) -> otp.expiresAt <= now ? null : otp));
+        windowExpiry.advance(now, email ->
+                requestWindows.computeIfPresent(email, (key, window) ->
+                        window.startedAt + requestWindowSeconds * 1000 <= now ? null : window));
     }
 
     @Override
+    @Scheduled(fixedDelayString = "${app.otp.store-sweep-interval-ms:300000}")
     public void cleanupExpiredOTPs() {
-        LocalDateTime now = LocalDateTime.now();
-        int deletedCount = otpRepository.deleteByExpiryTimeBefore(now);
-        log.info("Cleaned up {} expired OTPs", deletedCount);
+        expireDue();
+        if (writeThrough) {
+            int deletedCount = otpRepository.deleteByExpiryTimeBefore(LocalDateTime.now());
+            log.info("Cleaned up {} expired OTPs", deletedCount);
+        }
+    }
+
+    /**
+     * Reload codes that were still pending when the previous instance stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePending() {
+        if (!writeThrough) {
+            return;
+        }
+        otpRepository.deleteByExpiryTimeBefore(LocalDateTime.now());
+        List<OTP> live = otpRepository.findByExpiryTimeAfter(LocalDateTime.now());
+        for (OTP entity : live) {
+            PendingOtp otp = new PendingOtp(
+                    HexFormat.of().parseHex(entity.getCodeHash()),
+                    HexFormat.of().parseHex(entity.getSalt()),
+                    entity.getExpiryTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                    entity.getAttempts());
+            if (pending.putIfAbsent(entity.getEmail(), otp) == null) {
+                otpExpiry.schedule(entity.getEmail(), otp.expiresAt);
+            }
+        }
+        log.info("Restored {} pending OTPs", live.size());
+    }
+
+    private boolean allowRequest(String email, long now) {
+        long windowMillis = requestWindowSeconds * 1000;
+        RequestWindow window = requestWindows.compute(email, (key, current) -> {
+            if (current == null || current.startedAt + windowMillis <= now) {
+                return new RequestWindow(now, 1);
+            }
+            return new RequestWindow(current.startedAt, current.count + 1);
+        });
+        if (window.count == 1) {
+            windowExpiry.schedule(email, window.startedAt + windowMillis);
+        }
+        return window.count <= maxRequestsPerWindow;
     }
 
-    private void sendOTPEmail(String email, String code) {
+    private boolean discard(String email, PendingOtp otp) {
+        if (!pending.remove(email, otp)) {
+            return false;
+        }
+        otpExpiry.cancel(email);
+        if (writeThrough) {
+            otpRepository.deleteById(email);
+        }
+        return true;
+    }
+
+    private OTP toEntity(String email, PendingOtp otp) {
+        LocalDateTime expiry = LocalDateTime.ofInstant(Instant.ofEpochMilli(otp.expiresAt), ZoneId.systemDefault());
+        return new OTP(email, HexFormat.of().formatHex(otp.codeHash), HexFormat.of().formatHex(otp.salt),
+                expiry, otp.attempts.get());
+    }
+
+    private static byte[] hash(byte[] salt, String code) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject("UNT Academic System - Login OTP");
-            message.setText(
-                    "Your OTP code is: " + code + "\n\n" +
-                            "This code will expire in 5 minutes.\n\n" +
-                            "If you didn't request this, please ignore this email."
-            );
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest.digest(code.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
-            mailSender.send(message);
-            log.info("OTP email sent successfully to: {}", email);
+    private static final class PendingOtp {
+        final byte[] codeHash;
+        final byte[] salt;
+        final long expiresAt;
+        final AtomicInteger attempts;
 
-        } catch (MailException e) {
-            log.error("Failed to send OTP email to {}: {}", email, e.getMessage());
-            throw new RuntimeException("Failed to send OTP email: Mail server connection failed. " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Unexpected error sending OTP email to {}: {}", email, e.getMessage());
-            throw new RuntimeException("Failed to send OTP email: " + e.getMessage(), e);
+        PendingOtp(byte[] codeHash, byte[] salt, long expiresAt, int attempts) {
+            this.codeHash = codeHash;
+            this.salt = salt;
+            this.expiresAt = expiresAt;
+            this.attempts = new AtomicInteger(attempts);
         }
     }
-}
\ No newline at end of file
+
+    private record RequestWindow(long startedAt, int count) {
+    }
+}
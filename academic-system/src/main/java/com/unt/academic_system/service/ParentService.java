@@ -1,6 +1,7 @@
 package com.unt.academic_system.service;
 
 import com.unt.academic_system.dto.ParentResponseDTO;
+import com.unt.academic_system.dto.ParentSummaryDTO;
 import com.unt.academic_system.model.Parent;
 
 import java.util.List;
@@ -14,4 +15,6 @@ public interface ParentService {
     Parent updateParent(Long id, Parent parent);
     List<Parent> getAllParents();
     List<Parent> getParentsByRelationship(String relationship);
+    List<ParentSummaryDTO> getAllParentSummaries();
+    List<ParentSummaryDTO> getParentSummariesByRelationship(String relationship);
 }
\ No newline at end of file
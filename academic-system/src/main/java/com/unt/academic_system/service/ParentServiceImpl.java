@@ -1,17 +1,26 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.config.CacheConfig;
 import com.unt.academic_system.dto.ParentResponseDTO;
+import com.unt.academic_system.dto.ParentSummaryDTO;
 import com.unt.academic_system.model.Parent;
 import com.unt.academic_system.model.UserRole;
+import com.unt.academic_system.repository.EnrollmentRepository;
 import com.unt.academic_system.repository.ParentRepository;
+import com.unt.academic_system.repository.PaymentRepository;
+import com.unt.academic_system.repository.StudentRepository;
 import com.unt.academic_system.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,6 +29,9 @@ public class ParentServiceImpl implements ParentService {
 
     private final ParentRepository parentRepository;
     private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PaymentRepository paymentRepository;
 
     @Override
     @Transactional
@@ -40,13 +52,21 @@ public class ParentServiceImpl implements ParentService {
         return parentRepository.findById(id);
     }
 
+    /**
+     * Parent dashboard in four set-based statements (parent, children,
+     * enrollments with course, payments): the rows read are the sum of the
+     * collections, not their product as with one JOIN FETCH over all of them.
+     *
+     * Runs on the primary, not the replica: a lagging replica could put the
+     * data from before the change that just evicted the entry back in the cache.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.PARENT_DASHBOARD, key = "#id", unless = "#result == null")
     public ParentResponseDTO getParentWithDetails(Long id) {
         log.info("🔍 Fetching parent with ID: {}", id);
 
-        // ✅ Use the custom query that fetches everything in ONE go
-        Optional<Parent> parentOpt = parentRepository.findByIdWithDetails(id);
+        Optional<Parent> parentOpt = parentRepository.findById(id);
 
         if (parentOpt.isEmpty()) {
             log.warn("⚠️ Parent not found with ID: {}", id);
@@ -54,22 +74,33 @@ public class ParentServiceImpl implements ParentService {
         }
 
         Parent parent = parentOpt.get();
-        log.info("✅ Parent found: {} {}", parent.getFirstName(), parent.getLastName());
+        ParentResponseDTO dto = new ParentResponseDTO();
+        dto.setId(parent.getId());
+        dto.setFirstName(parent.getFirstName());
+        dto.setLastName(parent.getLastName());
+        dto.setEmail(parent.getEmail());
+        dto.setPhoneNumber(parent.getPhoneNumber());
+        dto.setAddress(parent.getAddress());
+        dto.setRelationship(parent.getRelationship());
+        dto.setOccupation(parent.getOccupation());
+
+        List<ParentResponseDTO.StudentBasicDTO> children = studentRepository.findDashboardChildren(id);
+        dto.setChildren(children);
+        if (children.isEmpty()) {
+            return dto;
+        }
 
-        if (parent.getChildren() != null) {
-            log.info("👨‍👩‍👧 Found {} children", parent.getChildren().size());
+        Map<Long, ParentResponseDTO.StudentBasicDTO> byId = children.stream()
+                .collect(Collectors.toMap(ParentResponseDTO.StudentBasicDTO::getId, Function.identity()));
 
-            parent.getChildren().forEach(student -> {
-                log.info("  - Student: {} (Enrollments: {}, Payments: {})",
-                        student.getStudentId(),
-                        student.getEnrollments() != null ? student.getEnrollments().size() : 0,
-                        student.getPayments() != null ? student.getPayments().size() : 0);
-            });
-        }
+        List<ParentResponseDTO.EnrollmentBasicDTO> enrollments = enrollmentRepository.findDashboardEnrollments(byId.keySet());
+        enrollments.forEach(e -> byId.get(e.getStudentRef()).getEnrollments().add(e));
 
-        // Convert to DTO (all data is already loaded)
-        ParentResponseDTO dto = ParentResponseDTO.fromEntity(parent);
-        log.info("✅ DTO created successfully");
+        List<ParentResponseDTO.PaymentBasicDTO> payments = paymentRepository.findDashboardPayments(byId.keySet());
+        payments.forEach(p -> byId.get(p.getStudentRef()).getPayments().add(p));
+
+        log.info("✅ Parent {} {}: {} children, {} enrollments, {} payments",
+                parent.getFirstName(), parent.getLastName(), children.size(), enrollments.size(), payments.size());
 
         return dto;
     }
@@ -101,4 +132,16 @@ public class ParentServiceImpl implements ParentService {
     public List<Parent> getParentsByRelationship(String relationship) {
         return parentRepository.findByRelationship(relationship);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParentSummaryDTO> getAllParentSummaries() {
+        return parentRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParentSummaryDTO> getParentSummariesByRelationship(String relationship) {
+        return parentRepository.findSummariesByRelationship(relationship);
+    }
+}
@@ -1,7 +1,9 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
 import com.unt.academic_system.model.Payment;
 import com.unt.academic_system.model.PaymentStatus;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,8 @@ public interface PaymentService {
     Optional<Payment> findByTransactionReference(String reference);
     Payment updatePayment(Long id, Payment payment);
     List<Payment> findAll();
+    CursorPage<Payment> findPage(Long studentId, PaymentStatus status, String academicYear, Integer semester,
+                                 Long cursor, int limit, Sort.Direction direction);
 
     // Student payment queries
     List<Payment> getStudentPayments(Long studentId);
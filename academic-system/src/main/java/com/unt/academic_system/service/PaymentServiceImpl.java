@@ -2,8 +2,12 @@ package com.unt.academic_system.service;
 
 import com.unt.academic_system.model.*;
 import com.unt.academic_system.repository.*;
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.util.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final AcademicYearRepository academicYearRepository;
+    private final TermContextService termContextService;
 
     /**
      * Record a new payment with comprehensive validation
@@ -38,16 +43,22 @@ public class PaymentServiceImpl implements PaymentService {
             payment.setStudent(student);
             log.info("✅ Student verified: {} {}", student.getFirstName(), student.getLastName());
 
-            // VALIDATION 2: Verify academic year exists and is valid
-            Optional<AcademicYear> academicYear = academicYearRepository
-                    .findByYearCodeAndIsActiveTrue(payment.getAcademicYear());
+            // VALIDATION 2: Verify academic year exists and is valid.
+            // Payments for the current term (always active) are checked from memory.
+            boolean currentTerm = termContextService.currentTerm()
+                    .map(term -> term.yearCode().equals(payment.getAcademicYear()))
+                    .orElse(false);
+            if (!currentTerm) {
+                Optional<AcademicYear> academicYear = academicYearRepository
+                        .findByYearCodeAndIsActiveTrue(payment.getAcademicYear());
 
-            if (academicYear.isEmpty()) {
-                academicYear = academicYearRepository.findByYearCode(payment.getAcademicYear());
                 if (academicYear.isEmpty()) {
-                    throw new RuntimeException("Academic year not found: " + payment.getAcademicYear());
-                } else if (!academicYear.get().getIsActive()) {
-                    log.warn("⚠️ Academic year {} is not active, but allowing payment", payment.getAcademicYear());
+                    academicYear = academicYearRepository.findByYearCode(payment.getAcademicYear());
+                    if (academicYear.isEmpty()) {
+                        throw new RuntimeException("Academic year not found: " + payment.getAcademicYear());
+                    } else if (!academicYear.get().getIsActive()) {
+                        log.warn("⚠️ Academic year {} is not active, but allowing payment", payment.getAcademicYear());
+                    }
                 }
             }
             log.info("✅ Academic year verified: {}", payment.getAcademicYear());
@@ -384,6 +395,23 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentRepository.findAll();
     }
 
+    /**
+     * Keyset page of payments, optionally filtered (null filters are ignored)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Payment> findPage(Long studentId, PaymentStatus status, String academicYear, Integer semester,
+                                        Long cursor, int limit, Sort.Direction direction) {
+        Specification<Payment> filter = Specification.allOf(
+                CursorPagination.attributeEquals("student.id", studentId),
+                CursorPagination.attributeEquals("paymentStatus", status),
+                CursorPagination.attributeEquals("academicYear", academicYear),
+                CursorPagination.attributeEquals("semester", semester));
+
+        return CursorPagination.fetch(paymentRepository, filter, cursor, limit, direction,
+                Payment::getId, payment -> payment);
+    }
+
     /**
      * Find payment by ID
      */
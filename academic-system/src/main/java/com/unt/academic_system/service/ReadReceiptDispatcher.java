@@ -0,0 +1,55 @@
+package com.unt.academic_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read receipts to the sender's /user/queue/message.status once the
+ * transaction that marked the messages as read has committed.
+ *
+ * A bulk read produces one receipt per sender carrying all the message ids
+ * (messageIds), instead of one STOMP message per message.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptDispatcher {
+
+    public static final String STATUS_DESTINATION = "/queue/message.status";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * @param senderId  who gets the receipt (STOMP principal name)
+     * @param readBy    who read the messages
+     * @param groupId   group of the messages, null for direct messages
+     */
+    public record ReadReceipt(String senderId, String readBy, Long groupId, List<Long> messageIds) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReadReceipt(ReadReceipt receipt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("messageIds", receipt.messageIds());
+        payload.put("status", "READ");
+        payload.put("readBy", receipt.readBy());
+        if (receipt.groupId() != null) {
+            payload.put("groupId", receipt.groupId());
+        }
+        payload.put("timestamp", LocalDateTime.now());
+
+        try {
+            messagingTemplate.convertAndSendToUser(receipt.senderId(), STATUS_DESTINATION, payload);
+        } catch (Exception e) {
+            log.warn("Could not send read receipt to {}: {}", receipt.senderId(), e.getMessage());
+        }
+    }
+}
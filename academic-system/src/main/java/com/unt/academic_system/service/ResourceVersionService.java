@@ -0,0 +1,29 @@
+package com.unt.academic_system.service;
+
+/**
+ * Cheap change detection for the collections served by @ConditionalGet
+ * endpoints.
+ */
+public interface ResourceVersionService {
+
+    /**
+     * Version of the data of the given entities: their row counts and latest
+     * updatedAt, without loading any row. Changes whenever a row is inserted,
+     * updated or deleted. Kept in memory until one of the entities changes,
+     * read with one aggregate query otherwise.
+     */
+    String version(Class<?>... entities);
+
+    /**
+     * Forget the version of an entity (and of its super- and subclasses) after
+     * a write Hibernate did not see on this node: JDBC batches and other nodes
+     */
+    void invalidate(Class<?> entity);
+
+    /**
+     * Same, by entity class name as recorded in cache_invalidation
+     */
+    void invalidate(String entityName);
+
+    void invalidateAll();
+}
@@ -0,0 +1,197 @@
+package com.unt.academic_system.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The version of an entity is its row count and max(updatedAt), read with one
+ * aggregate query. The count is part of it because deleting a row does not
+ * move max(updatedAt).
+ *
+ * Versions are kept in memory until the entity changes, so a conditional GET
+ * normally issues no query at all:
+ * - Hibernate writes on this node drop the version once they commit
+ *   (post-commit event listener, every entity)
+ * - JDBC writes and writes on other nodes arrive through
+ *   CacheInvalidationService, which calls invalidate()
+ * Writes on another node to an entity that is not recorded in
+ * cache_invalidation (only the second-level cached ones and the JDBC batches
+ * are) are picked up once the version is older than
+ * app.http-cache.version-max-age-seconds.
+ *
+ * Versions are read from the database rather than counted per node so that
+ * all nodes compute the same ETags.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<List<Class<?>>, String> queries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Version> versions = new ConcurrentHashMap<>();
+
+    // Bumped by every invalidation: a version read while one happened may already be stale
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${app.http-cache.version-max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    @PostConstruct
+    void registerListener() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        ChangeListener listener = new ChangeListener();
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String version(Class<?>... entities) {
+        long now = System.currentTimeMillis();
+        List<Class<?>> missing = new ArrayList<>();
+        for (Class<?> entity : entities) {
+            Version version = versions.get(entity);
+            if (version == null || now - version.readAt() > maxAgeSeconds * 1000) {
+                missing.add(entity);
+            }
+        }
+        if (!missing.isEmpty()) {
+            load(missing, now);
+        }
+
+        StringJoiner joined = new StringJoiner(", ", "[", "]");
+        for (Class<?> entity : entities) {
+            Version version = versions.get(entity);
+            // Invalidated again in the meantime: read it without keeping it
+            joined.add(version != null ? version.value() : read(List.of(entity))[0]);
+        }
+        return joined.toString();
+    }
+
+    @Override
+    public void invalidate(Class<?> entity) {
+        invalidations.incrementAndGet();
+        // A Lecturer write changes the User version and the other way round
+        versions.keySet().removeIf(cached -> cached.isAssignableFrom(entity) || entity.isAssignableFrom(cached));
+    }
+
+    @Override
+    public void invalidate(String entityName) {
+        try {
+            invalidate(Class.forName(entityName));
+        } catch (ClassNotFoundException e) {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        versions.clear();
+    }
+
+    private void load(List<Class<?>> entities, long now) {
+        long seen = invalidations.get();
+        String[] values = read(entities);
+        if (invalidations.get() != seen) {
+            return;
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            versions.put(entities.get(i), new Version(values[i], now));
+        }
+    }
+
+    // One "count, max(updatedAt)" value per entity
+    private String[] read(List<Class<?>> entities) {
+        String query = queries.computeIfAbsent(List.copyOf(entities), ResourceVersionServiceImpl::versionQuery);
+        Object[] row = entityManager.createQuery(query, Object[].class).getSingleResult();
+        String[] values = new String[entities.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row[2 * i] + ", " + row[2 * i + 1];
+        }
+        return values;
+    }
+
+    // select (select count(e) from Course e), (select max(e.updatedAt) from Course e), ...
+    private static String versionQuery(List<Class<?>> entities) {
+        StringJoiner select = new StringJoiner(", ", "select ", "");
+        for (Class<?> entity : entities) {
+            String name = entity.getSimpleName();
+            select.add("(select count(e) from " + name + " e)");
+            select.add("(select max(e.updatedAt) from " + name + " e)");
+        }
+        return select.toString();
+    }
+
+    private record Version(String value, long readAt) {
+    }
+
+    /**
+     * Drops the version of every entity written through Hibernate, after the
+     * commit: dropping it earlier would let a concurrent request read and keep
+     * the old version again.
+     */
+    private class ChangeListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+            PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            invalidate(event.getEntity().getClass());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            invalidate(event.getEntity().getClass());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            invalidate(event.getEntity().getClass());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return true;
+        }
+    }
+}
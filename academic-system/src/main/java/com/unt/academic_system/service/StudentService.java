@@ -1,6 +1,9 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.dto.StudentSummaryDTO;
 import com.unt.academic_system.model.Student;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,4 +48,22 @@ public interface StudentService {
 
     // Get students without payment for current semester
     List<Student> getStudentsWithoutPayment(String academicYear, Integer semester);
+
+    // Read-only projections used by the list/detail endpoints
+    List<StudentSummaryDTO> getAllStudentSummaries();
+
+    Optional<StudentSummaryDTO> findSummaryById(Long id);
+
+    Optional<StudentSummaryDTO> findSummaryByStudentId(String studentId);
+
+    List<StudentSummaryDTO> getStudentSummariesByFaculty(String faculty);
+
+    List<StudentSummaryDTO> getStudentSummariesByProgram(String program);
+
+    List<StudentSummaryDTO> getStudentSummariesByYearAndSemester(Integer year, Integer semester);
+
+    List<StudentSummaryDTO> getStudentSummariesWithHighGPA(Double minGpa);
+
+    CursorPage<StudentSummaryDTO> getStudentSummaryPage(String faculty, String program,
+                                                        Long cursor, int limit, Sort.Direction direction);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.dto.StudentSummaryDTO;
 import com.unt.academic_system.model.Parent;
 import com.unt.academic_system.model.Student;
 import com.unt.academic_system.model.UserRole;
@@ -7,7 +9,10 @@ import com.unt.academic_system.repository.ParentRepository;
 import com.unt.academic_system.repository.StudentRepository;
 import com.unt.academic_system.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import com.unt.academic_system.util.CursorPagination;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -242,6 +247,7 @@ public class StudentServiceImpl implements StudentService {
             throw new RuntimeException("GPA must be between 0.0 and 4.0");
         }
 
+        // Manual override: replaced by the next AcademicStandingService recompute for this student
         student.setCumulativeGPA(newGpa);
         studentRepository.save(student);
         log.info("✅ GPA updated successfully");
@@ -266,4 +272,62 @@ public class StudentServiceImpl implements StudentService {
         log.debug("💰 Getting students without payment for {} semester {}", academicYear, semester);
         return studentRepository.findStudentsWithoutPayment(academicYear, semester);
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // READ-ONLY PROJECTIONS
+    // ========================================
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummaryDTO> getAllStudentSummaries() {
+        return studentRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StudentSummaryDTO> findSummaryById(Long id) {
+        return studentRepository.findSummaryById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StudentSummaryDTO> findSummaryByStudentId(String studentId) {
+        return studentRepository.findSummaryByStudentId(studentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummaryDTO> getStudentSummariesByFaculty(String faculty) {
+        return studentRepository.findSummariesByFaculty(faculty);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummaryDTO> getStudentSummariesByProgram(String program) {
+        return studentRepository.findSummariesByProgram(program);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummaryDTO> getStudentSummariesByYearAndSemester(Integer year, Integer semester) {
+        return studentRepository.findSummariesByYearAndSemester(year, semester);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummaryDTO> getStudentSummariesWithHighGPA(Double minGpa) {
+        return studentRepository.findSummariesWithMinGPA(minGpa);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentSummaryDTO> getStudentSummaryPage(String faculty, String program,
+                                                               Long cursor, int limit, Sort.Direction direction) {
+        List<StudentSummaryDTO> rows = direction.isAscending()
+                ? studentRepository.findSummaryPageAscending(
+                        cursor != null ? cursor : 0L, faculty, program, Limit.of(limit + 1))
+                : studentRepository.findSummaryPageDescending(
+                        cursor != null ? cursor : Long.MAX_VALUE, faculty, program, Limit.of(limit + 1));
+        return CursorPagination.toPage(rows, limit, StudentSummaryDTO::getId, row -> row);
+    }
+}
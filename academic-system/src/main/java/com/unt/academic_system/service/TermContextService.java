@@ -0,0 +1,75 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.AcademicYear;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The current academic term (the academic year flagged isCurrent), kept in
+ * memory so that enrollment, payment and timetable checks do not query it.
+ *
+ * The term is an immutable snapshot replaced as a whole when an academic
+ * year changes: after commit on this node (AcademicYearChanged, published by
+ * AcademicYearServiceImpl) and within a poll on the other nodes
+ * (CacheInvalidationServiceImpl). Date checks use today's date against the
+ * snapshot, so they need no refresh when a window opens or closes.
+ */
+public interface TermContextService {
+
+    /**
+     * Published when an academic year is created, updated or deleted
+     */
+    record AcademicYearChanged() {
+    }
+
+    /**
+     * Snapshot of the current academic year. Windows with a missing start or
+     * end date are open on that side.
+     */
+    record Term(Long academicYearId, String yearCode, Integer semester,
+                LocalDate startDate, LocalDate endDate,
+                LocalDate registrationStartDate, LocalDate registrationEndDate,
+                LocalDate examStartDate, LocalDate examEndDate) {
+
+        public static Term of(AcademicYear year) {
+            return new Term(year.getId(), year.getYearCode(), year.getSemester(),
+                    year.getStartDate(), year.getEndDate(),
+                    year.getRegistrationStartDate(), year.getRegistrationEndDate(),
+                    year.getExamStartDate(), year.getExamEndDate());
+        }
+
+        public boolean isFor(String yearCode, Integer semester) {
+            return this.yearCode.equals(yearCode) && (semester == null || Objects.equals(this.semester, semester));
+        }
+
+        public boolean isRegistrationOpen(LocalDate date) {
+            return within(date, registrationStartDate, registrationEndDate);
+        }
+
+        public boolean isExamPeriod(LocalDate date) {
+            return examStartDate != null && examEndDate != null && within(date, examStartDate, examEndDate);
+        }
+
+        private static boolean within(LocalDate date, LocalDate start, LocalDate end) {
+            return (start == null || !date.isBefore(start)) && (end == null || !date.isAfter(end));
+        }
+    }
+
+    /**
+     * The current term, or empty when no academic year is flagged current
+     */
+    Optional<Term> currentTerm();
+
+    /**
+     * Whether today falls in the registration window of the current term;
+     * false when there is no current term
+     */
+    boolean isRegistrationOpen();
+
+    /**
+     * Reload the snapshot from the database
+     */
+    void refresh();
+}
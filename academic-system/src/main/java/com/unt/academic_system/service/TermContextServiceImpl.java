@@ -0,0 +1,62 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.repository.AcademicYearRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loaded on first use. Refreshes are serialized so that a slow reload can
+ * not overwrite the result of a later one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TermContextServiceImpl implements TermContextService {
+
+    private final AcademicYearRepository academicYearRepository;
+
+    // null until the first load
+    private final AtomicReference<Optional<Term>> current = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Override
+    public Optional<Term> currentTerm() {
+        Optional<Term> term = current.get();
+        if (term == null) {
+            refresh();
+            term = current.get();
+        }
+        return term;
+    }
+
+    @Override
+    public boolean isRegistrationOpen() {
+        return currentTerm()
+                .map(term -> term.isRegistrationOpen(LocalDate.now()))
+                .orElse(false);
+    }
+
+    @Override
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Optional<Term> term = academicYearRepository.findByIsCurrentTrue().map(Term::of);
+            current.set(term);
+            log.debug("Current term: {}", term.map(Term::yearCode).orElse("none"));
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAcademicYearChanged(AcademicYearChanged event) {
+        refresh();
+    }
+}
@@ -1,6 +1,10 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.dto.TimetableDTO;
+import com.unt.academic_system.model.DayOfWeek;
 import com.unt.academic_system.model.Timetable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +20,6 @@ public interface TimetableService {
     List<Timetable> getLecturerTimetable(Long lecturerId);
     boolean checkTimeConflict(Timetable timetable);
     List<Timetable> findAll();
+    CursorPage<TimetableDTO> findPage(Long courseId, Long academicYearId, DayOfWeek dayOfWeek,
+                                      Long cursor, int limit, Sort.Direction direction);
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package com.unt.academic_system.service;
 
+import com.unt.academic_system.dto.CursorPage;
+import com.unt.academic_system.dto.TimetableDTO;
+import com.unt.academic_system.model.DayOfWeek;
 import com.unt.academic_system.model.Timetable;
 import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.repository.AcademicYearRepository;
 import com.unt.academic_system.repository.TimetableRepository;
 import com.unt.academic_system.repository.EnrollmentRepository;
+import com.unt.academic_system.util.CursorPagination;
+import com.unt.academic_system.util.DTOMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +29,20 @@ public class TimetableServiceImpl implements TimetableService {
 
     private final TimetableRepository timetableRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final TermContextService termContextService;
 
     @Override
     @Transactional
     public Timetable createTimetable(Timetable timetable) {
         log.info("Creating timetable for course: {}", timetable.getCourse().getId());
 
+        if (timetable.getAcademicYear() == null || timetable.getAcademicYear().getId() == null) {
+            // Defaults to the current term, referenced by id without loading it
+            termContextService.currentTerm().ifPresent(term ->
+                    timetable.setAcademicYear(academicYearRepository.getReferenceById(term.academicYearId())));
+        }
+
         if (checkTimeConflict(timetable)) {
             throw new RuntimeException("Time conflict detected with existing schedule");
         }
@@ -40,6 +56,18 @@ public class TimetableServiceImpl implements TimetableService {
         return timetableRepository.findAll();
     }
 
+    @Override
+    public CursorPage<TimetableDTO> findPage(Long courseId, Long academicYearId, DayOfWeek dayOfWeek,
+                                             Long cursor, int limit, Sort.Direction direction) {
+        Specification<Timetable> filter = Specification.allOf(
+                CursorPagination.attributeEquals("course.id", courseId),
+                CursorPagination.attributeEquals("academicYear.id", academicYearId),
+                CursorPagination.attributeEquals("dayOfWeek", dayOfWeek));
+
+        return CursorPagination.fetch(timetableRepository, filter, cursor, limit, direction,
+                Timetable::getId, DTOMapper::toTimetableDTO, "course", "course.lecturer", "academicYear");
+    }
+
     @Override
     public Optional<Timetable> findById(Long id) {
         log.info("Fetching timetable by id: {}", id);
@@ -92,18 +120,13 @@ public class TimetableServiceImpl implements TimetableService {
 
     @Override
     public List<Timetable> getStudentTimetable(Long studentId) {
-        log.info("============================================");
-        log.info("🔍 TIMETABLE DEBUG FOR STUDENT {}", studentId);
-        log.info("============================================");
-
         try {
             // Step 1: Check enrollments
-            log.info("📋 Step 1: Checking student enrollments...");
             List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-            log.info("✅ Found {} enrollments", enrollments.size());
+            log.debug("Student {} has {} enrollments", studentId, enrollments.size());
 
             if (enrollments.isEmpty()) {
-                log.warn("⚠️ NO ENROLLMENTS found for student {}", studentId);
+                log.debug("No enrollments found for student {}", studentId);
                 return List.of();
             }
 
@@ -112,37 +135,15 @@ public class TimetableServiceImpl implements TimetableService {
                     .map(e -> e.getCourse().getId())
                     .collect(java.util.stream.Collectors.toList());
 
-            log.info("📚 Student enrolled in courses: {}", courseIds);
-
-            // Step 3: Manually fetch timetables for these courses
-            log.info("🔍 Fetching timetables for enrolled courses...");
-            List<Timetable> allTimetables = new java.util.ArrayList<>();
-
-            for (Long courseId : courseIds) {
-                List<Timetable> courseTimetables = timetableRepository.findByCourseId(courseId);
-                log.info("   Course {}: {} timetable entries", courseId, courseTimetables.size());
-
-                if (courseTimetables.isEmpty()) {
-                    log.warn("   ❌ NO timetables for course {}", courseId);
-                } else {
-                    for (Timetable tt : courseTimetables) {
-                        log.info("      ✅ Found: day={}, time={}-{}, classroom={}",
-                                tt.getDayOfWeek(), tt.getStartTime(), tt.getEndTime(), tt.getClassroom());
-                    }
-                    allTimetables.addAll(courseTimetables);
-                }
-            }
-
-            log.info("📊 Total timetables found: {}", allTimetables.size());
+            // Step 3: Fetch the timetables of all these courses in one query
+            List<Timetable> allTimetables = new java.util.ArrayList<>(timetableRepository.findByCourseIdIn(courseIds));
 
             if (allTimetables.isEmpty()) {
-                log.error("❌ NO TIMETABLES found for any enrolled course!");
-                log.error("   This means timetable entries need to be created in the database");
+                log.warn("No timetable entries for any of the courses of student {}", studentId);
                 return List.of();
             }
 
             // Step 4: Force load lazy fields to avoid LazyInitializationException
-            log.info("🔄 Initializing lazy-loaded fields...");
             for (Timetable t : allTimetables) {
                 // Force load course
                 if (t.getCourse() != null) {
@@ -163,12 +164,6 @@ public class TimetableServiceImpl implements TimetableService {
                     t.getAcademicYear().getId(); // Trigger load
                     t.getAcademicYear().getYearCode();
                 }
-
-                log.info("   ✅ Loaded: {} on {} at {} in {}",
-                        t.getCourse() != null ? t.getCourse().getCourseCode() : "NULL",
-                        t.getDayOfWeek(),
-                        t.getStartTime(),
-                        t.getClassroom());
             }
 
             // Step 5: Sort by day and time
@@ -178,9 +173,7 @@ public class TimetableServiceImpl implements TimetableService {
                 return t1.getStartTime().compareTo(t2.getStartTime());
             });
 
-            log.info("============================================");
-            log.info("✅ TIMETABLE DEBUG COMPLETE - Returning {} entries", allTimetables.size());
-            log.info("============================================");
+            log.debug("Returning {} timetable entries for student {}", allTimetables.size(), studentId);
 
             return allTimetables;
 
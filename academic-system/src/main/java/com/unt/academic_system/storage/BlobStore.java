@@ -0,0 +1,22 @@
+package com.unt.academic_system.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Backend for content-addressed blobs. Keys are lowercase SHA-256 hex digests;
+ * how a key maps to a physical location (sharding, bucket, prefix) is up to the
+ * implementation. Writes of the same key must be idempotent.
+ */
+public interface BlobStore {
+
+    boolean exists(String key);
+
+    void put(String key, InputStream content) throws IOException;
+
+    Resource load(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
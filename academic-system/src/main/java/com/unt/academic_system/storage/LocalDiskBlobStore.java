@@ -0,0 +1,77 @@
+package com.unt.academic_system.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Default BlobStore: files on local disk under app.storage.local.root, fanned
+ * out two levels by hash prefix (ab/cd/abcd...) so no directory grows past a
+ * few hundred entries.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalDiskBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalDiskBlobStore(@Value("${app.storage.local.root:uploads/store}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+        log.info("Blob store root: {}", this.root);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(pathOf(key));
+    }
+
+    /**
+     * Written to a temporary sibling and moved into place, so a reader never sees a partial blob
+     */
+    @Override
+    public void put(String key, InputStream content) throws IOException {
+        Path target = pathOf(key);
+        Files.createDirectories(target.getParent());
+
+        Path partial = Files.createTempFile(target.getParent(), key, ".part");
+        try {
+            Files.copy(content, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    @Override
+    public Resource load(String key) throws IOException {
+        Path path = pathOf(key);
+        if (!Files.exists(path)) {
+            throw new IOException("Blob not found: " + key);
+        }
+        return new UrlResource(path.toUri());
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(pathOf(key));
+    }
+
+    private Path pathOf(String key) {
+        if (key == null || !key.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
@@ -0,0 +1,97 @@
+package com.unt.academic_system.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV grade sheet. The delimiter is whichever of , ; and tab the first
+ * non-blank line (the header) uses most: spreadsheets saved in a decimal
+ * comma locale separate cells with ;. A UTF-8 byte order mark is skipped.
+ */
+public class CsvGradeSheetReader implements GradeSheetReader {
+
+    private static final char[] DELIMITERS = {',', ';', '\t'};
+
+    private final BufferedReader reader;
+    private char delimiter;
+    private long line;
+
+    public CsvGradeSheetReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        if (delimiter == 0) {
+            if (text.startsWith("\uFEFF")) {
+                text = text.substring(1);
+            }
+            delimiter = delimiterOf(text);
+        }
+        return new Row(line, split(text, delimiter));
+    }
+
+    @Override
+    public boolean decimalComma() {
+        return delimiter != ',';
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static char delimiterOf(String header) {
+        char delimiter = ',';
+        long most = 0;
+        for (char candidate : DELIMITERS) {
+            long count = header.chars().filter(c -> c == candidate).count();
+            if (count > most) {
+                delimiter = candidate;
+                most = count;
+            }
+        }
+        return delimiter;
+    }
+
+    /**
+     * One CSV line into trimmed cells; quoted cells may contain the delimiter and "" for a quote
+     */
+    static List<String> split(String line, char delimiter) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+}
@@ -0,0 +1,114 @@
+package com.unt.academic_system.util;
+
+import com.unt.academic_system.dto.CursorPage;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (cursor) pagination on the primary key.
+ *
+ * The cursor is the id of the last row of the previous page, so each page is a
+ * bounded index range scan ("id > cursor ORDER BY id LIMIT n") whose cost does
+ * not depend on how deep the client has paged, and no COUNT query is issued.
+ */
+public class CursorPagination {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private CursorPagination() {
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static Sort.Direction direction(String direction) {
+        return "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    /**
+     * Equality filter on a (possibly nested, dot-separated) attribute; no-op when value is null
+     */
+    public static <T> Specification<T> attributeEquals(String attribute, Object value) {
+        return (root, query, cb) -> {
+            if (value == null) {
+                return null;
+            }
+            Path<?> path = root;
+            for (String part : attribute.split("\\.")) {
+                path = path.get(part);
+            }
+            return cb.equal(path, value);
+        };
+    }
+
+    private static <T> Specification<T> afterCursor(Long cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return direction.isAscending()
+                    ? cb.greaterThan(root.get("id"), cursor)
+                    : cb.lessThan(root.get("id"), cursor);
+        };
+    }
+
+    /**
+     * Fetch one page (limit + 1 rows to detect whether another page exists)
+     */
+    public static <T, R> CursorPage<R> fetch(JpaSpecificationExecutor<T> repository,
+                                             Specification<T> filter,
+                                             Long cursor,
+                                             int limit,
+                                             Sort.Direction direction,
+                                             Function<T, Long> idOf,
+                                             Function<T, R> mapper) {
+        return fetch(repository, filter, cursor, limit, direction, idOf, mapper, new String[0]);
+    }
+
+    /**
+     * Same, loading the given (dot-separated) associations in the page query
+     * itself. Needed for to-one chains that would otherwise be loaded row by
+     * row, e.g. the eager Course.lecturer of courses served from the L2 cache.
+     */
+    public static <T, R> CursorPage<R> fetch(JpaSpecificationExecutor<T> repository,
+                                             Specification<T> filter,
+                                             Long cursor,
+                                             int limit,
+                                             Sort.Direction direction,
+                                             Function<T, Long> idOf,
+                                             Function<T, R> mapper,
+                                             String... associations) {
+        Specification<T> spec = Specification.allOf(filter, afterCursor(cursor, direction));
+
+        List<T> rows = repository.findBy(spec, query -> query
+                .sortBy(Sort.by(direction, "id"))
+                .limit(limit + 1)
+                .project(associations)
+                .all());
+
+        return toPage(rows, limit, idOf, mapper);
+    }
+
+    /**
+     * Build a page from rows fetched with limit + 1
+     */
+    public static <T, R> CursorPage<R> toPage(List<T> rows, int limit, Function<T, Long> idOf, Function<T, R> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<T> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasMore ? idOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        List<R> items = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,34 @@
+package com.unt.academic_system.util;
+
+import com.unt.academic_system.model.EnrollmentStatus;
+
+/**
+ * Grading rules shared by single grade updates and the grade-sheet import:
+ * the total is 40% midterm + 60% final, the letter follows the thresholds
+ * below and a total of 50 or more passes the course.
+ */
+public class GradeCalculator {
+
+    public static final double PASS_MARK = 50;
+
+    private GradeCalculator() {
+    }
+
+    public static double total(double midterm, double finalGrade) {
+        return (midterm * 0.4) + (finalGrade * 0.6);
+    }
+
+    public static String letterGrade(double total) {
+        if (total >= 90) return "A";
+        if (total >= 85) return "B+";
+        if (total >= 80) return "B";
+        if (total >= 75) return "C+";
+        if (total >= 70) return "C";
+        if (total >= 60) return "D";
+        return "F";
+    }
+
+    public static EnrollmentStatus status(double total) {
+        return total >= PASS_MARK ? EnrollmentStatus.COMPLETED : EnrollmentStatus.FAILED;
+    }
+}
@@ -0,0 +1,51 @@
+package com.unt.academic_system.util;
+
+import java.util.List;
+
+/**
+ * Positions of the enrollment_id, midterm and final columns, found in the
+ * header row ignoring case, spaces and underscores ("Enrollment ID",
+ * "midterm_grade", "Final"). Other columns are ignored.
+ */
+public record GradeSheetColumns(int enrollmentId, int midterm, int finalGrade) {
+
+    public static GradeSheetColumns of(List<String> header) {
+        int enrollmentId = -1, midterm = -1, finalGrade = -1;
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).toLowerCase().replaceAll("[^a-z0-9]", "")) {
+                case "enrollmentid", "enrollment", "id" -> enrollmentId = i;
+                case "midterm", "midtermgrade" -> midterm = i;
+                case "final", "finalgrade" -> finalGrade = i;
+                default -> {
+                }
+            }
+        }
+        if (enrollmentId < 0 || midterm < 0 || finalGrade < 0) {
+            throw new GradeSheetException("Grade sheet header must have the columns enrollment_id, midterm and final");
+        }
+        return new GradeSheetColumns(enrollmentId, midterm, finalGrade);
+    }
+
+    /**
+     * A grade cell, 0 to 100
+     *
+     * @param name         "Midterm" or "Final", for the error message
+     * @param decimalComma accept 12,5 for 12.5
+     * @throws IllegalArgumentException with the reason the row is rejected
+     */
+    public static double grade(String value, String name, boolean decimalComma) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(name + " grade is missing");
+        }
+        double grade;
+        try {
+            grade = Double.parseDouble(decimalComma ? value.replace(',', '.') : value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " grade '" + value + "' is not a number");
+        }
+        if (!(grade >= 0 && grade <= 100)) {
+            throw new IllegalArgumentException(name + " grade must be between 0 and 100");
+        }
+        return grade;
+    }
+}
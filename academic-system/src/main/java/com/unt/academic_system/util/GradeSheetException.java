@@ -0,0 +1,16 @@
+package com.unt.academic_system.util;
+
+/**
+ * The uploaded grade sheet cannot be read: empty, missing columns, not a
+ * CSV or XLSX file. Answered with 400, unlike failures of the import itself.
+ */
+public class GradeSheetException extends RuntimeException {
+
+    public GradeSheetException(String message) {
+        super(message);
+    }
+
+    public GradeSheetException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
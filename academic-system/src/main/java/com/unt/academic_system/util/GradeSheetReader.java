@@ -0,0 +1,49 @@
+package com.unt.academic_system.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Rows of an uploaded grade sheet, read as a stream: CSV (UTF-8, , ; or tab
+ * separated) or the first worksheet of an XLSX workbook.
+ */
+public interface GradeSheetReader extends Closeable {
+
+    /**
+     * @param line  line (CSV) or row number (XLSX) shown to the user, from 1
+     * @param cells trimmed cell values, "" for empty cells
+     */
+    record Row(long line, List<String> cells) {
+
+        public String cell(int index) {
+            return index < cells.size() ? cells.get(index) : "";
+        }
+    }
+
+    /**
+     * Next row with at least one non-blank cell, or null at the end of the sheet
+     */
+    Row next() throws IOException;
+
+    /**
+     * Whether numbers may use a decimal comma: CSV saved in a locale that
+     * separates cells with ; and text cells of a workbook
+     */
+    boolean decimalComma();
+
+    /**
+     * Reader for the format given by the file name (.xlsx, anything else is CSV)
+     */
+    static GradeSheetReader open(InputStream in, String filename) throws IOException {
+        String name = filename == null ? "" : filename.toLowerCase();
+        if (name.endsWith(".xlsx")) {
+            return new XlsxGradeSheetReader(in);
+        }
+        if (name.endsWith(".xls")) {
+            throw new GradeSheetException("Excel 97-2003 workbooks (.xls) are not supported, save the sheet as .xlsx or CSV");
+        }
+        return new CsvGradeSheetReader(in);
+    }
+}
@@ -0,0 +1,127 @@
+package com.unt.academic_system.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for key expiry.
+ *
+ * Level 0 has one slot per tick; each higher level's slot spans a full turn of
+ * the level below (with 64 slots and 1s ticks: 1s, 64s, ~68min, ~73h). A
+ * deadline is placed in the lowest level that can hold it and cascades down as
+ * time approaches, so scheduling, cancelling and expiring are O(1) per key, and
+ * an advance only touches the slots that are due rather than every live key.
+ *
+ * Keys are unique: scheduling a key again replaces its previous deadline.
+ */
+public class HierarchicalTimerWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final List<List<Set<K>>> wheels = new ArrayList<>(LEVELS);
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private final Map<K, Set<K>> slotOf = new HashMap<>();
+
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<K>> slots = new ArrayList<>(SLOTS);
+            for (int i = 0; i < SLOTS; i++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.max(currentTick + 1, ceilDiv(deadlineMillis, tickMillis));
+        deadlineTicks.put(key, deadlineTick);
+        place(key, deadlineTick);
+    }
+
+    public synchronized void cancel(K key) {
+        Set<K> slot = slotOf.remove(key);
+        if (slot != null) {
+            slot.remove(key);
+        }
+        deadlineTicks.remove(key);
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    /**
+     * Advance to nowMillis and hand every key whose deadline has passed to onExpire
+     */
+    public void advance(long nowMillis, Consumer<K> onExpire) {
+        List<K> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade(1);
+                Set<K> due = wheels.get(0).get((int) (currentTick & (SLOTS - 1)));
+                for (K key : due) {
+                    slotOf.remove(key);
+                    deadlineTicks.remove(key);
+                    expired.add(key);
+                }
+                due.clear();
+            }
+        }
+        // Callbacks run outside the lock
+        expired.forEach(onExpire);
+    }
+
+    /**
+     * When a lower level wraps around, redistribute the due slot of the next level down
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+        long lowerMask = (1L << (SLOT_BITS * level)) - 1;
+        if ((currentTick & lowerMask) != 0) {
+            return;
+        }
+        cascade(level + 1);
+
+        Set<K> slot = wheels.get(level).get((int) ((currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+        List<K> keys = new ArrayList<>(slot);
+        slot.clear();
+        for (K key : keys) {
+            slotOf.remove(key);
+            place(key, deadlineTicks.get(key));
+        }
+    }
+
+    private void place(K key, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // Beyond the top level's range: park in its furthest slot and re-cascade later
+        long tick = Math.min(deadlineTick, currentTick + (1L << (SLOT_BITS * LEVELS)) - 1);
+        Set<K> slot = wheels.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+        slot.add(key);
+        slotOf.put(key, slot);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
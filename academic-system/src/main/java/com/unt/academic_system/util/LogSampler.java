@@ -0,0 +1,21 @@
+package com.unt.academic_system.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 1-in-N sampler for per-event traces on hot paths (one trace per N chat
+ * messages instead of one per message). N <= 0 disables sampling entirely.
+ */
+public class LogSampler {
+
+    private final int every;
+    private final AtomicLong counter = new AtomicLong();
+
+    public LogSampler(int every) {
+        this.every = every;
+    }
+
+    public boolean sample() {
+        return every > 0 && counter.getAndIncrement() % every == 0;
+    }
+}
@@ -0,0 +1,75 @@
+package com.unt.academic_system.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unt.academic_system.dto.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * Streams a keyset-paginated source as NDJSON (one JSON document per line).
+ *
+ * Rows are read in batches of EXPORT_BATCH_SIZE, each in its own short read-only
+ * transaction, and written to the response before the next batch is read, so an
+ * export of any size uses constant memory and never holds a connection for the
+ * whole transfer.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+    public static final int EXPORT_BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * @param pageFetcher cursor -> next page (cursor is null for the first page)
+     */
+    public ResponseEntity<StreamingResponseBody> export(Function<Long, CursorPage<?>> pageFetcher) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        StreamingResponseBody body = out -> {
+            Long cursor = null;
+            boolean hasMore = true;
+            while (hasMore) {
+                Long current = cursor;
+                // Serialize inside the transaction so lazy associations of entity rows can load
+                CursorPage<?> page = readOnly.execute(status -> {
+                    CursorPage<?> batch = pageFetcher.apply(current);
+                    writeLines(out, batch);
+                    return batch;
+                });
+                out.flush();
+
+                hasMore = page != null && page.isHasMore();
+                cursor = page != null ? page.getNextCursor() : null;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLines(OutputStream out, CursorPage<?> page) {
+        try {
+            for (Object item : page.getItems()) {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
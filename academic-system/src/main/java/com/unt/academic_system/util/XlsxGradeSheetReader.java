@@ -0,0 +1,294 @@
+package com.unt.academic_system.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * First worksheet of an XLSX workbook. The file is a zip of XML parts: the
+ * cells are in xl/worksheets/sheetN.xml, and most text cells point into the
+ * shared string table, xl/sharedStrings.xml.
+ *
+ * The upload is read once with ZipInputStream. The parts may come in any
+ * order, so the worksheet is spooled to a temporary file and read with StAX,
+ * row by row, once the shared strings are known; only the shared strings are
+ * held in memory. A cell is its stored value: number formats, dates and
+ * styles are not applied, and formulas give their cached result.
+ */
+public class XlsxGradeSheetReader implements GradeSheetReader {
+
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final Pattern WORKSHEET = Pattern.compile("xl/worksheets/sheet(\\d+)\\.xml");
+
+    // Uncompressed bytes read from the workbook, against zip bombs
+    private static final long MAX_UNCOMPRESSED_BYTES = 256L * 1024 * 1024;
+
+    private final XMLInputFactory factory = xmlInputFactory();
+    private final List<String> sharedStrings = new ArrayList<>();
+    private final Path worksheet;
+    private final InputStream worksheetIn;
+    private final XMLStreamReader xml;
+    private long uncompressed;
+    private long rows;
+
+    public XlsxGradeSheetReader(InputStream in) throws IOException {
+        Path spooled = null;
+        int spooledSheet = Integer.MAX_VALUE;
+        try {
+            ZipInputStream zip = new ZipInputStream(in);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Matcher sheet = WORKSHEET.matcher(entry.getName());
+                if (SHARED_STRINGS.equals(entry.getName())) {
+                    readSharedStrings(new Counted(zip));
+                } else if (sheet.matches() && Integer.parseInt(sheet.group(1)) < spooledSheet) {
+                    if (spooled == null) {
+                        spooled = Files.createTempFile("grade-sheet", ".xml");
+                    }
+                    try (OutputStream out = Files.newOutputStream(spooled)) {
+                        new Counted(zip).transferTo(out);
+                    }
+                    spooledSheet = Integer.parseInt(sheet.group(1));
+                }
+            }
+            if (spooled == null) {
+                throw new GradeSheetException("Not an .xlsx workbook, or it has no worksheet");
+            }
+            this.worksheet = spooled;
+            this.worksheetIn = Files.newInputStream(spooled);
+            this.xml = factory.createXMLStreamReader(worksheetIn);
+        } catch (ZipException e) {
+            deleteQuietly(spooled);
+            throw new GradeSheetException("Not a valid .xlsx workbook: " + e.getMessage(), e);
+        } catch (XMLStreamException e) {
+            deleteQuietly(spooled);
+            throw new GradeSheetException("Unreadable .xlsx workbook: " + e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(spooled);
+            throw e;
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    String number = xml.getAttributeValue(null, "r");
+                    rows = number != null ? Long.parseLong(number) : rows + 1;
+                    List<String> cells = readRow();
+                    if (cells.stream().anyMatch(cell -> !cell.isBlank())) {
+                        return new Row(rows, cells);
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new GradeSheetException("Unreadable worksheet after row " + rows + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean decimalComma() {
+        // Numbers are stored as 12.5; a comma can only come from a text cell
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            // Nothing left to release
+        } finally {
+            worksheetIn.close();
+            Files.deleteIfExists(worksheet);
+        }
+    }
+
+    /**
+     * Cells of the current row, placed by their reference (B3 is index 1):
+     * empty cells are usually left out of the file
+     */
+    private List<String> readRow() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String reference = xml.getAttributeValue(null, "r");
+                String type = xml.getAttributeValue(null, "t");
+                int column = reference != null ? columnIndex(reference) : cells.size();
+                String value = readCell(type);
+                while (cells.size() <= column) {
+                    cells.add("");
+                }
+                cells.set(column, value.trim());
+            }
+        }
+        return cells;
+    }
+
+    private String readCell(String type) throws XMLStreamException {
+        String value = null;
+        StringBuilder inline = new StringBuilder();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "v" -> value = xml.getElementText();
+                    case "t" -> inline.append(xml.getElementText());
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        if ("inlineStr".equals(type)) {
+            return inline.toString();
+        }
+        if (value == null) {
+            return "";
+        }
+        if ("s".equals(type)) {
+            int index = Integer.parseInt(value.trim());
+            if (index < 0 || index >= sharedStrings.size()) {
+                throw new GradeSheetException("Worksheet refers to missing shared string " + index);
+            }
+            return sharedStrings.get(index);
+        }
+        if ("b".equals(type)) {
+            return "1".equals(value) ? "TRUE" : "FALSE";
+        }
+        return value;
+    }
+
+    /**
+     * One entry per <si>: the text of its <t> elements (several for rich
+     * text), without phonetic hints (<rPh>)
+     */
+    private void readSharedStrings(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+        try {
+            StringBuilder current = null;
+            boolean phonetic = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "si" -> current = new StringBuilder();
+                        case "rPh" -> phonetic = true;
+                        case "t" -> {
+                            String text = reader.getElementText();
+                            if (current != null && !phonetic) {
+                                current.append(text);
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "si" -> {
+                            sharedStrings.add(current != null ? current.toString() : "");
+                            current = null;
+                        }
+                        case "rPh" -> phonetic = false;
+                        default -> {
+                        }
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * "C7" -> 2, "AA1" -> 26
+     */
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static XMLInputFactory xmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Left in the temporary directory
+        }
+    }
+
+    /**
+     * Counts what is read from the current zip entry against
+     * MAX_UNCOMPRESSED_BYTES, and leaves the zip open when closed
+     */
+    private class Counted extends FilterInputStream {
+
+        Counted(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(int bytes) {
+            uncompressed += bytes;
+            if (uncompressed > MAX_UNCOMPRESSED_BYTES) {
+                throw new GradeSheetException("The workbook is too large once uncompressed");
+            }
+        }
+    }
+}
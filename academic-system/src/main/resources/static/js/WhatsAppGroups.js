@@ -530,11 +530,23 @@ async function markAllGroupMessagesAsRead(groupId) {
         if (!token) return;
 
         const messages = STATE.groupMessages.get(groupId.toString()) || [];
+        const me = STATE.currentUser.email;
+        const unread = messages.filter(m => m.senderId !== me && (!m.readBy || !m.readBy.includes(me)));
+        if (unread.length === 0) return;
 
-        for (const message of messages) {
-            if (!message.readBy || !message.readBy.includes(STATE.currentUser.email)) {
-                await markGroupMessageAsRead(groupId, message.id);
+        // One request (and one UPDATE) for the whole group
+        const response = await fetch(`${CONFIG.API_BASE_URL}/groups/${groupId}/messages/read`, {
+            method: 'POST',
+            headers: {
+                'Authorization': `Bearer ${token}`,
+                'Content-Type': 'application/json'
             }
+        });
+
+        if (response.ok) {
+            unread.forEach(m => {
+                m.readBy = m.readBy ? `${m.readBy},${me}` : me;
+            });
         }
 
     } catch (error) {
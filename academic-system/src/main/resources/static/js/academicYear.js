@@ -779,7 +779,7 @@
 
   // Export Functions
   function exportToPDF() {
-    if (typeof jsPDF === 'undefined') {
+    if (!window.jspdf) {
       showNotification('PDF library not loaded', 'error');
       return;
     }
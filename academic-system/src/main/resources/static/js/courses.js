@@ -881,7 +881,7 @@ async function handleCourseFormSubmit(e) {
   // EXPORT FUNCTIONS
   // ========================================
   function exportCoursesPDF() {
-    if (typeof jsPDF === 'undefined') {
+    if (!window.jspdf) {
       showNotification('PDF library not loaded', 'error');
       return;
     }
@@ -4052,12 +4052,17 @@ async function initialize() {
         console.log('🔔 Loading notifications...');
         await loadNotifications();
 
-        // Refresh notifications every 30 seconds
-        setInterval(() => {
+        // Refresh notifications when the server pushes a change
+        // (polls every 30 seconds only if the push stream is unavailable)
+        UnreadPush.connect((update) => {
+            if (update.changed === 'NOTIFICATIONS' && currentLecturer) {
+                loadNotifications();
+            }
+        }, () => {
             if (currentLecturer) {
                 loadNotifications();
             }
-        }, 30000);
+        });
 
         console.log('✅ Initialization complete!');
 
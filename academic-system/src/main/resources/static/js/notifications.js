@@ -17,10 +17,13 @@ function initializeNotifications() {
   loadAllUsers();
   loadNotifications();
 
-  setInterval(() => {
-    console.log('🔄 Polling for new notifications...');
-    loadNotifications();
-  }, 30000);
+  // Reload when the server pushes a change to this admin's unread notifications
+  // (polls every 30 s only if the push stream is unavailable)
+  UnreadPush.connect((update) => {
+    if (update.changed === 'NOTIFICATIONS') {
+      loadNotifications();
+    }
+  }, loadNotifications);
 }
 
 function setupNotificationEventListeners() {
@@ -0,0 +1,66 @@
+// Unread counts pushed by the server over Server-Sent Events (GET /api/push/stream).
+// Replaces the 30 s polling of the dashboards. The stream sends the current counts when
+// it opens (and again after each automatic reconnect), then one event per change:
+//   { notifications, chatMessages, chatNotifications, changed, delta, item }
+// Pages with a STOMP client subscribe to /user/queue/unread instead (see whatsapp-main.js).
+
+(function () {
+  const PUSH_API_BASE_URL = window.API_BASE_URL || 'http://localhost:8080/api';
+  const FALLBACK_POLL_MS = 30000;
+
+  function getPushToken() {
+    return localStorage.getItem('unt_jwt_token') || sessionStorage.getItem('unt_jwt_token');
+  }
+
+  /**
+   * onUpdate(update) is called for every event.
+   * fallbackPoll() is called every 30 s only while push is unavailable
+   * (no EventSource support, no token, or the server refused the stream).
+   */
+  function connect(onUpdate, fallbackPoll) {
+    let pollTimer = null;
+
+    function startPolling() {
+      if (!pollTimer && typeof fallbackPoll === 'function') {
+        console.log('🔄 Unread push unavailable, polling every', FALLBACK_POLL_MS / 1000, 's');
+        pollTimer = setInterval(fallbackPoll, FALLBACK_POLL_MS);
+      }
+    }
+
+    function stopPolling() {
+      if (pollTimer) {
+        clearInterval(pollTimer);
+        pollTimer = null;
+      }
+    }
+
+    const token = getPushToken();
+    if (!window.EventSource || !token) {
+      startPolling();
+      return null;
+    }
+
+    const source = new EventSource(`${PUSH_API_BASE_URL}/push/stream?token=${encodeURIComponent(token)}`);
+
+    source.addEventListener('unread', (event) => {
+      stopPolling();
+      try {
+        onUpdate(JSON.parse(event.data));
+      } catch (error) {
+        console.error('❌ Error handling unread update:', error);
+      }
+    });
+
+    source.onerror = () => {
+      // The browser reconnects by itself unless the server refused the stream (e.g. 401)
+      if (source.readyState === EventSource.CLOSED) {
+        startPolling();
+      }
+    };
+
+    window.addEventListener('beforeunload', () => source.close());
+    return source;
+  }
+
+  window.UnreadPush = { connect };
+})();
@@ -1432,11 +1432,36 @@ function subscribeToChannels() {
         });
         console.log('✅ Subscribed to user status');
 
+        // Unread counts pushed by the server; /app/unread answers once with the
+        // current counts, so a reconnect resynchronises without polling
+        STATE.stompClient.subscribe(`/user/queue/unread`, (message) => {
+            handleUnreadUpdate(JSON.parse(message.body));
+        });
+        STATE.stompClient.subscribe(`/app/unread`, (message) => {
+            handleUnreadUpdate(JSON.parse(message.body));
+        });
+        console.log('✅ Subscribed to unread counts');
+
     } catch (error) {
         console.error('❌ Error subscribing to channels:', error);
     }
 }
 
+// ✅ Unread counts pushed on /user/queue/unread (and the /app/unread resync)
+function handleUnreadUpdate(update) {
+    if (update.changed === 'CHAT_NOTIFICATIONS' && update.delta > 0 && update.item) {
+        STATE.notifications.unshift({ ...update.item, read: false });
+        renderNotifications();
+        updateBadges();
+        return;
+    }
+    // Read elsewhere, or a resync that does not match the list shown: reload it
+    const shown = STATE.notifications.filter(n => !n.read).length;
+    if (update.changed === 'CHAT_NOTIFICATIONS' || (!update.changed && update.chatNotifications !== shown)) {
+        loadNotifications();
+    }
+}
+
 // ✅ Update connection status in UI
 function updateConnectionStatus(isConnected) {
     const statusIndicator = document.getElementById('connection-status');
@@ -1515,13 +1540,30 @@ function handleIncomingGroupMessage(message) {
 function handleMessageStatus(status) {
     console.log('📊 Message status update:', status);
 
+    // Bulk reads send one receipt with messageIds, single reads one with messageId
+    const ids = new Set(status.messageIds || [status.messageId]);
+
+    if (status.groupId) {
+        const groupMessages = STATE.groupMessages.get(status.groupId.toString()) || [];
+        groupMessages.filter(m => ids.has(m.id)).forEach(m => {
+            if (!m.readBy || !m.readBy.includes(status.readBy)) {
+                m.readBy = m.readBy ? `${m.readBy},${status.readBy}` : status.readBy;
+            }
+        });
+        return;
+    }
+
     if (STATE.selectedContact) {
         const messages = STATE.messages.get(STATE.selectedContact.email) || [];
-        const message = messages.find(m => m.id === status.messageId);
+        let changed = false;
 
-        if (message) {
+        messages.filter(m => ids.has(m.id)).forEach(message => {
             message.status = status.status;
             message.read = status.status === 'READ';
+            changed = true;
+        });
+
+        if (changed) {
             renderMessages();
         }
     }
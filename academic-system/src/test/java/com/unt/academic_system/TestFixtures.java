@@ -0,0 +1,184 @@
+package com.unt.academic_system;
+
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.repository.*;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entity builders for the integration tests (test profile, H2)
+ */
+public final class TestFixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final String PASSWORD = "$2a$10$testtesttesttesttesttesttesttesttesttesttesttesttestt";
+
+    private final StudentRepository studentRepository;
+    private final LecturerRepository lecturerRepository;
+    private final ParentRepository parentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final TimetableRepository timetableRepository;
+    private final CourseContentRepository courseContentRepository;
+    private final FacultyRepository facultyRepository;
+    private final DepartmentRepository departmentRepository;
+    private final NotificationRepository notificationRepository;
+
+    public TestFixtures(ApplicationContext context) {
+        this.studentRepository = context.getBean(StudentRepository.class);
+        this.lecturerRepository = context.getBean(LecturerRepository.class);
+        this.parentRepository = context.getBean(ParentRepository.class);
+        this.courseRepository = context.getBean(CourseRepository.class);
+        this.enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        this.academicYearRepository = context.getBean(AcademicYearRepository.class);
+        this.timetableRepository = context.getBean(TimetableRepository.class);
+        this.courseContentRepository = context.getBean(CourseContentRepository.class);
+        this.facultyRepository = context.getBean(FacultyRepository.class);
+        this.departmentRepository = context.getBean(DepartmentRepository.class);
+        this.notificationRepository = context.getBean(NotificationRepository.class);
+    }
+
+    public static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    public Student student(String faculty, Parent parent) {
+        long n = next();
+        Student student = new Student();
+        student.setEmail("student" + n + "@test.unt");
+        student.setPassword(PASSWORD);
+        student.setFirstName("Student");
+        student.setLastName("N" + n);
+        student.setRole(UserRole.STUDENT);
+        student.setStudentId("S" + n);
+        student.setDateOfBirth(LocalDate.of(2003, 1, 1));
+        student.setFaculty(faculty);
+        student.setProgram("Computer Science");
+        student.setCurrentYear(2);
+        student.setCurrentSemester(1);
+        student.setAcademicYear("2024-2025");
+        student.setEnrollmentDate(LocalDate.of(2023, 9, 1));
+        student.setParent(parent);
+        return studentRepository.save(student);
+    }
+
+    public Lecturer lecturer() {
+        long n = next();
+        Lecturer lecturer = new Lecturer();
+        lecturer.setEmail("lecturer" + n + "@test.unt");
+        lecturer.setPassword(PASSWORD);
+        lecturer.setFirstName("Lecturer");
+        lecturer.setLastName("N" + n);
+        lecturer.setRole(UserRole.LECTURER);
+        lecturer.setEmployeeId("E" + n);
+        lecturer.setDepartment("Computer Science");
+        return lecturerRepository.save(lecturer);
+    }
+
+    public Parent parent() {
+        long n = next();
+        Parent parent = new Parent();
+        parent.setEmail("parent" + n + "@test.unt");
+        parent.setPassword(PASSWORD);
+        parent.setFirstName("Parent");
+        parent.setLastName("N" + n);
+        parent.setRole(UserRole.PARENT);
+        parent.setRelationship("Guardian");
+        return parentRepository.save(parent);
+    }
+
+    public Course course(String faculty, Lecturer lecturer) {
+        long n = next();
+        Course course = new Course();
+        course.setCourseCode("C" + n);
+        course.setCourseName("Course " + n);
+        course.setCredits(3);
+        course.setFaculty(faculty);
+        course.setDepartment("Computer Science");
+        course.setYear("2");
+        course.setSemester(1);
+        course.setPrice(150000.0);
+        course.setIsActive(true);
+        course.setLecturer(lecturer);
+        return courseRepository.save(course);
+    }
+
+    public Enrollment enroll(Student student, Course course, EnrollmentStatus status) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setStudent(student);
+        enrollment.setCourse(course);
+        enrollment.setAcademicYear("2024-2025");
+        enrollment.setSemester(1);
+        enrollment.setStatus(status);
+        return enrollmentRepository.save(enrollment);
+    }
+
+    public AcademicYear academicYear() {
+        AcademicYear year = new AcademicYear();
+        year.setYearCode("2024-2025-" + next());
+        year.setSemester(1);
+        year.setStartDate(LocalDate.of(2024, 9, 1));
+        year.setEndDate(LocalDate.of(2025, 1, 31));
+        year.setRegistrationStartDate(LocalDate.of(2024, 8, 1));
+        year.setRegistrationEndDate(LocalDate.of(2024, 9, 15));
+        year.setExamStartDate(LocalDate.of(2025, 1, 10));
+        year.setExamEndDate(LocalDate.of(2025, 1, 25));
+        year.setIsActive(true);
+        year.setIsCurrent(true);
+        return academicYearRepository.save(year);
+    }
+
+    public Timetable timetable(Course course, AcademicYear year, DayOfWeek day, LocalTime start, String classroom) {
+        Timetable timetable = new Timetable();
+        timetable.setCourse(course);
+        timetable.setAcademicYear(year);
+        timetable.setDayOfWeek(day);
+        timetable.setStartTime(start);
+        timetable.setEndTime(start.plusMinutes(90));
+        timetable.setClassroom(classroom);
+        timetable.setBuilding("Main");
+        timetable.setClassType(ClassType.LECTURE);
+        return timetableRepository.save(timetable);
+    }
+
+    public CourseContent content(Course course, Lecturer lecturer) {
+        long n = next();
+        CourseContent content = new CourseContent();
+        content.setCourse(course);
+        content.setLecturer(lecturer);
+        content.setTitle("Content " + n);
+        content.setContentType(ContentType.values()[0]);
+        content.setFilePath("/content/" + n);
+        content.setFileName("content" + n + ".pdf");
+        content.setFileSize(1024L);
+        return courseContentRepository.save(content);
+    }
+
+    public Department department() {
+        long n = next();
+        Faculty faculty = new Faculty();
+        faculty.setName("Faculty " + n);
+        faculty.setCode("F" + n);
+        faculty = facultyRepository.save(faculty);
+        Department department = new Department();
+        department.setName("Department " + n);
+        department.setCode("D" + n);
+        department.setFaculty(faculty);
+        return departmentRepository.save(department);
+    }
+
+    public Notification notification(User recipient) {
+        Notification notification = new Notification();
+        notification.setRecipient(recipient);
+        notification.setTitle("Notice " + next());
+        notification.setMessage("Test notification");
+        notification.setType(NotificationType.values()[0]);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notificationRepository.save(notification);
+    }
+}
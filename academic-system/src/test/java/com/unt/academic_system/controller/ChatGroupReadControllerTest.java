@@ -0,0 +1,108 @@
+package com.unt.academic_system.controller;
+
+import com.unt.academic_system.model.ChatGroup;
+import com.unt.academic_system.model.ChatGroupMessage;
+import com.unt.academic_system.repository.ChatGroupMessageRepository;
+import com.unt.academic_system.repository.ChatGroupRepository;
+import com.unt.academic_system.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ChatGroupReadControllerTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ChatGroupRepository groupRepository;
+
+    @Autowired
+    private ChatGroupMessageRepository groupMessageRepository;
+
+    private String member;
+    private ChatGroup group;
+    private ChatGroupMessage message;
+
+    @BeforeEach
+    void setUp() {
+        member = UUID.randomUUID() + "@unt.test";
+        String sender = UUID.randomUUID() + "@unt.test";
+
+        ChatGroup newGroup = new ChatGroup();
+        newGroup.setName("Department news");
+        newGroup.setType(ChatGroup.GroupType.DEPARTMENT);
+        newGroup.setCreatedBy(sender);
+        newGroup.addMember(member);
+        newGroup.addMember(sender);
+        group = groupRepository.save(newGroup);
+
+        ChatGroupMessage newMessage = new ChatGroupMessage();
+        newMessage.setGroup(group);
+        newMessage.setSenderId(sender);
+        newMessage.setSenderName("Sender");
+        newMessage.setContent("Exam moved to Friday");
+        newMessage.setTimestamp(LocalDateTime.now());
+        message = groupMessageRepository.save(newMessage);
+    }
+
+    @Test
+    void memberMarksTheGroupAsRead() {
+        ResponseEntity<Map> response = markGroupAsRead(jwtService.generateToken(member));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(message.getId().intValue()), response.getBody().get("messageIds"));
+    }
+
+    @Test
+    void outsiderIsRefused() {
+        ResponseEntity<Map> response = markGroupAsRead(jwtService.generateToken(UUID.randomUUID() + "@unt.test"));
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        // Still unread for the member
+        assertEquals(List.of(message.getId().intValue()),
+                markGroupAsRead(jwtService.generateToken(member)).getBody().get("messageIds"));
+    }
+
+    @Test
+    void expiredTokenIsRefused() {
+        Object expiration = ReflectionTestUtils.getField(jwtService, "jwtExpiration");
+        String expired;
+        try {
+            ReflectionTestUtils.setField(jwtService, "jwtExpiration", -60_000L);
+            expired = jwtService.generateToken(member);
+        } finally {
+            ReflectionTestUtils.setField(jwtService, "jwtExpiration", expiration);
+        }
+
+        assertEquals(HttpStatus.UNAUTHORIZED, markGroupAsRead(expired).getStatusCode());
+    }
+
+    private ResponseEntity<Map> markGroupAsRead(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return rest.exchange("/api/groups/" + group.getId() + "/messages/read", HttpMethod.POST,
+                new HttpEntity<>(headers), Map.class);
+    }
+}
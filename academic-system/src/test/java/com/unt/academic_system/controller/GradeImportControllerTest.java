@@ -0,0 +1,88 @@
+package com.unt.academic_system.controller;
+
+import com.unt.academic_system.dto.GradeImportReport;
+import com.unt.academic_system.service.GradeImportService;
+import com.unt.academic_system.util.GradeSheetException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class GradeImportControllerTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @MockitoBean
+    private GradeImportService gradeImportService;
+
+    @Test
+    void reportIsReturned() {
+        GradeImportReport report = new GradeImportReport();
+        report.setAccepted(3);
+        when(gradeImportService.importGrades(any(InputStream.class), eq("grades.xlsx"), isNull(), eq(true)))
+                .thenReturn(report);
+
+        ResponseEntity<String> response = upload("grades.xlsx", "/api/enrollments/grades/import?dryRun=true");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"accepted\":3"), response.getBody());
+    }
+
+    @Test
+    void unreadableSheetIsABadRequest() {
+        when(gradeImportService.importGrades(any(InputStream.class), any(), any(), anyBoolean()))
+                .thenThrow(new GradeSheetException("Grade sheet is empty"));
+
+        ResponseEntity<String> response = upload("grades.csv", "/api/enrollments/grades/import");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().contains("Grade sheet is empty"), response.getBody());
+    }
+
+    @Test
+    void databaseFailureIsAServerError() {
+        when(gradeImportService.importGrades(any(InputStream.class), any(), any(), anyBoolean()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        ResponseEntity<String> response = upload("grades.csv", "/api/enrollments/grades/import");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    private ResponseEntity<String> upload(String filename, String url) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("file", new ByteArrayResource("enrollment_id,midterm,final\n1,50,60\n".getBytes()) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return rest.postForEntity(url, new HttpEntity<>(form, headers), String.class);
+    }
+}
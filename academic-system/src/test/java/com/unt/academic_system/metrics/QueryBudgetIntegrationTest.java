@@ -0,0 +1,170 @@
+package com.unt.academic_system.metrics;
+
+import com.unt.academic_system.TestFixtures;
+import com.unt.academic_system.model.*;
+import com.unt.academic_system.repository.EnrollmentRepository;
+import com.unt.academic_system.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every @QueryBudget endpoint, called once with a cold cache against ROWS
+ * rows of everything it lists, must stay within its budget. With
+ * app.query-budget.fail-on-violation=true (test profile) an overrun turns
+ * the response into a 500, as the deliberate N+1 below shows.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(QueryBudgetIntegrationTest.NPlusOneConfig.class)
+class QueryBudgetIntegrationTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private Student student;
+    private Parent parent;
+    private Course course;
+
+    @BeforeAll
+    void seed() {
+        TestFixtures fixtures = new TestFixtures(context);
+        AcademicYear year = fixtures.academicYear();
+        parent = fixtures.parent();
+        student = fixtures.student("Science", parent);
+        for (int i = 0; i < ROWS; i++) {
+            Lecturer lecturer = fixtures.lecturer();
+            Course c = fixtures.course("Science", lecturer);
+            if (course == null) {
+                course = c;
+            }
+            fixtures.timetable(c, year, DayOfWeek.values()[i % 5], LocalTime.of(8 + i % 8, 0), "R" + i);
+            fixtures.enroll(student, c, EnrollmentStatus.REGISTERED);
+            fixtures.content(c, lecturer);
+            fixtures.content(course, lecturer);
+            fixtures.department();
+            fixtures.notification(student);
+            fixtures.student("Science", parent);
+        }
+    }
+
+    /**
+     * Handler pattern -> URL called for it
+     */
+    Stream<Arguments> budgetedEndpoints() {
+        return Map.ofEntries(
+                Map.entry("/api/courses", "/api/courses"),
+                Map.entry("/api/departments", "/api/departments"),
+                Map.entry("/api/course-content", "/api/course-content"),
+                Map.entry("/api/course-content/course/{courseId}", "/api/course-content/course/" + course.getId()),
+                Map.entry("/api/timetable", "/api/timetable"),
+                Map.entry("/api/timetable/page", "/api/timetable/page?limit=" + ROWS),
+                Map.entry("/api/timetable/student/{studentId}", "/api/timetable/student/" + student.getId()),
+                Map.entry("/api/enrollments/page", "/api/enrollments/page?limit=" + ROWS),
+                Map.entry("/api/enrollments/student/{studentId}", "/api/enrollments/student/" + student.getId()),
+                Map.entry("/api/notifications/page", "/api/notifications/page?userId=" + student.getId()),
+                Map.entry("/api/parents/{id}", "/api/parents/" + parent.getId())
+        ).entrySet().stream().map(entry -> Arguments.of(entry.getKey(), entry.getValue()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgetedEndpoints")
+    void staysWithinBudget(String pattern, String url) {
+        ResponseEntity<String> response = rest.getForEntity(url, String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), pattern + ": " + response.getBody());
+    }
+
+    @Test
+    void everyBudgetedEndpointIsCovered() {
+        Set<String> budgeted = handlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(entry -> entry.getValue().hasMethodAnnotation(QueryBudget.class))
+                .filter(entry -> !entry.getValue().getBeanType().equals(NPlusOneController.class))
+                .flatMap(entry -> entry.getKey().getPatternValues().stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<String> covered = budgetedEndpoints()
+                .map(arguments -> (String) arguments.get()[0])
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        assertEquals(budgeted, covered);
+    }
+
+    @Test
+    void nPlusOneFailsTheCall() {
+        ResponseEntity<String> response = rest.getForEntity("/api/test/n-plus-one", String.class);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertTrue(response.getBody().contains("Query budget exceeded"), response.getBody());
+    }
+
+    @TestConfiguration
+    static class NPlusOneConfig {
+
+        @Bean
+        NPlusOneController nPlusOneController(StudentRepository studentRepository,
+                                              EnrollmentRepository enrollmentRepository) {
+            return new NPlusOneController(studentRepository, enrollmentRepository);
+        }
+    }
+
+    /**
+     * One enrollment query per student
+     */
+    @RestController
+    static class NPlusOneController {
+
+        private final StudentRepository studentRepository;
+        private final EnrollmentRepository enrollmentRepository;
+
+        NPlusOneController(StudentRepository studentRepository, EnrollmentRepository enrollmentRepository) {
+            this.studentRepository = studentRepository;
+            this.enrollmentRepository = enrollmentRepository;
+        }
+
+        @GetMapping("/api/test/n-plus-one")
+        @QueryBudget(3)
+        public List<Integer> enrollmentCounts() {
+            return studentRepository.findAll().stream()
+                    .map(s -> enrollmentRepository.findByStudentId(s.getId()).size())
+                    .toList();
+        }
+    }
+}
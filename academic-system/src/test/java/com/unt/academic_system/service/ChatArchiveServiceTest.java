@@ -0,0 +1,89 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.ChatMessage;
+import com.unt.academic_system.repository.ChatMessageRepository;
+import com.unt.academic_system.service.NotificationPushService.Counter;
+import com.unt.academic_system.service.NotificationPushService.UnreadChanged;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "app.chat.archive.batch-size=2")
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ChatArchiveServiceTest {
+
+    @Autowired
+    private ChatArchiveService chatArchiveService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void archivingUnreadMessagesLowersTheUnreadCounts() {
+        String alice = user();
+        String bob = user();
+        message(bob, alice, true);
+        message(bob, alice, false);
+        message(bob, alice, false);
+        message(alice, bob, false);
+        message(alice, bob, false);
+
+        chatArchiveService.archiveOldMessages();
+
+        assertEquals(0, chatMessageRepository.countUnreadMessagesByUserId(alice));
+        Map<String, Long> deltas = events.stream(UnreadChanged.class)
+                .filter(event -> event.counter() == Counter.CHAT_MESSAGES)
+                .collect(Collectors.groupingBy(UnreadChanged::email, Collectors.summingLong(UnreadChanged::delta)));
+        assertEquals(-2L, deltas.get(alice));
+        assertEquals(-2L, deltas.get(bob));
+    }
+
+    @Test
+    void startedArchiveRunsInTheBackground() throws Exception {
+        message(user(), user(), false);
+
+        assertTrue(chatArchiveService.startArchive());
+
+        ChatArchiveService.ArchiveStatus status = chatArchiveService.archiveStatus();
+        for (int i = 0; i < 200 && status.running(); i++) {
+            Thread.sleep(50);
+            status = chatArchiveService.archiveStatus();
+        }
+        assertFalse(status.running());
+        assertNotNull(status.finishedAt());
+        assertNull(status.lastError());
+        assertTrue(status.lastRun().privateMessages() >= 1);
+    }
+
+    private void message(String sender, String recipient, boolean read) {
+        ChatMessage message = new ChatMessage();
+        message.setSenderId(sender);
+        message.setRecipientId(recipient);
+        message.setContent("hello");
+        message.setTimestamp(LocalDateTime.now().minusDays(400));
+        message.setRead(read);
+        chatMessageRepository.save(message);
+    }
+
+    private static String user() {
+        return UUID.randomUUID() + "@unt.test";
+    }
+}
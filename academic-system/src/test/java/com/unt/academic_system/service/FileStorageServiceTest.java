@@ -0,0 +1,138 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.StoredFile;
+import com.unt.academic_system.repository.StoredFileRepository;
+import com.unt.academic_system.storage.BlobStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FileStorageServiceTest {
+
+    @Autowired
+    private FileStorageServiceImpl fileStorageService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @DynamicPropertySource
+    static void storageRoot(DynamicPropertyRegistry registry) throws Exception {
+        String root = Files.createTempDirectory("blob-store").toString();
+        registry.add("app.storage.local.root", () -> root);
+    }
+
+    @Test
+    void concurrentFirstUploadsShareOneRow() throws Exception {
+        MockMultipartFile file = file();
+        List<String> urls = runConcurrently(8, () -> fileStorageService.store(file));
+
+        String hash = FileStorageService.hashOf(urls.get(0));
+        assertTrue(urls.stream().allMatch(urls.get(0)::equals));
+        assertEquals(8, storedFileRepository.findByContentHash(hash).orElseThrow().getRefCount());
+        assertTrue(blobStore.exists(hash));
+    }
+
+    @Test
+    void lastReleaseDeletesRowAndBlob() throws Exception {
+        String url = fileStorageService.store(file());
+        String hash = FileStorageService.hashOf(url);
+
+        fileStorageService.release(url);
+
+        assertTrue(storedFileRepository.findByContentHash(hash).isEmpty());
+        assertFalse(blobStore.exists(hash));
+        assertTrue(fileStorageService.findByHash(hash).isEmpty());
+    }
+
+    @Test
+    void reuploadAfterReleaseStoresTheBlobAgain() throws Exception {
+        MockMultipartFile file = file();
+        String url = fileStorageService.store(file);
+        fileStorageService.release(url);
+
+        fileStorageService.store(file);
+
+        String hash = FileStorageService.hashOf(url);
+        assertEquals(1, storedFileRepository.findByContentHash(hash).orElseThrow().getRefCount());
+        assertTrue(blobStore.exists(hash));
+    }
+
+    @Test
+    void releasesRacingUploadsNeverLoseAReferencedBlob() throws Exception {
+        MockMultipartFile file = file();
+
+        // Every release may be the last one and race the next upload of another thread
+        List<String> urls = runConcurrently(6, () -> {
+            String url = null;
+            for (int i = 0; i < 30; i++) {
+                url = fileStorageService.store(file);
+                assertTrue(blobStore.exists(FileStorageService.hashOf(url)), "blob lost after upload " + i);
+                fileStorageService.release(url);
+            }
+            return url;
+        });
+
+        String hash = FileStorageService.hashOf(urls.get(0));
+        assertTrue(storedFileRepository.findByContentHash(hash).isEmpty());
+        assertFalse(blobStore.exists(hash));
+    }
+
+    @Test
+    void sweepPurgesLeftoverTombstones() throws Exception {
+        String hash = FileStorageService.hashOf(fileStorageService.store(file()));
+        StoredFile stored = storedFileRepository.findByContentHash(hash).orElseThrow();
+        // As left by a node that stopped between the release and its purge
+        stored.setRefCount(0);
+        storedFileRepository.save(stored);
+
+        fileStorageService.purgeUnreferenced();
+
+        assertTrue(storedFileRepository.findByContentHash(hash).isEmpty());
+        assertFalse(blobStore.exists(hash));
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "notes.txt", "text/plain",
+                UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.TestFixtures;
+import com.unt.academic_system.dto.GradeImportReport;
+import com.unt.academic_system.model.Course;
+import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.model.EnrollmentStatus;
+import com.unt.academic_system.model.Student;
+import com.unt.academic_system.repository.EnrollmentRepository;
+import com.unt.academic_system.util.GradeSheetException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GradeImportServiceTest {
+
+    @Autowired
+    private GradeImportService gradeImportService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void semicolonSheetWithDecimalCommas() {
+        Enrollment enrollment = enrollment();
+        String csv = "Enrollment ID;Midterm;Final\n" + enrollment.getId() + ";72,5;\"88,0\"\n999999;50;50\n";
+
+        GradeImportReport report = gradeImportService.importGrades(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "grades.csv", null, false);
+
+        assertEquals(1, report.getAccepted());
+        assertEquals(1, report.getRejected());
+        assertEquals("Enrollment 999999 not found", report.getRows().get(1).error());
+        Enrollment graded = enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+        assertEquals(72.5, graded.getMidtermGrade());
+        assertEquals(0.4 * 72.5 + 0.6 * 88, graded.getTotalGrade(), 1e-9);
+        assertEquals(EnrollmentStatus.COMPLETED, graded.getStatus());
+    }
+
+    @Test
+    void workbook() throws IOException {
+        Enrollment enrollment = enrollment();
+        String sheet = "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>"
+                + "<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>enrollment_id</t></is></c>"
+                + "<c r=\"B1\" t=\"inlineStr\"><is><t>midterm</t></is></c>"
+                + "<c r=\"C1\" t=\"inlineStr\"><is><t>final</t></is></c></row>"
+                + "<row r=\"2\"><c r=\"A2\"><v>" + enrollment.getId() + "</v></c><c r=\"B2\"><v>30</v></c>"
+                + "<c r=\"C2\"><v>40</v></c></row>"
+                + "</sheetData></worksheet>";
+
+        GradeImportReport report = gradeImportService.importGrades(
+                new ByteArrayInputStream(xlsx(sheet)), "grades.xlsx", null, true);
+
+        assertEquals(1, report.getAccepted());
+        assertEquals(2, report.getRows().get(0).line());
+        assertEquals(GradeImportReport.Outcome.VALID, report.getRows().get(0).outcome());
+        assertEquals("F", report.getRows().get(0).letterGrade());
+    }
+
+    @Test
+    void missingColumnsAreASheetError() {
+        assertThrows(GradeSheetException.class, () -> gradeImportService.importGrades(
+                new ByteArrayInputStream("enrollment_id,grade\n1,50\n".getBytes(StandardCharsets.UTF_8)),
+                "grades.csv", null, true));
+        assertThrows(GradeSheetException.class, () -> gradeImportService.importGrades(
+                new ByteArrayInputStream(new byte[0]), "grades.csv", null, true));
+    }
+
+    private Enrollment enrollment() {
+        TestFixtures fixtures = new TestFixtures(context);
+        Student student = fixtures.student("Science", fixtures.parent());
+        Course course = fixtures.course("Science", fixtures.lecturer());
+        return fixtures.enroll(student, course, EnrollmentStatus.REGISTERED);
+    }
+
+    private static byte[] xlsx(String sheet) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            zip.write(sheet.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
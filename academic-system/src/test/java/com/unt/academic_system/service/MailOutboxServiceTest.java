@@ -0,0 +1,85 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.model.MailOutbox;
+import com.unt.academic_system.model.MailStatus;
+import com.unt.academic_system.repository.MailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "app.mail.max-attempts=1")
+@ActiveProfiles("test")
+class MailOutboxServiceTest {
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sentMailKeepsNoBody() {
+        MailOutbox mail = claimed("Your code is 123456");
+
+        mailOutboxService.markSent(List.of(mail.getId()));
+
+        MailOutbox sent = mailOutboxRepository.findById(mail.getId()).orElseThrow();
+        assertEquals(MailStatus.SENT, sent.getStatus());
+        assertEquals("", sent.getBody());
+    }
+
+    @Test
+    void failedMailKeepsNoBody() {
+        MailOutbox mail = claimed("Your code is 654321");
+
+        mailOutboxService.markFailed(mail.getId(), "Connection refused");
+
+        MailOutbox failed = mailOutboxRepository.findById(mail.getId()).orElseThrow();
+        assertEquals(MailStatus.FAILED, failed.getStatus());
+        assertEquals("", failed.getBody());
+    }
+
+    @Test
+    void purgeDeletesOnlyOldFinishedMails() {
+        MailOutbox oldSent = claimed("old");
+        MailOutbox oldFailed = claimed("old");
+        MailOutbox recentSent = claimed("recent");
+        MailOutbox oldPending = claimed("pending");
+        mailOutboxService.markSent(List.of(oldSent.getId(), recentSent.getId()));
+        mailOutboxService.markFailed(oldFailed.getId(), "Connection refused");
+        for (MailOutbox mail : List.of(oldSent, oldFailed, oldPending)) {
+            jdbcTemplate.update("UPDATE mail_outbox SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(30)), mail.getId());
+        }
+
+        mailOutboxService.purgeFinished();
+
+        assertTrue(mailOutboxRepository.findById(oldSent.getId()).isEmpty());
+        assertTrue(mailOutboxRepository.findById(oldFailed.getId()).isEmpty());
+        assertTrue(mailOutboxRepository.findById(recentSent.getId()).isPresent());
+        assertTrue(mailOutboxRepository.findById(oldPending.getId()).isPresent());
+    }
+
+    // As left by claimBatch: not picked up by the dispatcher running in the background
+    private MailOutbox claimed(String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient("student@unt.test");
+        mail.setSubject("Login code");
+        mail.setBody(body);
+        mail.setStatus(MailStatus.SENDING);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        return mailOutboxRepository.save(mail);
+    }
+}
@@ -0,0 +1,128 @@
+package com.unt.academic_system.service;
+
+import com.unt.academic_system.TestFixtures;
+import com.unt.academic_system.metrics.QueryCounter;
+import com.unt.academic_system.model.Department;
+import com.unt.academic_system.model.Enrollment;
+import com.unt.academic_system.model.EnrollmentStatus;
+import com.unt.academic_system.model.Faculty;
+import com.unt.academic_system.model.Lecturer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResourceVersionServiceTest {
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void versionIsReadOnceUntilAnEntityChanges() {
+        resourceVersionService.invalidateAll();
+        String first = counted(1, () -> resourceVersionService.version(Faculty.class, Department.class));
+        String again = counted(0, () -> resourceVersionService.version(Faculty.class, Department.class));
+        assertEquals(first, again);
+
+        // Committed through Hibernate: dropped by the post-commit listener
+        new TestFixtures(context).department();
+
+        String changed = counted(1, () -> resourceVersionService.version(Faculty.class, Department.class));
+        assertNotEquals(first, changed);
+    }
+
+    @Test
+    void subclassWriteChangesTheVersion() {
+        String before = resourceVersionService.version(Lecturer.class);
+
+        new TestFixtures(context).lecturer();
+
+        assertNotEquals(before, counted(1, () -> resourceVersionService.version(Lecturer.class)));
+    }
+
+    @Test
+    void jdbcWritesAreSeenOnceRecorded() {
+        TestFixtures fixtures = new TestFixtures(context);
+        Enrollment enrollment = fixtures.enroll(fixtures.student("Science", fixtures.parent()),
+                fixtures.course("Science", fixtures.lecturer()), EnrollmentStatus.REGISTERED);
+        String before = resourceVersionService.version(Enrollment.class);
+
+        jdbcTemplate.update("UPDATE enrollments SET updated_at = ? WHERE id = ?",
+                new Timestamp(System.currentTimeMillis() + 60_000), enrollment.getId());
+        assertEquals(before, counted(0, () -> resourceVersionService.version(Enrollment.class)));
+
+        cacheInvalidationService.recordChanges(Enrollment.class);
+        assertNotEquals(before, counted(1, () -> resourceVersionService.version(Enrollment.class)));
+    }
+
+    @Test
+    void remoteChangesAreSeenOnThePoll() {
+        Faculty faculty = new TestFixtures(context).department().getFaculty();
+        String cached = resourceVersionService.version(Faculty.class);
+        // Written by "another node": locally the version is still the old one
+        jdbcTemplate.update("UPDATE faculties SET updated_at = ? WHERE id = ?",
+                new Timestamp(System.currentTimeMillis() + 120_000), faculty.getId());
+        assertEquals(cached, resourceVersionService.version(Faculty.class));
+
+        jdbcTemplate.update("INSERT INTO cache_invalidation (entity_name, entity_id, origin, created_at) " +
+                "VALUES (?, ?, 'other-node', ?)", Faculty.class.getName(), faculty.getId(),
+                new Timestamp(System.currentTimeMillis()));
+        cacheInvalidationService.applyRemoteChanges();
+
+        assertNotEquals(cached, counted(1, () -> resourceVersionService.version(Faculty.class)));
+    }
+
+    @Test
+    void conditionalGetIsAnswered304() {
+        ResponseEntity<String> first = rest.getForEntity("/api/faculties", String.class);
+        String etag = first.getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> second = rest.exchange("/api/faculties", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+    }
+
+    private static String counted(long expectedStatements, Supplier<String> call) {
+        QueryCounter.Scope scope = QueryCounter.begin();
+        String version;
+        try {
+            version = call.get();
+        } finally {
+            QueryCounter.end(scope);
+        }
+        assertEquals(expectedStatements, scope.getStatements());
+        return version;
+    }
+}
@@ -0,0 +1,76 @@
+package com.unt.academic_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvGradeSheetReaderTest {
+
+    @Test
+    void splitTrimsCells() {
+        assertEquals(List.of("1", "12.5", "80"), CsvGradeSheetReader.split(" 1 , 12.5,80 ", ','));
+    }
+
+    @Test
+    void splitKeepsEmptyCells() {
+        assertEquals(List.of("1", "", ""), CsvGradeSheetReader.split("1,,", ','));
+    }
+
+    @Test
+    void splitHonoursQuotes() {
+        assertEquals(List.of("1", "12,5", "say \"hi\""),
+                CsvGradeSheetReader.split("1;\"12,5\";\"say \"\"hi\"\"\"", ';'));
+    }
+
+    @Test
+    void delimiterIsTheOneTheHeaderUsesMost() {
+        assertEquals(',', CsvGradeSheetReader.delimiterOf("enrollment_id,midterm,final"));
+        assertEquals(';', CsvGradeSheetReader.delimiterOf("enrollment_id;midterm;final;note, optional"));
+        assertEquals('\t', CsvGradeSheetReader.delimiterOf("enrollment_id\tmidterm\tfinal"));
+        assertEquals(',', CsvGradeSheetReader.delimiterOf("enrollment_id"));
+    }
+
+    @Test
+    void readsRowsWithTheirLineNumbersSkippingBlankLines() throws IOException {
+        try (CsvGradeSheetReader reader = reader("\nEnrollment ID;Midterm;Final\n\n7;12,5;80\n  \n8;40;60\n")) {
+            GradeSheetReader.Row header = reader.next();
+            assertEquals(2, header.line());
+            assertEquals(List.of("Enrollment ID", "Midterm", "Final"), header.cells());
+
+            GradeSheetReader.Row first = reader.next();
+            assertEquals(4, first.line());
+            assertEquals(List.of("7", "12,5", "80"), first.cells());
+            assertEquals(6, reader.next().line());
+            assertNull(reader.next());
+            assertTrue(reader.decimalComma());
+        }
+    }
+
+    @Test
+    void byteOrderMarkIsStrippedFromTheHeader() throws IOException {
+        try (CsvGradeSheetReader reader = reader("\uFEFFenrollment_id,midterm,final\n1,2,3\n")) {
+            assertEquals("enrollment_id", reader.next().cells().get(0));
+            assertFalse(reader.decimalComma());
+        }
+    }
+
+    @Test
+    void missingTrailingCellsReadAsEmpty() throws IOException {
+        try (CsvGradeSheetReader reader = reader("enrollment_id,midterm,final\n1,2\n")) {
+            reader.next();
+            assertEquals("", reader.next().cell(2));
+        }
+    }
+
+    private static CsvGradeSheetReader reader(String text) {
+        return new CsvGradeSheetReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.unt.academic_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradeSheetColumnsTest {
+
+    @Test
+    void columnsAreMatchedIgnoringCaseSpacesAndUnderscores() {
+        assertEquals(new GradeSheetColumns(0, 1, 2),
+                GradeSheetColumns.of(List.of("enrollment_id", "midterm", "final")));
+        assertEquals(new GradeSheetColumns(1, 3, 2),
+                GradeSheetColumns.of(List.of("Student", "Enrollment ID", "Final Grade", "MIDTERM_GRADE")));
+        assertEquals(new GradeSheetColumns(0, 1, 2),
+                GradeSheetColumns.of(List.of("ID", "Mid-term", "final")));
+    }
+
+    @Test
+    void missingColumnIsASheetError() {
+        GradeSheetException e = assertThrows(GradeSheetException.class,
+                () -> GradeSheetColumns.of(List.of("enrollment_id", "midterm")));
+        assertEquals("Grade sheet header must have the columns enrollment_id, midterm and final", e.getMessage());
+    }
+
+    @Test
+    void decimalCommaIsAcceptedWhenTheSheetUsesIt() {
+        assertEquals(12.5, GradeSheetColumns.grade("12,5", "Midterm", true));
+        assertEquals(12.5, GradeSheetColumns.grade("12.5", "Midterm", true));
+        assertEquals(80, GradeSheetColumns.grade("80", "Final", false));
+    }
+
+    @Test
+    void decimalCommaIsRejectedInACommaSeparatedSheet() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GradeSheetColumns.grade("12,5", "Midterm", false));
+        assertEquals("Midterm grade '12,5' is not a number", e.getMessage());
+    }
+
+    @Test
+    void gradesMustBePresentAndBetween0And100() {
+        assertEquals("Final grade is missing", assertThrows(IllegalArgumentException.class,
+                () -> GradeSheetColumns.grade("", "Final", false)).getMessage());
+        assertEquals("Final grade must be between 0 and 100", assertThrows(IllegalArgumentException.class,
+                () -> GradeSheetColumns.grade("100.5", "Final", false)).getMessage());
+        assertEquals("Final grade must be between 0 and 100", assertThrows(IllegalArgumentException.class,
+                () -> GradeSheetColumns.grade("NaN", "Final", false)).getMessage());
+    }
+}
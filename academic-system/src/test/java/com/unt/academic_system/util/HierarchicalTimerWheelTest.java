@@ -0,0 +1,145 @@
+package com.unt.academic_system.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    // One turn of each level: 64, 4096, 262144 and 16777216 ticks
+    private static final long TOP_RANGE = 1L << 24;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 63, 64, 65, 4095, 4096, 4097, 262143, 262144, 262145, TOP_RANGE - 1})
+    void keyExpiresOnItsDeadlineTick(long delta) {
+        // Start off a level boundary so the deadline is not aligned either
+        long start = 10 * TICK;
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, start);
+        wheel.schedule("key", start + delta * TICK);
+
+        assertEquals(List.of(), advance(wheel, start + (delta - 1) * TICK));
+        assertEquals(List.of("key"), advance(wheel, start + delta * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {63, 64, 4095, 4096})
+    void keyExpiresOnItsDeadlineTickFromALevelBoundary(long delta) {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("key", delta * TICK);
+
+        assertEquals(List.of(), advance(wheel, (delta - 1) * TICK));
+        assertEquals(List.of("key"), advance(wheel, delta * TICK));
+    }
+
+    @Test
+    void deadlineIsRoundedUpToATick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("key", 2 * TICK + 1);
+
+        assertEquals(List.of(), advance(wheel, 2 * TICK));
+        assertEquals(List.of("key"), advance(wheel, 3 * TICK));
+    }
+
+    @Test
+    void pastDeadlineExpiresOnTheNextTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 100 * TICK);
+        wheel.schedule("key", 5 * TICK);
+
+        assertEquals(List.of(), advance(wheel, 100 * TICK + TICK - 1));
+        assertEquals(List.of("key"), advance(wheel, 101 * TICK));
+    }
+
+    @Test
+    void reschedulingReplacesTheDeadline() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("later", 10 * TICK);
+        wheel.schedule("later", 5000 * TICK);
+        wheel.schedule("sooner", 5000 * TICK);
+        wheel.schedule("sooner", 70 * TICK);
+
+        assertEquals(2, wheel.size());
+        assertEquals(List.of(), advance(wheel, 69 * TICK));
+        assertEquals(List.of("sooner"), advance(wheel, 70 * TICK));
+        assertEquals(List.of(), advance(wheel, 4999 * TICK));
+        assertEquals(List.of("later"), advance(wheel, 5000 * TICK));
+    }
+
+    @Test
+    void cancelledKeyNeverExpires() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("near", 3 * TICK);
+        wheel.schedule("far", 5000 * TICK);
+        wheel.schedule("kept", 5000 * TICK);
+
+        wheel.cancel("near");
+        wheel.cancel("far");
+        wheel.cancel("unknown");
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), advance(wheel, 5000 * TICK));
+    }
+
+    @Test
+    void keyCancelledAfterItCascadedNeverExpires() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("key", 4100 * TICK);
+        // Moved from level 1 down to level 0 at tick 4096
+        assertEquals(List.of(), advance(wheel, 4097 * TICK));
+
+        wheel.cancel("key");
+
+        assertEquals(List.of(), advance(wheel, 5000 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlineBeyondTheTopLevelIsClampedAndStillExact() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        long deadline = 2 * TOP_RANGE + 100;
+        wheel.schedule("key", deadline * TICK);
+
+        assertEquals(List.of(), advance(wheel, (deadline - 1) * TICK));
+        assertEquals(List.of("key"), advance(wheel, deadline * TICK));
+    }
+
+    @Test
+    void longAdvanceExpiresEveryDueKeyInDeadlineOrder() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        List<Long> deadlines = List.of(1L, 63L, 64L, 4095L, 4096L, 300_000L, 1_000_000L);
+        for (Long deadline : deadlines) {
+            wheel.schedule(deadline, deadline * TICK);
+        }
+        wheel.schedule(2_000_000L, 2_000_000L * TICK);
+
+        // A node that was paused for a while catches up in one call
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(1_000_000L * TICK, expired::add);
+
+        assertEquals(deadlines, expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advanceBackwardsDoesNothing() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 50 * TICK);
+        wheel.schedule("key", 51 * TICK);
+
+        assertTrue(advance(wheel, 10 * TICK).isEmpty());
+        assertEquals(List.of("key"), advance(wheel, 51 * TICK));
+    }
+
+    private static <K> List<K> advance(HierarchicalTimerWheel<K> wheel, long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        wheel.advance(nowMillis, expired::add);
+        return expired;
+    }
+}
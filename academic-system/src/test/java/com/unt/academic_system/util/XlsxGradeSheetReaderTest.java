@@ -0,0 +1,114 @@
+package com.unt.academic_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class XlsxGradeSheetReaderTest {
+
+    private static final String NS = "xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"";
+
+    @Test
+    void readsTheWorksheetWhateverTheOrderOfTheParts() throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        // Worksheet before the shared strings it refers to
+        parts.put("xl/worksheets/sheet1.xml", sheet(
+                "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c>"
+                        + "<c r=\"C1\" t=\"s\"><v>2</v></c></row>"
+                        + "<row r=\"2\"><c r=\"A2\"><v>7</v></c><c r=\"B2\"><v>12.5</v></c><c r=\"C2\"><v>80</v></c></row>"
+                        + "<row r=\"3\"><c r=\"A3\" t=\"s\"><v>3</v></c></row>"
+                        + "<row r=\"5\"><c r=\"A5\" t=\"inlineStr\"><is><t> 8 </t></is></c>"
+                        + "<c r=\"C5\" t=\"str\"><f>B5*2</f><v>60</v></c></row>"));
+        parts.put("xl/sharedStrings.xml", "<sst " + NS + ">"
+                + "<si><t>Enrollment ID</t></si>"
+                + "<si><r><t>Mid</t></r><r><t>term</t></r></si>"
+                + "<si><t>Final</t><rPh><t>ふぁいなる</t></rPh></si>"
+                + "<si><t xml:space=\"preserve\">  </t></si>"
+                + "</sst>");
+
+        try (GradeSheetReader reader = GradeSheetReader.open(workbook(parts), "grades.XLSX")) {
+            assertInstanceOf(XlsxGradeSheetReader.class, reader);
+
+            GradeSheetReader.Row header = reader.next();
+            assertEquals(1, header.line());
+            assertEquals(List.of("Enrollment ID", "Midterm", "Final"), header.cells());
+
+            assertEquals(List.of("7", "12.5", "80"), reader.next().cells());
+
+            // Row 3 only has a blank text cell and is skipped; B5 is left out of the file
+            GradeSheetReader.Row last = reader.next();
+            assertEquals(5, last.line());
+            assertEquals(List.of("8", "", "60"), last.cells());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void firstWorksheetIsRead() throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("xl/worksheets/sheet2.xml", sheet("<row r=\"1\"><c r=\"A1\"><v>2</v></c></row>"));
+        parts.put("xl/worksheets/sheet1.xml", sheet("<row r=\"1\"><c r=\"A1\"><v>1</v></c></row>"));
+
+        try (GradeSheetReader reader = new XlsxGradeSheetReader(workbook(parts))) {
+            assertEquals(List.of("1"), reader.next().cells());
+        }
+    }
+
+    @Test
+    void somethingElseIsASheetError() {
+        byte[] csv = "enrollment_id,midterm,final\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(GradeSheetException.class, () -> new XlsxGradeSheetReader(new ByteArrayInputStream(csv)));
+        assertThrows(GradeSheetException.class,
+                () -> GradeSheetReader.open(new ByteArrayInputStream(csv), "grades.xls"));
+    }
+
+    @Test
+    void malformedWorksheetIsASheetError() throws IOException {
+        Map<String, String> parts = Map.of("xl/worksheets/sheet1.xml", sheet("<row r=\"1\"><c r=\"A1\"><v>1</v></row>"));
+
+        try (GradeSheetReader reader = new XlsxGradeSheetReader(workbook(parts))) {
+            assertThrows(GradeSheetException.class, reader::next);
+        }
+    }
+
+    @Test
+    void columnIndexFromCellReference() {
+        assertEquals(0, XlsxGradeSheetReader.columnIndex("A1"));
+        assertEquals(2, XlsxGradeSheetReader.columnIndex("C7"));
+        assertEquals(25, XlsxGradeSheetReader.columnIndex("Z10"));
+        assertEquals(26, XlsxGradeSheetReader.columnIndex("AA1"));
+        assertEquals(27, XlsxGradeSheetReader.columnIndex("ab3"));
+    }
+
+    private static String sheet(String rows) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><worksheet " + NS + "><sheetData>"
+                + rows + "</sheetData></worksheet>";
+    }
+
+    private static ByteArrayInputStream workbook(Map<String, String> parts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                zip.putNextEntry(new ZipEntry(part.getKey()));
+                zip.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,176 @@
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.google.javascript.jscomp.CommandLineRunner;
+import com.google.javascript.jscomp.CompilationLevel;
+import com.google.javascript.jscomp.Compiler;
+import com.google.javascript.jscomp.CompilerOptions;
+import com.google.javascript.jscomp.JSError;
+import com.google.javascript.jscomp.Result;
+import com.google.javascript.jscomp.SourceFile;
+import com.google.javascript.jscomp.WarningLevel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step for the static dashboards, run by the "static-assets" execution
+ * of the pom on target/classes/static before packaging (run from the sources
+ * with java -cp target/asset-tools/* src/tools/java/AssetPipeline.java):
+ *
+ * - minifies every .js file (Closure Compiler, simple optimizations: only
+ *   local names are shortened, the globals the pages share and call from
+ *   inline handlers keep their names) and every .css file
+ * - writes .gz and .br variants of the minified JS and CSS, served by the
+ *   EncodedResourceResolver of WebMvcConfig
+ *
+ * The fingerprints are not added here: WebMvcConfig computes them from the
+ * content of the minified files and rewrites the links of the HTML pages,
+ * which are left uncompressed so the rewrite can run on them.
+ */
+public class AssetPipeline {
+
+    private static final int MIN_COMPRESS_BYTES = 1024;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: AssetPipeline <static directory>");
+        }
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            System.out.println("[assets] No static directory at " + root + ", nothing to do");
+            return;
+        }
+        Brotli4jLoader.ensureAvailability();
+
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(root)) {
+            assets = files.filter(Files::isRegularFile)
+                    .filter(file -> name(file).endsWith(".js") || name(file).endsWith(".css"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        long before = 0;
+        long minified = 0;
+        long gzipped = 0;
+        long brotli = 0;
+        for (Path asset : assets) {
+            String source = Files.readString(asset, StandardCharsets.UTF_8);
+            String output = name(asset).endsWith(".js") ? minifyJs(asset, source) : minifyCss(source);
+            byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+            Files.write(asset, bytes);
+
+            before += source.getBytes(StandardCharsets.UTF_8).length;
+            minified += bytes.length;
+            if (bytes.length >= MIN_COMPRESS_BYTES) {
+                gzipped += writeIfSmaller(asset, ".gz", gzip(bytes), bytes.length);
+                brotli += writeIfSmaller(asset, ".br", Encoder.compress(bytes, new Encoder.Parameters().setQuality(11)), bytes.length);
+            }
+        }
+        System.out.printf("[assets] %d files: %d KB -> %d KB minified, %d KB gzip, %d KB brotli%n",
+                assets.size(), before / 1024, minified / 1024, gzipped / 1024, brotli / 1024);
+    }
+
+    private static String minifyJs(Path file, String source) {
+        CompilerOptions options = new CompilerOptions();
+        CompilationLevel.SIMPLE_OPTIMIZATIONS.setOptionsForCompilationLevel(options);
+        WarningLevel.QUIET.setOptionsForWarningLevel(options);
+        // UNSTABLE: user_session_handler.js uses static class fields
+        options.setLanguageIn(CompilerOptions.LanguageMode.UNSTABLE);
+        options.setLanguageOut(CompilerOptions.LanguageMode.NO_TRANSPILE);
+        options.setEmitUseStrict(false);
+
+        Compiler compiler = new Compiler();
+        compiler.disableThreads();
+        Result result;
+        try {
+            result = compiler.compile(CommandLineRunner.getBuiltinExterns(CompilerOptions.Environment.BROWSER),
+                    List.of(SourceFile.fromCode(file.toString(), source)), options);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load the browser externs", e);
+        }
+        if (!result.success) {
+            String errors = result.errors.stream().map(JSError::toString).collect(Collectors.joining("\n"));
+            throw new IllegalStateException("Cannot minify " + file + ":\n" + errors);
+        }
+        return compiler.toSource();
+    }
+
+    /**
+     * Drops comments and collapses whitespace outside strings. Whitespace
+     * before ':' is kept because it is a descendant combinator in selectors.
+     */
+    static String minifyCss(String css) {
+        StringBuilder out = new StringBuilder(css.length());
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (c == '/' && i + 1 < css.length() && css.charAt(i + 1) == '*') {
+                int end = css.indexOf("*/", i + 2);
+                i = end < 0 ? css.length() : end + 2;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                char last = out.length() > 0 ? out.charAt(out.length() - 1) : '{';
+                if ("{};,:".indexOf(last) < 0 && "{};,".indexOf(c) < 0) {
+                    out.append(' ');
+                }
+            }
+            if (c == '"' || c == '\'') {
+                int end = i + 1;
+                while (end < css.length() && css.charAt(end) != c) {
+                    end += css.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end + 1, css.length());
+                out.append(css, i, end);
+                i = end;
+                continue;
+            }
+            if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+                out.setLength(out.length() - 1);
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {{
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }}) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static long writeIfSmaller(Path asset, String extension, byte[] compressed, int originalLength) throws IOException {
+        Path target = asset.resolveSibling(name(asset) + extension);
+        if (compressed.length >= originalLength) {
+            Files.deleteIfExists(target);
+            return 0;
+        }
+        Files.write(target, compressed);
+        return compressed.length;
+    }
+
+    private static String name(Path file) {
+        return file.getFileName().toString();
+    }
+}